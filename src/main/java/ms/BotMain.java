@@ -0,0 +1,144 @@
+package ms;
+
+import ms.bot.BotReport;
+import ms.bot.BotRunner;
+import ms.bot.LatencyHistogram;
+import ms.bot.StandardStrategy;
+import ms.bot.WinRateEstimator;
+import ms.logic.DefaultMineFieldFactory;
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+import ms.model.storage.StorageSelector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The BotMain class is the entry point of the headless bot runner. It plays games with a bot strategy
+ * directly against the game engine, without the command-line interface, and prints the throughput of the
+ * engine for each difficulty level. In estimate mode it instead runs a {@code WinRateEstimator} and prints
+ * the win rate of the strategy with its confidence interval after every batch of games.
+ */
+public class BotMain {
+
+    private static final String GAMES_OPTION = "--games";
+    private static final String THREADS_OPTION = "--threads";
+    private static final String STRATEGY_OPTION = "--strategy";
+    private static final String STORAGE_OPTION = "--storage";
+    private static final String DIFFICULTY_OPTION = "--difficulty";
+    private static final String SEED_OPTION = "--seed";
+    private static final String ESTIMATE_OPTION = "--estimate";
+    private static final String BOARD_OPTION = "--board";
+
+    /**
+     * The main method plays the games and prints one report per difficulty level.
+     * Supported options, each given as {@code --option <value>} or {@code --option=<value>}:
+     * {@code --games} per difficulty (1000), {@code --threads} (all processors),
+     * {@code --strategy} ({@code random}, {@code constraint} or {@code probability}),
+     * {@code --storage} to pin a storage backend, {@code --difficulty} to play a single level,
+     * and {@code --seed} of the run (1).
+     * With {@code --estimate <half-width>} the win rate is estimated until its 95% confidence interval is that
+     * narrow, {@code --games} then being the game limit, and {@code --board <height>x<width>x<mines>}
+     * estimates a custom board instead of the difficulty levels.
+     *
+     * @param args Command line arguments.
+     */
+    public static void main(String[] args) {
+        String games;
+        int threads;
+        StandardStrategy strategy;
+        StorageSelector selector;
+        List<Difficulty> difficulties = new ArrayList<>(List.of(Difficulty.values()));
+        long seed;
+        String estimate;
+        String board;
+        int gamesPerLevel;
+        try {
+            games = CommandLineOptions.parseOption(args, GAMES_OPTION, null);
+            threads = Integer.parseInt(CommandLineOptions.parseOption(args, THREADS_OPTION,
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+            strategy = StandardStrategy.forName(CommandLineOptions.parseOption(args, STRATEGY_OPTION, "probability"));
+            selector = new StorageSelector(CommandLineOptions.parseOption(args, STORAGE_OPTION, null));
+            String difficulty = CommandLineOptions.parseOption(args, DIFFICULTY_OPTION, null);
+            if (difficulty != null) {
+                difficulties = List.of(Difficulty.valueOf(difficulty.toUpperCase(Locale.ROOT)));
+            }
+            seed = Long.parseLong(CommandLineOptions.parseOption(args, SEED_OPTION, "1"));
+            estimate = CommandLineOptions.parseOption(args, ESTIMATE_OPTION, null);
+            board = CommandLineOptions.parseOption(args, BOARD_OPTION, null);
+            if (estimate != null) {
+                runEstimates(strategy, selector, threads, games, estimate, board, difficulties, seed);
+                return;
+            }
+            gamesPerLevel = games != null ? Integer.parseInt(games) : 1000;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        System.out.printf(Locale.ROOT, "%d games per level, %d threads, %s strategy%n",
+                gamesPerLevel, threads, strategy.getName());
+        try (BotRunner runner = new BotRunner(strategy, new DefaultMineFieldFactory(selector), threads)) {
+            for (Difficulty difficulty : difficulties) {
+                print(runner.run(difficulty, gamesPerLevel, seed));
+            }
+        }
+    }
+
+    /**
+     * Estimates the win rate of the strategy on the levels or on a custom board, streaming every batch.
+     *
+     * @throws IllegalArgumentException if an option value is invalid
+     */
+    private static void runEstimates(StandardStrategy strategy, StorageSelector selector, int threads,
+                                     String games, String halfWidth, String board, List<Difficulty> difficulties,
+                                     long seed) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            WinRateEstimator estimator = new WinRateEstimator(strategy, new DefaultMineFieldFactory(selector), pool);
+            estimator.setTargetHalfWidth(Double.parseDouble(halfWidth));
+            if (games != null) {
+                estimator.setMaxGames(Long.parseLong(games));
+            }
+
+            System.out.printf(Locale.ROOT, "estimating to +/-%s, %d threads, %s strategy%n",
+                    halfWidth, threads, strategy.getName());
+            if (board != null) {
+                String[] parts = board.split("x");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Board must be given as <height>x<width>x<mines>: " + board);
+                }
+                GridDimension dimensions = new GridDimension(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+                estimator.estimate(dimensions, Integer.parseInt(parts[2]), seed, estimate -> print(board, estimate));
+            } else {
+                for (Difficulty difficulty : difficulties) {
+                    estimator.estimate(difficulty, seed, estimate -> print(difficulty.toString(), estimate));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void print(String board, WinRateEstimator.Estimate estimate) {
+        System.out.printf(Locale.ROOT, "%s%s: %d games, win rate %.2f%% [%.2f%%, %.2f%%], %.1f games/s%n",
+                estimate.done() ? "" : "  ", board, estimate.games(), 100 * estimate.winRate(),
+                100 * estimate.lower(), 100 * estimate.upper(), estimate.gamesPerSecond());
+    }
+
+    private static void print(BotReport report) {
+        System.out.printf(Locale.ROOT, "%s: %.1f games/s, %.0f moves/s, win rate %.1f%%%n",
+                report.difficulty(), report.gamesPerSecond(), report.movesPerSecond(), 100 * report.winRate());
+        printLatency("revealCell", report.revealLatency());
+        printLatency("flagCell", report.flagLatency());
+    }
+
+    private static void printLatency(String operation, LatencyHistogram latency) {
+        System.out.printf(Locale.ROOT, "  %-10s %9d calls  mean %8.2f us  p50 %8.2f us  p99 %8.2f us"
+                        + "  p99.9 %8.2f us  max %9.2f us%n",
+                operation, latency.getCount(), latency.getMean() / 1e3, latency.getPercentile(0.5) / 1e3,
+                latency.getPercentile(0.99) / 1e3, latency.getPercentile(0.999) / 1e3, latency.getMax() / 1e3);
+    }
+}
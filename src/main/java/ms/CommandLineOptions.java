@@ -0,0 +1,35 @@
+package ms;
+
+/**
+ * The {@code CommandLineOptions} class reads the options shared by the entry points of the application.
+ * An option is given either as {@code --name value} or as {@code --name=value}, and the last occurrence wins.
+ */
+final class CommandLineOptions {
+
+    private CommandLineOptions() {
+    }
+
+    /**
+     * Reads the value of an option.
+     *
+     * @param args Command line arguments.
+     * @param option the name of the option, with its leading dashes
+     * @param defaultValue the value used when the option is absent
+     * @return the value of the option
+     * @throws IllegalArgumentException if the option has no value
+     */
+    static String parseOption(String[] args, String option, String defaultValue) {
+        String value = defaultValue;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith(option + "=")) {
+                value = args[i].substring(option.length() + 1);
+            } else if (args[i].equals(option)) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                value = args[++i];
+            }
+        }
+        return value;
+    }
+}
@@ -1,6 +1,8 @@
 package ms;
 
 import ms.commands.CommandParser;
+import ms.logic.DefaultMineFieldFactory;
+import ms.model.storage.StorageSelector;
 import ms.view.CLIHandler;
 
 /**
@@ -9,15 +11,27 @@ import ms.view.CLIHandler;
  */
 public class Main {
 
+    private static final String STORAGE_OPTION = "--storage";
+
     /**
      * The main method initializes the CommandParser and CLIHandler,
      * and starts the game loop.
+     * The storage engine of each board is selected automatically unless it is pinned
+     * with {@code --storage <name>} or {@code --storage=<name>}.
      *
-     * @param args Command line arguments (not used).
+     * @param args Command line arguments.
      */
     public static void main(String[] args) {
+        StorageSelector selector;
+        try {
+            selector = new StorageSelector(CommandLineOptions.parseOption(args, STORAGE_OPTION, null));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
         CommandParser parser = new CommandParser();
-        CLIHandler cliHandler = new CLIHandler(parser);
+        CLIHandler cliHandler = new CLIHandler(parser, new DefaultMineFieldFactory(selector));
         cliHandler.run();
     }
 }
\ No newline at end of file
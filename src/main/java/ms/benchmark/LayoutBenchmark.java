@@ -0,0 +1,111 @@
+package ms.benchmark;
+
+import ms.logic.operation.CascadeMode;
+import ms.logic.operation.CascadeStrategy;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.CellLayout;
+import ms.model.storage.PackedCellStorage;
+
+import java.util.Locale;
+
+/**
+ * The {@code LayoutBenchmark} class compares the {@code CellLayout}s of the packed storage on one board.
+ * For every layout it reports the number of distinct 64-byte cache lines touched by the 3x3 neighbourhood
+ * of a cell, which is the number of cache misses a cold neighbourhood scan pays, and it times the generation
+ * of the board, which updates the neighbourhood of every mine, and the {@code QUEUE} cascade from the first
+ * click. All layouts get the same mines, so the cascades reveal the same cells.
+ * <p>
+ * Usage: {@code LayoutBenchmark [height width mines [rounds [seed]]]}
+ */
+public class LayoutBenchmark {
+
+    private static final int CACHE_LINE_SHIFT = 6;
+
+    /**
+     * Runs the benchmark and prints one line per layout.
+     *
+     * @param args optional height, width, number of mines, number of timed rounds and seed
+     */
+    public static void main(String[] args) {
+        GridDimension dimensions = args.length >= 3
+                ? new GridDimension(Integer.parseInt(args[0]), Integer.parseInt(args[1]))
+                : new GridDimension(2048, 2048);
+        int mines = args.length >= 3 ? Integer.parseInt(args[2]) : dimensions.totalCells() / 16;
+        int rounds = args.length >= 4 ? Integer.parseInt(args[3]) : 5;
+        long seed = args.length >= 5 ? Long.parseLong(args[4]) : 1L;
+        Position firstClick = new Position(dimensions.height() / 2, dimensions.width() / 2);
+
+        System.out.printf(Locale.ROOT, "%dx%d board, %d mines, %d rounds%n",
+                dimensions.height(), dimensions.width(), mines, rounds);
+        System.out.printf(Locale.ROOT, "%-10s %12s %14s %14s %10s%n",
+                "layout", "lines/cell", "generate ms", "cascade ms", "revealed");
+
+        for (CellLayout layout : CellLayout.values()) {
+            double linesPerCell = averageLinesPerNeighbourhood(dimensions, layout);
+            long generateNanos = Long.MAX_VALUE;
+            long cascadeNanos = Long.MAX_VALUE;
+            int revealed = 0;
+
+            for (int round = 0; round <= rounds; round++) {
+                MineField mineField = new MineField(dimensions, mines, d -> new PackedCellStorage(d, layout));
+                mineField.setRandomSource(new RandomSource(RandomSource.DEFAULT_ALGORITHM, seed));
+                mineField.setSafeZone(SafeZone.OPENING);
+
+                long start = System.nanoTime();
+                mineField.initializeGrid(firstClick);
+                long generation = System.nanoTime() - start;
+
+                CascadeStrategy cascade = CascadeMode.QUEUE.create(mineField, dimensions);
+                start = System.nanoTime();
+                revealed = cascade.reveal(firstClick.row(), firstClick.col());
+                long elapsed = System.nanoTime() - start;
+
+                if (round > 0) {
+                    generateNanos = Math.min(generateNanos, generation);
+                    cascadeNanos = Math.min(cascadeNanos, elapsed);
+                }
+            }
+
+            System.out.printf(Locale.ROOT, "%-10s %12.2f %14.2f %14.2f %10d%n",
+                    layout, linesPerCell, generateNanos / 1e6, cascadeNanos / 1e6, revealed);
+        }
+    }
+
+    /**
+     * Computes the average number of distinct cache lines holding the nine cells of an interior neighbourhood.
+     *
+     * @param dimensions the dimensions of the board
+     * @param layout the layout to measure
+     * @return the average number of cache lines per neighbourhood
+     */
+    private static double averageLinesPerNeighbourhood(GridDimension dimensions, CellLayout layout) {
+        long lines = 0;
+        long cells = 0;
+        int[] seen = new int[9];
+
+        for (int row = 1; row < dimensions.height() - 1; row++) {
+            for (int col = 1; col < dimensions.width() - 1; col++) {
+                int distinct = 0;
+                for (int r = row - 1; r <= row + 1; r++) {
+                    for (int c = col - 1; c <= col + 1; c++) {
+                        int line = layout.slotOf(dimensions, r, c) >>> CACHE_LINE_SHIFT;
+                        boolean known = false;
+                        for (int i = 0; i < distinct && !known; i++) {
+                            known = seen[i] == line;
+                        }
+                        if (!known) {
+                            seen[distinct++] = line;
+                        }
+                    }
+                }
+                lines += distinct;
+                cells++;
+            }
+        }
+        return cells == 0 ? 0 : (double) lines / cells;
+    }
+}
@@ -0,0 +1,62 @@
+package ms.benchmark;
+
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.SafeZone;
+import ms.model.storage.ObjectCellStorage;
+import ms.solver.NoGuessMineFieldFactory;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * The {@code NoGuessBenchmark} class measures how long the {@code NoGuessMineFieldFactory} takes to find a
+ * board for each difficulty level, from a random first click. A warm-up round is run first and left out of the
+ * figures. The target for {@code HARD} is a 99th percentile well under 100 ms.
+ * <p>
+ * Usage: {@code NoGuessBenchmark [boards [threads [seed]]]}
+ */
+public class NoGuessBenchmark {
+
+    /**
+     * Runs the benchmark and prints one line per difficulty level.
+     *
+     * @param args optional number of boards per level, number of search threads and seed of the first clicks
+     */
+    public static void main(String[] args) {
+        int boards = args.length >= 1 ? Integer.parseInt(args[0]) : 500;
+        int threads = args.length >= 2 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length >= 3 ? Long.parseLong(args[2]) : 1L;
+
+        System.out.printf(Locale.ROOT, "%d boards per level, %d threads%n", boards, threads);
+        System.out.printf(Locale.ROOT, "%-8s %14s %12s %12s %12s%n",
+                "level", "attempts/board", "median ms", "p99 ms", "max ms");
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            GridDimension dimensions = GridDimension.fromDifficulty(difficulty);
+            Random clicks = new Random(seed);
+            run(dimensions, difficulty.getMines(), threads, Math.max(1, boards / 10), clicks);
+            NoGuessMineFieldFactory.Statistics statistics =
+                    run(dimensions, difficulty.getMines(), threads, boards, clicks);
+
+            System.out.printf(Locale.ROOT, "%-8s %14.1f %12.2f %12.2f %12.2f%n", difficulty,
+                    statistics.attemptsPerBoard(), statistics.medianNanos() / 1e6,
+                    statistics.p99Nanos() / 1e6, statistics.maxNanos() / 1e6);
+        }
+    }
+
+    private static NoGuessMineFieldFactory.Statistics run(GridDimension dimensions, int mines, int threads,
+                                                          int boards, Random clicks) {
+        try (NoGuessMineFieldFactory factory =
+                     new NoGuessMineFieldFactory(ObjectCellStorage::new, SafeZone.OPENING, threads)) {
+            for (int board = 0; board < boards; board++) {
+                MineField mineField = factory.createMineField(dimensions, mines);
+                mineField.initializeGrid(new Position(clicks.nextInt(dimensions.height()),
+                        clicks.nextInt(dimensions.width())));
+            }
+            return factory.getStatistics();
+        }
+    }
+}
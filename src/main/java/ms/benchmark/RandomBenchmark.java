@@ -0,0 +1,83 @@
+package ms.benchmark;
+
+import ms.model.GridDimension;
+import ms.model.MinePlacer;
+import ms.model.RandomSource;
+import ms.model.storage.PackedCellStorage;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code RandomBenchmark} class compares the generator algorithms a {@code RandomSource} can name on the
+ * mine placement of one board. For every algorithm it times {@code MinePlacer.place} on a packed storage,
+ * cleared between rounds, and reports the best round and the number of mines placed per second.
+ * Every algorithm gets the same seed, so the differences come from the generators alone.
+ * <p>
+ * Usage: {@code RandomBenchmark [height width mines [rounds [seed [algorithm...]]]]}
+ */
+public class RandomBenchmark {
+
+    private static final String[] ALGORITHMS = {
+            RandomSource.DEFAULT_ALGORITHM, "L32X64MixRandom", "Xoshiro256PlusPlus", "SplittableRandom", "Random"
+    };
+
+    /**
+     * Runs the benchmark and prints one line per algorithm.
+     *
+     * @param args optional height, width, number of mines, number of timed rounds, seed and algorithm names
+     */
+    public static void main(String[] args) {
+        GridDimension dimensions = args.length >= 3
+                ? new GridDimension(Integer.parseInt(args[0]), Integer.parseInt(args[1]))
+                : new GridDimension(2048, 2048);
+        int mines = args.length >= 3 ? Integer.parseInt(args[2]) : dimensions.totalCells() / 5;
+        int rounds = args.length >= 4 ? Integer.parseInt(args[3]) : 10;
+        long seed = args.length >= 5 ? Long.parseLong(args[4]) : 1L;
+        String[] algorithms = args.length >= 6 ? Arrays.copyOfRange(args, 5, args.length) : ALGORITHMS;
+
+        System.out.printf(Locale.ROOT, "%dx%d board, %d mines, %d rounds%n",
+                dimensions.height(), dimensions.width(), mines, rounds);
+        System.out.printf(Locale.ROOT, "%-20s %12s %16s%n", "algorithm", "place ms", "Mmines/s");
+
+        PackedCellStorage storage = new PackedCellStorage(dimensions);
+        // A first untimed pass compiles the placer with every generator, so the first algorithm is not penalised.
+        for (String algorithm : algorithms) {
+            bestPlacementNanos(storage, mines, new RandomSource(algorithm, seed), 1);
+        }
+
+        for (String algorithm : algorithms) {
+            long bestNanos = bestPlacementNanos(storage, mines, new RandomSource(algorithm, seed), rounds);
+            System.out.printf(Locale.ROOT, "%-20s %12.2f %16.2f%n",
+                    algorithm, bestNanos / 1e6, mines * 1e3 / bestNanos);
+        }
+    }
+
+    /**
+     * Times the placement of the mines with a generator of the given source, after one untimed round.
+     *
+     * @param storage the storage receiving the mines, cleared before every round
+     * @param mines the number of mines to place
+     * @param source the generator algorithm and seed
+     * @param rounds the number of timed rounds
+     * @return the shortest round in nanoseconds
+     */
+    private static long bestPlacementNanos(PackedCellStorage storage, int mines, RandomSource source, int rounds) {
+        int[] excluded = new int[0];
+        long bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round <= rounds; round++) {
+            storage.clear();
+            RandomGenerator random = source.create();
+
+            long start = System.nanoTime();
+            MinePlacer.place(storage, mines, excluded, random);
+            long elapsed = System.nanoTime() - start;
+
+            if (round > 0) {
+                bestNanos = Math.min(bestNanos, elapsed);
+            }
+        }
+        return bestNanos;
+    }
+}
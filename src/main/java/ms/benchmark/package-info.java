@@ -0,0 +1,4 @@
+/**
+ * This package contains command-line benchmarks for the storage engines and the cascade strategies.
+ */
+package ms.benchmark;
@@ -0,0 +1,81 @@
+package ms.bot;
+
+import ms.logic.Game;
+import ms.logic.MineFieldFactory;
+import ms.logic.status.GameStatus;
+import ms.model.GridDimension;
+
+import java.util.SplittableRandom;
+
+/**
+ * The {@code BotGame} class plays one seeded game with a bot strategy. The board seed is the first value drawn
+ * from the game's generator, and the strategy draws its guesses from the rest, so the game depends only on the
+ * seed of the generator. A game is abandoned, and counted as lost, after {@value #MOVES_PER_CELL} moves per cell,
+ * which protects runs from strategies that stop making progress.
+ */
+final class BotGame {
+
+    /**
+     * The number of moves per cell after which a game is abandoned.
+     */
+    static final int MOVES_PER_CELL = 4;
+
+    private final Game game;
+    private final Strategy strategy;
+    private final int moveLimit;
+    private long moves;
+
+    /**
+     * Constructs a game.
+     *
+     * @param dimensions the dimensions of the board
+     * @param mines the number of mines
+     * @param mineFieldFactory the factory of the minefields, asked for a seeded board
+     * @param strategies the factory of the strategy
+     * @param random the generator of the game
+     */
+    BotGame(GridDimension dimensions, int mines, MineFieldFactory mineFieldFactory, StrategyFactory strategies,
+            SplittableRandom random) {
+        long boardSeed = random.nextLong();
+        this.game = new Game(dimensions, mines,
+                (gridDimensions, mineCount) -> mineFieldFactory.createMineField(gridDimensions, mineCount, boardSeed));
+        this.strategy = strategies.create(random);
+        this.moveLimit = MOVES_PER_CELL * dimensions.totalCells();
+    }
+
+    /**
+     * Plays the game to the end.
+     *
+     * @param revealLatency receives the duration of every {@code revealCell} call, or {@code null}
+     * @param flagLatency receives the duration of every {@code flagCell} call, or {@code null}
+     * @return {@code true} if the game was won
+     */
+    boolean play(LatencyHistogram revealLatency, LatencyHistogram flagLatency) {
+        boolean timed = revealLatency != null && flagLatency != null;
+        while (!game.isGameOver() && moves < moveLimit) {
+            Move move = strategy.nextMove(game);
+            long start = timed ? System.nanoTime() : 0;
+            if (move.flag()) {
+                game.flagCell(move.index());
+                if (timed) {
+                    flagLatency.record(System.nanoTime() - start);
+                }
+            } else {
+                game.revealCell(move.index());
+                if (timed) {
+                    revealLatency.record(System.nanoTime() - start);
+                }
+            }
+            moves++;
+            strategy.moveApplied(game, move);
+        }
+        return game.getGameStatus() == GameStatus.WON;
+    }
+
+    /**
+     * @return the number of moves played
+     */
+    long getMoves() {
+        return moves;
+    }
+}
@@ -0,0 +1,43 @@
+package ms.bot;
+
+import ms.model.Difficulty;
+
+/**
+ * The {@code BotReport} record summarizes a run of bot games on one difficulty level.
+ *
+ * @param difficulty the difficulty level played
+ * @param games the number of games played
+ * @param wins the number of games won
+ * @param moves the number of moves played, reveals and flags together
+ * @param elapsedNanos the wall-clock time of the run in nanoseconds
+ * @param revealLatency the durations of the {@code revealCell} calls
+ * @param flagLatency the durations of the {@code flagCell} calls
+ */
+public record BotReport(Difficulty difficulty, int games, int wins, long moves, long elapsedNanos,
+                        LatencyHistogram revealLatency, LatencyHistogram flagLatency) {
+
+    /**
+     * @return the number of games finished per second
+     */
+    public double gamesPerSecond() {
+        return perSecond(games);
+    }
+
+    /**
+     * @return the number of moves played per second
+     */
+    public double movesPerSecond() {
+        return perSecond(moves);
+    }
+
+    /**
+     * @return the fraction of games won, or {@code 0} if no game was played
+     */
+    public double winRate() {
+        return games > 0 ? (double) wins / games : 0;
+    }
+
+    private double perSecond(double amount) {
+        return elapsedNanos > 0 ? amount * 1e9 / elapsedNanos : 0;
+    }
+}
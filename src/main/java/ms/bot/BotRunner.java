@@ -0,0 +1,130 @@
+package ms.bot;
+
+import ms.logic.MineFieldFactory;
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code BotRunner} class plays many games with a bot strategy directly against {@code Game}, without any
+ * user interface, and measures how fast the engine serves them. Games run on a fixed pool of threads; each
+ * thread takes the next game number, plays it to the end and records the duration of every
+ * {@code revealCell} and {@code flagCell} call in its own histograms, which are merged when the run is over.
+ * <p>
+ * Every game gets its board seed and its strategy seed from the seed of the run and the game number, so a run
+ * plays the same games whatever the number of threads.
+ */
+public class BotRunner implements AutoCloseable {
+
+    private final StrategyFactory strategies;
+    private final MineFieldFactory mineFieldFactory;
+    private final int threads;
+    private final ExecutorService players;
+
+    /**
+     * Constructs a runner.
+     *
+     * @param strategies the factory of the strategy of each game
+     * @param mineFieldFactory the factory of the minefields, asked for seeded boards
+     * @param threads the number of games played at once
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public BotRunner(StrategyFactory strategies, MineFieldFactory mineFieldFactory, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive, got: " + threads);
+        }
+        this.strategies = strategies;
+        this.mineFieldFactory = mineFieldFactory;
+        this.threads = threads;
+        this.players = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "bot-player");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Plays a number of games on a difficulty level.
+     *
+     * @param difficulty the difficulty level
+     * @param games the number of games
+     * @param seed the seed of the run
+     * @return the report of the run
+     * @throws IllegalStateException if a strategy fails or the run is interrupted
+     */
+    public BotReport run(Difficulty difficulty, int games, long seed) {
+        long[] gameSeeds = new SplittableRandom(seed).longs(games).toArray();
+        AtomicInteger nextGame = new AtomicInteger();
+        List<Callable<Tally>> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(() -> {
+                Tally tally = new Tally();
+                for (int game = nextGame.getAndIncrement(); game < games; game = nextGame.getAndIncrement()) {
+                    play(difficulty, new SplittableRandom(gameSeeds[game]), tally);
+                }
+                return tally;
+            });
+        }
+
+        long start = System.nanoTime();
+        Tally total = new Tally();
+        try {
+            for (Future<Tally> worker : players.invokeAll(workers)) {
+                total.merge(worker.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A bot game failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running bot games", e);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new BotReport(difficulty, games, total.wins, total.moves, elapsed,
+                total.revealLatency, total.flagLatency);
+    }
+
+    /**
+     * Stops the player threads.
+     */
+    @Override
+    public void close() {
+        players.shutdownNow();
+    }
+
+    private void play(Difficulty difficulty, SplittableRandom random, Tally tally) {
+        BotGame game = new BotGame(GridDimension.fromDifficulty(difficulty), difficulty.getMines(),
+                mineFieldFactory, strategies, random);
+        if (game.play(tally.revealLatency, tally.flagLatency)) {
+            tally.wins++;
+        }
+        tally.moves += game.getMoves();
+    }
+
+    /**
+     * The {@code Tally} class accumulates the results of the games played by one thread.
+     */
+    private static final class Tally {
+
+        private final LatencyHistogram revealLatency = new LatencyHistogram();
+        private final LatencyHistogram flagLatency = new LatencyHistogram();
+        private int wins;
+        private long moves;
+
+        private void merge(Tally other) {
+            revealLatency.merge(other.revealLatency);
+            flagLatency.merge(other.flagLatency);
+            wins += other.wins;
+            moves += other.moves;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package ms.bot;
+
+/**
+ * The {@code LatencyHistogram} class records durations in nanoseconds into logarithmic buckets: every power of
+ * two is split into {@value #SUB_BUCKETS} equal buckets, so a percentile is off by at most about 6%. Recording
+ * is allocation-free. A histogram is not thread-safe; each thread keeps its own and they are merged at the end.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration in nanoseconds, negative values count as {@code 0}
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the durations of another histogram to this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean duration in nanoseconds, or {@code 0} if nothing was recorded
+     */
+    public double getMean() {
+        return count > 0 ? (double) total / count : 0;
+    }
+
+    /**
+     * @return the longest duration in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the duration below which the given fraction of the recorded durations fall.
+     *
+     * @param fraction the fraction, between {@code 0} and {@code 1}
+     * @return the upper bound of the bucket holding the percentile, in nanoseconds, capped at the maximum
+     * @throws IllegalArgumentException if the fraction is out of range
+     */
+    public long getPercentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1, got: " + fraction);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(max, upperBoundOf(bucket));
+            }
+        }
+        return max;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
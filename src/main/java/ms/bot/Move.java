@@ -0,0 +1,30 @@
+package ms.bot;
+
+/**
+ * The {@code Move} record represents one action of a bot: revealing or flagging a cell.
+ *
+ * @param index the linear index of the cell
+ * @param flag {@code true} to toggle the flag of the cell, {@code false} to reveal it
+ */
+public record Move(int index, boolean flag) {
+
+    /**
+     * Creates a move revealing a cell.
+     *
+     * @param index the linear index of the cell
+     * @return the move
+     */
+    public static Move reveal(int index) {
+        return new Move(index, false);
+    }
+
+    /**
+     * Creates a move toggling the flag of a cell.
+     *
+     * @param index the linear index of the cell
+     * @return the move
+     */
+    public static Move flag(int index) {
+        return new Move(index, true);
+    }
+}
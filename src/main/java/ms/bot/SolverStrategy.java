@@ -0,0 +1,81 @@
+package ms.bot;
+
+import ms.logic.Game;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.solver.ConstraintSolver;
+import ms.solver.ProbabilitySolver;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code SolverStrategy} class plays from a {@code ConstraintSolver}: it opens in the middle of the board,
+ * reveals every cell deduced safe, flags every cell deduced mined, and guesses only when nothing is certain.
+ * Guesses go to a uniformly random unknown cell, or to the safest cell of a {@code ProbabilitySolver} if one
+ * is given.
+ */
+final class SolverStrategy implements Strategy {
+
+    private final RandomGenerator random;
+    private final ProbabilitySolver probabilities;
+    private ConstraintSolver solver;
+
+    /**
+     * Constructs a strategy.
+     *
+     * @param random the generator of the random guesses
+     * @param probabilities the solver choosing the guesses, or {@code null} to guess at random
+     */
+    SolverStrategy(RandomGenerator random, ProbabilitySolver probabilities) {
+        this.random = random;
+        this.probabilities = probabilities;
+    }
+
+    @Override
+    public Move nextMove(Game game) {
+        MineField mineField = game.getMinefield();
+        GridDimension dimensions = mineField.getDimensions();
+        if (game.getRevealed() == 0) {
+            return Move.reveal(dimensions.toIndex(dimensions.height() / 2, dimensions.width() / 2));
+        }
+        if (solver == null || solver.getMineField() != mineField) {
+            solver = new ConstraintSolver(mineField);
+        }
+
+        int cell = solver.nextSafeCell();
+        if (cell >= 0) {
+            return Move.reveal(cell);
+        }
+        cell = solver.nextMineToFlag();
+        if (cell >= 0) {
+            return Move.flag(cell);
+        }
+        if (probabilities != null) {
+            return Move.reveal(probabilities.solve(game, solver).safestCell());
+        }
+        return Move.reveal(randomUnknownCell(dimensions.totalCells()));
+    }
+
+    @Override
+    public void moveApplied(Game game, Move move) {
+        if (solver == null || solver.getMineField() != game.getMinefield()) {
+            return;
+        }
+        if (move.flag()) {
+            solver.onFlag(move.index());
+        } else {
+            solver.onReveal(move.index());
+        }
+    }
+
+    private int randomUnknownCell(int cells) {
+        int start = random.nextInt(cells);
+        for (int i = 0; i < cells; i++) {
+            int cell = (start + i) % cells;
+            if (solver.isUnknown(cell)) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("No unknown cell left to guess");
+    }
+}
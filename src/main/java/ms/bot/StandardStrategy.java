@@ -0,0 +1,87 @@
+package ms.bot;
+
+import ms.model.MineField;
+import ms.solver.ProbabilitySolver;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code StandardStrategy} enum lists the strategies shipped with the bot runner.
+ */
+public enum StandardStrategy implements StrategyFactory {
+
+    /**
+     * Reveals a random hidden cell on every move, without any reasoning. Measures the raw engine.
+     */
+    RANDOM("random") {
+        @Override
+        public Strategy create(RandomGenerator random) {
+            return game -> {
+                MineField mineField = game.getMinefield();
+                int cells = mineField.getDimensions().totalCells();
+                int start = random.nextInt(cells);
+                for (int i = 0; i < cells; i++) {
+                    int cell = (start + i) % cells;
+                    if (!mineField.isRevealed(cell) && !mineField.isFlagged(cell)) {
+                        return Move.reveal(cell);
+                    }
+                }
+                throw new IllegalStateException("No hidden cell left to reveal");
+            };
+        }
+    },
+
+    /**
+     * Plays every deduction of the constraint solver and guesses at random.
+     */
+    CONSTRAINT("constraint") {
+        @Override
+        public Strategy create(RandomGenerator random) {
+            return new SolverStrategy(random, null);
+        }
+    },
+
+    /**
+     * Plays every deduction of the constraint solver and guesses the cell least likely to be mined.
+     * The probabilities are computed with a node budget rather than a time budget, so games stay reproducible.
+     */
+    PROBABILITY("probability") {
+        @Override
+        public Strategy create(RandomGenerator random) {
+            ProbabilitySolver solver = new ProbabilitySolver();
+            solver.setNodeBudget(ProbabilitySolver.DEFAULT_NODE_BUDGET);
+            return new SolverStrategy(random, solver);
+        }
+    };
+
+    private final String name;
+
+    StandardStrategy(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name used to pick this strategy on the command line.
+     *
+     * @return the name of the strategy
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds a strategy by name.
+     *
+     * @param name the name of the strategy
+     * @return the strategy
+     * @throws IllegalArgumentException if no strategy has that name
+     */
+    public static StandardStrategy forName(String name) {
+        for (StandardStrategy strategy : values()) {
+            if (strategy.name.equals(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown strategy: %s", name));
+    }
+}
@@ -0,0 +1,27 @@
+package ms.bot;
+
+import ms.logic.Game;
+
+/**
+ * The {@code Strategy} interface chooses the moves of a bot in one game.
+ * A strategy may keep state across the moves of its game, but is never shared between games.
+ */
+public interface Strategy {
+
+    /**
+     * Chooses the next move. The game is not over when this is called.
+     *
+     * @param game the game being played
+     * @return the move to play
+     */
+    Move nextMove(Game game);
+
+    /**
+     * Called after a move was applied, so that the strategy can update its view of the board.
+     *
+     * @param game the game being played
+     * @param move the move that was applied
+     */
+    default void moveApplied(Game game, Move move) {
+    }
+}
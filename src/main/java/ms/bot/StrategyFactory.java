@@ -0,0 +1,18 @@
+package ms.bot;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code StrategyFactory} interface creates the strategy of each game.
+ */
+@FunctionalInterface
+public interface StrategyFactory {
+
+    /**
+     * Creates a strategy for a new game.
+     *
+     * @param random the generator the strategy draws its guesses from, seeded per game
+     * @return a new strategy
+     */
+    Strategy create(RandomGenerator random);
+}
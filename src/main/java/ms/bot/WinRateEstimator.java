@@ -0,0 +1,279 @@
+package ms.bot;
+
+import ms.logic.MineFieldFactory;
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * The {@code WinRateEstimator} class estimates the probability that a bot strategy wins on a board configuration
+ * by Monte Carlo simulation. Games are played in batches on a work-stealing {@code ForkJoinPool}: each batch is a
+ * range of game numbers that is split in halves until the pieces are small, so idle workers steal the rest.
+ * Game {@code i} of a run is seeded from the seed of the run and {@code i} alone, so a run is reproducible
+ * whatever the pool and any prefix of it is a fair sample.
+ * <p>
+ * After every batch the Wilson score interval of the win rate is published to the progress listener. The run
+ * stops as soon as the half-width of the interval is within the target, when the game limit is reached, or when
+ * {@link #cancel()} is called, for example from the listener.
+ */
+public class WinRateEstimator {
+
+    /**
+     * The half-width of the confidence interval at which a run stops by default.
+     */
+    public static final double DEFAULT_TARGET_HALF_WIDTH = 0.005;
+
+    /**
+     * The number of games played between two progress reports by default.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int SPLIT_GAMES = 8;
+
+    private final StrategyFactory strategies;
+    private final MineFieldFactory mineFieldFactory;
+    private final ForkJoinPool pool;
+    private double confidenceLevel = 0.95;
+    private double zScore = zScoreOf(0.95);
+    private double targetHalfWidth = DEFAULT_TARGET_HALF_WIDTH;
+    private long maxGames = 10_000_000L;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs an estimator running on the common pool.
+     *
+     * @param strategies the factory of the strategy of each game
+     * @param mineFieldFactory the factory of the minefields, asked for seeded boards
+     */
+    public WinRateEstimator(StrategyFactory strategies, MineFieldFactory mineFieldFactory) {
+        this(strategies, mineFieldFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs an estimator.
+     *
+     * @param strategies the factory of the strategy of each game
+     * @param mineFieldFactory the factory of the minefields, asked for seeded boards
+     * @param pool the pool playing the games
+     */
+    public WinRateEstimator(StrategyFactory strategies, MineFieldFactory mineFieldFactory, ForkJoinPool pool) {
+        this.strategies = strategies;
+        this.mineFieldFactory = mineFieldFactory;
+        this.pool = pool;
+    }
+
+    /**
+     * Sets the confidence level of the interval, {@code 0.95} by default.
+     *
+     * @param confidenceLevel the confidence level, strictly between {@code 0} and {@code 1}
+     * @throws IllegalArgumentException if the level is out of range
+     */
+    public void setConfidenceLevel(double confidenceLevel) {
+        if (!(confidenceLevel > 0 && confidenceLevel < 1)) {
+            throw new IllegalArgumentException("Confidence level must be between 0 and 1, got: " + confidenceLevel);
+        }
+        this.confidenceLevel = confidenceLevel;
+        this.zScore = zScoreOf(confidenceLevel);
+    }
+
+    /**
+     * Sets the half-width of the interval at which a run stops.
+     *
+     * @param targetHalfWidth the target half-width, positive
+     * @throws IllegalArgumentException if the half-width is not positive
+     */
+    public void setTargetHalfWidth(double targetHalfWidth) {
+        if (!(targetHalfWidth > 0)) {
+            throw new IllegalArgumentException("Target half-width must be positive, got: " + targetHalfWidth);
+        }
+        this.targetHalfWidth = targetHalfWidth;
+    }
+
+    /**
+     * Sets the number of games after which a run stops even if the interval is still too wide.
+     *
+     * @param maxGames the game limit, positive
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public void setMaxGames(long maxGames) {
+        if (maxGames <= 0) {
+            throw new IllegalArgumentException("The game limit must be positive, got: " + maxGames);
+        }
+        this.maxGames = maxGames;
+    }
+
+    /**
+     * Sets the number of games played between two progress reports. A run never stops before its first batch.
+     *
+     * @param batchSize the batch size, positive
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, got: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Stops the current run after its current batch. The run returns the estimate reached so far.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Estimates the win rate on a difficulty level.
+     *
+     * @param difficulty the difficulty level
+     * @param seed the seed of the run
+     * @param progress receives the estimate after every batch
+     * @return the final estimate
+     */
+    public Estimate estimate(Difficulty difficulty, long seed, Consumer<Estimate> progress) {
+        return estimate(GridDimension.fromDifficulty(difficulty), difficulty.getMines(), seed, progress);
+    }
+
+    /**
+     * Estimates the win rate on a custom board.
+     *
+     * @param dimensions the dimensions of the board
+     * @param mines the number of mines
+     * @param seed the seed of the run
+     * @param progress receives the estimate after every batch
+     * @return the final estimate
+     */
+    public Estimate estimate(GridDimension dimensions, int mines, long seed, Consumer<Estimate> progress) {
+        cancelled = false;
+        long start = System.nanoTime();
+        long games = 0;
+        long wins = 0;
+        Estimate estimate;
+        do {
+            long end = Math.min(maxGames, games + batchSize);
+            wins += pool.invoke(new GameRange(dimensions, mines, seed, games, end));
+            games = end;
+            boolean done = games >= maxGames || cancelled || halfWidth(games, wins) <= targetHalfWidth;
+            estimate = toEstimate(games, wins, System.nanoTime() - start, done);
+            progress.accept(estimate);
+        } while (!estimate.done());
+        return estimate;
+    }
+
+    private Estimate toEstimate(long games, long wins, long elapsedNanos, boolean done) {
+        double z2 = zScore * zScore;
+        double rate = (double) wins / games;
+        double center = (rate + z2 / (2 * games)) / (1 + z2 / games);
+        double halfWidth = halfWidth(games, wins);
+        return new Estimate(games, wins, rate, Math.max(0, center - halfWidth), Math.min(1, center + halfWidth),
+                confidenceLevel, elapsedNanos, done);
+    }
+
+    /**
+     * Computes the half-width of the Wilson score interval.
+     */
+    private double halfWidth(long games, long wins) {
+        double z2 = zScore * zScore;
+        double rate = (double) wins / games;
+        return zScore * Math.sqrt(rate * (1 - rate) / games + z2 / (4.0 * games * games)) / (1 + z2 / games);
+    }
+
+    /**
+     * Computes the two-sided normal quantile of a confidence level with the rational approximation 26.2.23 of
+     * Abramowitz and Stegun, whose absolute error is below {@code 4.5e-4}.
+     */
+    private static double zScoreOf(double confidenceLevel) {
+        double tail = (1 - confidenceLevel) / 2;
+        double t = Math.sqrt(-2 * Math.log(tail));
+        return t - (2.515517 + 0.802853 * t + 0.010328 * t * t)
+                / (1 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+    }
+
+    /**
+     * Derives the seed of a game from the seed of the run with the SplitMix64 finalizer, so that neighbouring
+     * game numbers get unrelated generators.
+     */
+    private static long gameSeed(long seed, long game) {
+        long z = seed + (game + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The {@code Estimate} record holds the win rate of a run so far.
+     *
+     * @param games the number of games played
+     * @param wins the number of games won
+     * @param winRate the fraction of games won
+     * @param lower the lower bound of the confidence interval
+     * @param upper the upper bound of the confidence interval
+     * @param confidenceLevel the confidence level of the interval
+     * @param elapsedNanos the time since the start of the run, in nanoseconds
+     * @param done {@code true} for the last estimate of the run
+     */
+    public record Estimate(long games, long wins, double winRate, double lower, double upper,
+                           double confidenceLevel, long elapsedNanos, boolean done) {
+
+        /**
+         * @return half the width of the confidence interval
+         */
+        public double halfWidth() {
+            return (upper - lower) / 2;
+        }
+
+        /**
+         * @return the number of games played per second
+         */
+        public double gamesPerSecond() {
+            return elapsedNanos > 0 ? games * 1e9 / elapsedNanos : 0;
+        }
+    }
+
+    /**
+     * The {@code GameRange} class plays a range of game numbers and returns the number of wins,
+     * splitting itself in halves while the range is large.
+     */
+    private final class GameRange extends RecursiveTask<Long> {
+
+        private final GridDimension dimensions;
+        private final int mines;
+        private final long seed;
+        private final long from;
+        private final long to;
+
+        private GameRange(GridDimension dimensions, int mines, long seed, long from, long to) {
+            this.dimensions = dimensions;
+            this.mines = mines;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > SPLIT_GAMES) {
+                long middle = (from + to) >>> 1;
+                GameRange upperHalf = new GameRange(dimensions, mines, seed, middle, to);
+                upperHalf.fork();
+                long lowerWins = new GameRange(dimensions, mines, seed, from, middle).compute();
+                return lowerWins + upperHalf.join();
+            }
+            long wins = 0;
+            for (long game = from; game < to; game++) {
+                BotGame botGame = new BotGame(dimensions, mines, mineFieldFactory, strategies,
+                        new SplittableRandom(gameSeed(seed, game)));
+                if (botGame.play(null, null)) {
+                    wins++;
+                }
+            }
+            return wins;
+        }
+    }
+}
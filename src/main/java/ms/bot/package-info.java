@@ -0,0 +1,5 @@
+/**
+ * This package contains the headless bots that play games against the engine, the strategies they use
+ * and the runner that measures their throughput.
+ */
+package ms.bot;
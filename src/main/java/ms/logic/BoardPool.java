@@ -0,0 +1,233 @@
+package ms.logic;
+
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+import ms.model.MineField;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code BoardPool} class implements the {@code MineFieldFactory} interface with minefields generated
+ * ahead of time. For every board configuration it keeps a queue of pregenerated minefields, refilled by a
+ * single low-priority daemon thread, so the first reveal only has to move the mines out of the safe zone.
+ * Minefields come from a delegate factory, which decides their storage, safe zone and random source.
+ * When the queue of a configuration is empty, a minefield is handed out without pregeneration and the board
+ * is generated at the first click as usual, so a caller never waits for the pool.
+ * Minefields without mines, and minefields that cannot be pregenerated such as session-backed ones,
+ * are never pooled.
+ * A pooled board does not get its layout back from its random source and first click alone, since its mines
+ * were placed before the click; boards that must be reproducible are created with a seed, which bypasses the pool.
+ */
+public class BoardPool implements MineFieldFactory, AutoCloseable {
+
+    /**
+     * The number of boards kept per configuration by a pool created without an explicit capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 4;
+
+    private final MineFieldFactory delegate;
+    private final int capacity;
+    private final Map<Configuration, BlockingQueue<MineField>> queues;
+    private final ExecutorService generator;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    /**
+     * Constructs a pool of {@value #DEFAULT_CAPACITY} boards per configuration.
+     *
+     * @param delegate the factory creating the pooled minefields
+     */
+    public BoardPool(MineFieldFactory delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a pool keeping up to the given number of boards per configuration.
+     *
+     * @param delegate the factory creating the pooled minefields
+     * @param capacity the number of boards kept per configuration
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public BoardPool(MineFieldFactory delegate, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.queues = new ConcurrentHashMap<>();
+        this.generator = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "board-pool");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * Starts filling the pool for a difficulty level before its first game.
+     *
+     * @param difficulty the difficulty level to prepare
+     */
+    public void prepare(Difficulty difficulty) {
+        prepare(GridDimension.fromDifficulty(difficulty), difficulty.getMines());
+    }
+
+    /**
+     * Starts filling the pool for a board configuration before its first game.
+     *
+     * @param dimensions the dimensions of the boards
+     * @param mines the number of mines of the boards
+     */
+    public void prepare(GridDimension dimensions, int mines) {
+        queueOf(new Configuration(dimensions, mines));
+    }
+
+    @Override
+    public MineField createMineField(GridDimension dimensions, int mines) {
+        if (mines == 0) {
+            return delegate.createMineField(dimensions, mines);
+        }
+
+        Configuration configuration = new Configuration(dimensions, mines);
+        MineField pooled = queueOf(configuration).poll();
+        if (pooled == null) {
+            misses.incrementAndGet();
+            return delegate.createMineField(dimensions, mines);
+        }
+
+        hits.incrementAndGet();
+        refill(configuration);
+        return pooled;
+    }
+
+    /**
+     * Creates a seeded minefield from the delegate, bypassing the pool, since a pooled board already has
+     * mines placed from the random source of the delegate.
+     *
+     * @param dimensions the dimensions of the minefield
+     * @param mines the number of mines
+     * @param seed the seed of the mine placement
+     * @return a new {@code MineField}
+     */
+    @Override
+    public MineField createMineField(GridDimension dimensions, int mines, long seed) {
+        return delegate.createMineField(dimensions, mines, seed);
+    }
+
+    /**
+     * Resets a minefield in place as its delegate would. The next board is generated at the first click,
+     * without pregeneration.
+     *
+     * @param mineField the minefield to reset
+     * @return {@code true} if the delegate reset the minefield
+     */
+    @Override
+    public boolean resetInPlace(MineField mineField) {
+        return delegate.resetInPlace(mineField);
+    }
+
+    /**
+     * Gets the number of boards ready for a configuration.
+     *
+     * @param dimensions the dimensions of the boards
+     * @param mines the number of mines of the boards
+     * @return the number of pregenerated boards in the pool
+     */
+    public int available(GridDimension dimensions, int mines) {
+        BlockingQueue<MineField> queue = queues.get(new Configuration(dimensions, mines));
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * @return the number of minefields handed out pregenerated
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of minefields handed out without pregeneration because the pool was empty
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Stops the background generation and closes the pooled minefields. Minefields already handed out stay valid.
+     */
+    @Override
+    public void close() {
+        generator.shutdownNow();
+        for (BlockingQueue<MineField> queue : queues.values()) {
+            for (MineField mineField = queue.poll(); mineField != null; mineField = queue.poll()) {
+                mineField.close();
+            }
+        }
+    }
+
+    /**
+     * Gets the queue of a configuration, creating it and scheduling its filling on first use.
+     */
+    private BlockingQueue<MineField> queueOf(Configuration configuration) {
+        BlockingQueue<MineField> queue = queues.get(configuration);
+        if (queue != null) {
+            return queue;
+        }
+
+        BlockingQueue<MineField> created = new ArrayBlockingQueue<>(capacity);
+        queue = queues.putIfAbsent(configuration, created);
+        if (queue != null) {
+            return queue;
+        }
+        for (int i = 0; i < capacity; i++) {
+            refill(configuration);
+        }
+        return created;
+    }
+
+    /**
+     * Schedules the generation of one board for a configuration, unless the pool is closed.
+     */
+    private void refill(Configuration configuration) {
+        try {
+            generator.execute(() -> generate(configuration));
+        } catch (RejectedExecutionException e) {
+            // The pool is closed: boards are no longer generated ahead of time.
+        }
+    }
+
+    private void generate(Configuration configuration) {
+        BlockingQueue<MineField> queue = queues.get(configuration);
+        if (queue.remainingCapacity() == 0) {
+            return;
+        }
+
+        MineField mineField = delegate.createMineField(configuration.dimensions(), configuration.mines());
+        if (!mineField.canPregenerate()) {
+            mineField.close();
+            return;
+        }
+        mineField.pregenerate();
+        if (!queue.offer(mineField)) {
+            mineField.close();
+        }
+    }
+
+    /**
+     * The {@code Configuration} record identifies the boards that can replace one another.
+     *
+     * @param dimensions the dimensions of the boards
+     * @param mines the number of mines of the boards
+     */
+    private record Configuration(GridDimension dimensions, int mines) {
+    }
+}
@@ -2,6 +2,12 @@ package ms.logic;
 
 import ms.model.GridDimension;
 import ms.model.MineField;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.CellStorageFactory;
+import ms.model.storage.ObjectCellStorage;
+
+import java.util.random.RandomGeneratorFactory;
 
 /**
  * The {@code DefaultMineFieldFactory} class implements the {@code MineFieldFactory} interface
@@ -9,8 +15,94 @@ import ms.model.MineField;
  */
 public class DefaultMineFieldFactory implements MineFieldFactory {
 
+    private final CellStorageFactory storageFactory;
+    private final SafeZone safeZone;
+    private final String algorithm;
+    private final RandomSource randomSource;
+
+    /**
+     * Constructs a factory whose minefields keep one {@code Cell} object per position.
+     */
+    public DefaultMineFieldFactory() {
+        this(ObjectCellStorage::new);
+    }
+
+    /**
+     * Constructs a factory whose minefields are backed by the given storage engine.
+     *
+     * @param storageFactory the factory creating the {@code CellStorage} of each minefield
+     */
+    public DefaultMineFieldFactory(CellStorageFactory storageFactory) {
+        this(storageFactory, SafeZone.FIRST_CELL);
+    }
+
+    /**
+     * Constructs a factory whose minefields are backed by the given storage engine
+     * and keep the given safe zone around the first click free of mines.
+     *
+     * @param storageFactory the factory creating the {@code CellStorage} of each minefield
+     * @param safeZone the cells around the first click that never receive a mine
+     */
+    public DefaultMineFieldFactory(CellStorageFactory storageFactory, SafeZone safeZone) {
+        this(storageFactory, safeZone, RandomSource.DEFAULT_ALGORITHM);
+    }
+
+    /**
+     * Constructs a factory whose minefields place their mines with the given generator algorithm,
+     * drawing a fresh seed for every minefield.
+     *
+     * @param storageFactory the factory creating the {@code CellStorage} of each minefield
+     * @param safeZone the cells around the first click that never receive a mine
+     * @param algorithm the name of the {@code RandomGenerator} algorithm, such as {@code SplittableRandom}
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public DefaultMineFieldFactory(CellStorageFactory storageFactory, SafeZone safeZone, String algorithm) {
+        this(storageFactory, safeZone, algorithm, null);
+    }
+
+    /**
+     * Constructs a factory whose minefields all place their mines from the same generator and seed,
+     * so that every minefield it creates yields the same board for the same first click.
+     *
+     * @param storageFactory the factory creating the {@code CellStorage} of each minefield
+     * @param safeZone the cells around the first click that never receive a mine
+     * @param randomSource the generator algorithm and seed shared by every minefield
+     */
+    public DefaultMineFieldFactory(CellStorageFactory storageFactory, SafeZone safeZone, RandomSource randomSource) {
+        this(storageFactory, safeZone, randomSource.algorithm(), randomSource);
+    }
+
+    private DefaultMineFieldFactory(CellStorageFactory storageFactory, SafeZone safeZone, String algorithm,
+                                    RandomSource randomSource) {
+        RandomGeneratorFactory.of(algorithm);
+        this.storageFactory = storageFactory;
+        this.safeZone = safeZone;
+        this.algorithm = algorithm;
+        this.randomSource = randomSource;
+    }
+
     @Override
     public MineField createMineField(GridDimension dimensions, int mines) {
-        return new MineField(dimensions, mines);
+        return createMineField(dimensions, mines,
+                randomSource != null ? randomSource : RandomSource.withRandomSeed(algorithm));
+    }
+
+    @Override
+    public MineField createMineField(GridDimension dimensions, int mines, long seed) {
+        return createMineField(dimensions, mines, new RandomSource(algorithm, seed));
+    }
+
+    @Override
+    public boolean resetInPlace(MineField mineField) {
+        mineField.clear();
+        mineField.setRandomSource(randomSource != null ? randomSource : RandomSource.withRandomSeed(algorithm));
+        return true;
+    }
+
+    private MineField createMineField(GridDimension dimensions, int mines, RandomSource source) {
+        MineField mineField = new MineField(dimensions, mines, storageFactory);
+        mineField.setSafeZone(safeZone);
+        mineField.setRandomSource(source);
+        return mineField;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ms.logic;
 
+import ms.logic.operation.CascadeMode;
 import ms.logic.operation.FlagOperation;
 import ms.logic.operation.GameOperation;
 import ms.logic.operation.RevealOperation;
@@ -14,6 +15,11 @@ import ms.model.Difficulty;
 import ms.model.GridDimension;
 import ms.model.MineField;
 import ms.model.Position;
+import ms.model.ZeroRegionIndex;
+import ms.model.storage.BoardHeader;
+import ms.model.storage.MappedCellStorage;
+
+import java.nio.file.Path;
 
 /**
  * The {@code Game} class represents a Minesweeper game instance.
@@ -28,8 +34,20 @@ public class Game {
     private final MineFieldFactory mineFieldFactory;
     private final Timer timer;
     private final GameStatistics stats;
+    private final CascadeMode cascadeMode;
     private MineField minefield;
     private boolean isFirstReveal;
+    private GameRules revealRules;
+    private GameOperation revealOperation;
+    private GameRules flagRules;
+    private GameOperation flagOperation;
+    private boolean inPlaceReset;
+    private MineField boundMinefield;
+    private ZeroRegionIndex boundZeroRegionIndex;
+    private GameRules firstMoveFlagRules;
+    private GameRules inPlayFlagRules;
+    private GameRules boundRevealRules;
+    private GameOperation boundRevealOperation;
 
     /**
      * Constructs a new Game instance with specified dimensions, total mines, and a mine field factory.
@@ -39,14 +57,43 @@ public class Game {
      * @param mineFieldFactory the factory to create mine fields
      */
     public Game(GridDimension dimensions, int totalMines, MineFieldFactory mineFieldFactory) {
+        this(dimensions, totalMines, mineFieldFactory, CascadeMode.QUEUE);
+    }
+
+    /**
+     * Constructs a new Game instance with specified dimensions, total mines, mine field factory
+     * and the cascade used to reveal regions without adjacent mines.
+     *
+     * @param dimensions the dimensions of the game grid
+     * @param totalMines the total number of mines in the game
+     * @param mineFieldFactory the factory to create mine fields
+     * @param cascadeMode the cascade used by reveal operations
+     */
+    public Game(GridDimension dimensions, int totalMines, MineFieldFactory mineFieldFactory, CascadeMode cascadeMode) {
+        this(dimensions, totalMines, mineFieldFactory, cascadeMode, mineFieldFactory.createMineField(dimensions, 0));
+    }
+
+    /**
+     * Constructs a new Game instance on an existing minefield.
+     *
+     * @param dimensions the dimensions of the game grid
+     * @param totalMines the total number of mines in the game
+     * @param mineFieldFactory the factory to create mine fields
+     * @param cascadeMode the cascade used by reveal operations
+     * @param minefield the minefield shown before the first reveal
+     */
+    private Game(GridDimension dimensions, int totalMines, MineFieldFactory mineFieldFactory, CascadeMode cascadeMode,
+                 MineField minefield) {
         this.dimensions = dimensions;
         this.totalMines = totalMines;
         this.mineFieldFactory = mineFieldFactory;
-        this.minefield = mineFieldFactory.createMineField(dimensions, 0);
+        this.cascadeMode = cascadeMode;
+        this.minefield = minefield;
         this.isFirstReveal = true;
         this.timer = new Timer();
         this.stats = new GameStatistics(dimensions.height(), dimensions.width(), totalMines);
         this.statusManager = new GameStatusManager();
+        bindOperations();
     }
 
     /**
@@ -56,7 +103,62 @@ public class Game {
      * @param difficulty the difficulty level of the game
      */
     public Game(Difficulty difficulty) {
-        this(GridDimension.fromDifficulty(difficulty), difficulty.getMines(), new DefaultMineFieldFactory());
+        this(difficulty, new DefaultMineFieldFactory());
+    }
+
+    /**
+     * Constructs a new Game instance with specified difficulty and mine field factory.
+     * The dimensions and total mines are derived from the difficulty level.
+     *
+     * @param difficulty the difficulty level of the game
+     * @param mineFieldFactory the factory to create mine fields
+     */
+    public Game(Difficulty difficulty, MineFieldFactory mineFieldFactory) {
+        this(GridDimension.fromDifficulty(difficulty), difficulty.getMines(), mineFieldFactory);
+    }
+
+    /**
+     * Resumes the game saved in a board file, as written by a game whose minefields are
+     * backed by {@code MappedCellStorage}. The file is mapped, not read, so resuming is immediate.
+     * New games started by {@code resetGame} are written to the same file.
+     *
+     * @param boardFile the path of the board file
+     * @return the resumed game
+     * @throws IllegalArgumentException if the file is not a board file
+     */
+    public static Game resume(Path boardFile) {
+        MappedCellStorage storage = MappedCellStorage.open(boardFile);
+        BoardHeader header = storage.header();
+        GridDimension dimensions = storage.dimensions();
+
+        MineField minefield = new MineField(dimensions, header.getMines(), ignored -> storage);
+        Game game = new Game(dimensions, header.getMines(),
+                new DefaultMineFieldFactory(MappedCellStorage.at(boardFile)), CascadeMode.QUEUE, minefield);
+
+        game.isFirstReveal = !header.isInitialized();
+        game.stats.restore(header.getRevealedCells(), header.getFlagsPlaced());
+        game.statusManager.restore(GameStatus.values()[header.getStatus()]);
+        game.timer.restore(header.getElapsedMillis(), header.isTimerRunning());
+        game.bindOperations();
+        return game;
+    }
+
+    /**
+     * Writes the state of the game into the header of the board file, if the minefield is backed by one.
+     */
+    private void saveState() {
+        if (minefield == null || !(minefield.getStorage() instanceof MappedCellStorage storage)) {
+            return;
+        }
+
+        BoardHeader header = storage.header();
+        header.setMines(totalMines);
+        header.setInitialized(!isFirstReveal);
+        header.setStatus(statusManager.getCurrentStatus().ordinal());
+        header.setRevealedCells(stats.getRevealedCount());
+        header.setFlagsPlaced(stats.getFlagsPlaced());
+        header.setElapsedMillis(timer.getElapsedTime());
+        header.setTimerRunning(timer.isRunning());
     }
 
     /**
@@ -157,14 +259,36 @@ public class Game {
      * @throws InvalidGameOperationException if the game is already over or if the position is invalid
      */
     public void revealCell(Position position) {
+        revealCell(position.row(), position.col());
+    }
+
+    /**
+     * Reveals a cell at the specified coordinates without creating a {@code Position},
+     * except on the first reveal, which initializes the minefield.
+     *
+     * @param row the row of the cell to reveal
+     * @param col the column of the cell to reveal
+     * @throws InvalidGameOperationException if the game is already over or if the position is invalid
+     */
+    public void revealCell(int row, int col) {
         if (isFirstReveal) {
-            handleFirstReveal(position);
+            handleFirstReveal(new Position(row, col));
         }
 
-        GameRules rules = new RevealRules(dimensions, minefield, statusManager);
-        rules.validate(position);
-        GameOperation revealOperation = new RevealOperation(minefield, dimensions, stats, statusManager, timer);
-        revealOperation.execute(position);
+        revealRules.validate(row, col);
+        revealOperation.execute(row, col);
+        saveState();
+    }
+
+    /**
+     * Reveals the cell at the specified row-major linear index.
+     *
+     * @param index the linear index of the cell to reveal
+     * @throws InvalidGameOperationException if the game is already over or if the index is invalid
+     */
+    public void revealCell(int index) {
+        dimensions.validateIndex(index);
+        revealCell(dimensions.rowOf(index), dimensions.colOf(index));
     }
 
     /**
@@ -176,10 +300,33 @@ public class Game {
      *         or if flagging is attempted on the first move
      */
     public void flagCell(Position position) {
-        GameRules rules = new FlagRules(dimensions, minefield, isFirstReveal);
-        rules.validate(position);
-        GameOperation flagOperation = new FlagOperation(minefield, stats);
-        flagOperation.execute(position);
+        flagCell(position.row(), position.col());
+    }
+
+    /**
+     * Flags or unflags a cell at the specified coordinates without creating a {@code Position}.
+     *
+     * @param row the row of the cell to flag
+     * @param col the column of the cell to flag
+     * @throws InvalidGameOperationException if the game is already over, if the position is invalid,
+     *         or if flagging is attempted on the first move
+     */
+    public void flagCell(int row, int col) {
+        flagRules.validate(row, col);
+        flagOperation.execute(row, col);
+        saveState();
+    }
+
+    /**
+     * Flags or unflags the cell at the specified row-major linear index.
+     *
+     * @param index the linear index of the cell to flag
+     * @throws InvalidGameOperationException if the game is already over, if the index is invalid,
+     *         or if flagging is attempted on the first move
+     */
+    public void flagCell(int index) {
+        dimensions.validateIndex(index);
+        flagCell(dimensions.rowOf(index), dimensions.colOf(index));
     }
 
     /**
@@ -192,22 +339,111 @@ public class Game {
     private void handleFirstReveal(Position position) {
         dimensions.validatePosition(position);
         statusManager.startGame();
-        this.minefield = mineFieldFactory.createMineField(dimensions, totalMines);
+        if (!isMinefieldPrepared()) {
+            replaceMinefield(mineFieldFactory.createMineField(dimensions, totalMines));
+        }
         this.minefield.initializeGrid(position);
         timer.start();
         isFirstReveal = false;
+        bindOperations();
+    }
+
+    /**
+     * Enables or disables in-place resets. When enabled, {@code resetGame} clears the current minefield
+     * in bulk instead of asking the factory for a new one, and the first reveal generates the new board
+     * in the same storage, from the random source the factory would give a new minefield. Together with
+     * the allocation-free resets of the statistics, the status manager and the timer, a loop of resets and
+     * moves then creates no garbage proportional to the board. The factory is still used for the first board
+     * of the game, and for every board if it cannot reset its minefields in place.
+     *
+     * @param inPlaceReset {@code true} to reuse the minefield across games
+     */
+    public void setInPlaceReset(boolean inPlaceReset) {
+        this.inPlaceReset = inPlaceReset;
+    }
+
+    /**
+     * Checks if the current minefield is waiting for the board of the first reveal. Before the first reveal,
+     * the minefield is either the mine-free placeholder of the constructor or the minefield prepared by
+     * {@code resetGame} or {@code resume}, which has the mine count of the game and has not placed its mines.
+     *
+     * @return {@code true} if the minefield has the mine count of the game
+     */
+    private boolean isMinefieldPrepared() {
+        return minefield != null && minefield.getMines() == totalMines;
+    }
+
+    /**
+     * Checks if the current minefield can be regenerated in place for the next board.
+     *
+     * @return {@code true} if in-place resets are enabled and the minefield has the mine count of the game
+     */
+    private boolean canReuseMinefield() {
+        return inPlaceReset && minefield != null && minefield.getMines() == totalMines;
     }
 
     /**
      * Resets the game to its initial state.
-     * Reinitializes the minefield, resets statistics, status manager, and timer.
+     * Reinitializes the minefield, closing the previous one, and resets statistics, status manager, and timer.
+     * With in-place resets the factory clears and reseeds the current minefield instead, if it can.
      */
     public void resetGame() {
-        this.minefield = mineFieldFactory.createMineField(dimensions, totalMines);
+        if (!canReuseMinefield() || !mineFieldFactory.resetInPlace(minefield)) {
+            replaceMinefield(mineFieldFactory.createMineField(dimensions, totalMines));
+        }
         stats.reset();
         statusManager.resetGame();
         timer.reset();
         this.isFirstReveal = true;
+        bindOperations();
+        saveState();
+    }
+
+    /**
+     * Replaces the current minefield and closes the previous one,
+     * releasing any memory its storage engine keeps outside the heap.
+     *
+     * @param next the new minefield
+     */
+    private void replaceMinefield(MineField next) {
+        MineField previous = this.minefield;
+        this.minefield = next;
+        if (previous != null && previous != next) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Creates the rules and operations bound to the current minefield,
+     * so that they are built once per minefield instead of once per move, or once per game.
+     * Reveal rules and operations only exist once the minefield has been initialized by the first reveal,
+     * and are rebuilt when a regenerated board comes with a new zero region index.
+     */
+    private void bindOperations() {
+        if (minefield != boundMinefield || firstMoveFlagRules == null) {
+            boundMinefield = minefield;
+            firstMoveFlagRules = new FlagRules(dimensions, minefield, true);
+            inPlayFlagRules = new FlagRules(dimensions, minefield, false);
+            flagOperation = new FlagOperation(minefield, stats);
+            boundRevealRules = null;
+            boundRevealOperation = null;
+        }
+        flagRules = isFirstReveal ? firstMoveFlagRules : inPlayFlagRules;
+
+        if (isFirstReveal) {
+            revealRules = null;
+            revealOperation = null;
+            return;
+        }
+
+        ZeroRegionIndex zeroRegionIndex = minefield.getZeroRegionIndex();
+        if (boundRevealOperation == null || zeroRegionIndex != boundZeroRegionIndex) {
+            boundZeroRegionIndex = zeroRegionIndex;
+            boundRevealRules = new RevealRules(dimensions, minefield, statusManager);
+            boundRevealOperation = new RevealOperation(minefield, dimensions, stats, statusManager, timer, cascadeMode);
+        }
+        revealRules = boundRevealRules;
+        revealOperation = boundRevealOperation;
     }
 
     /**
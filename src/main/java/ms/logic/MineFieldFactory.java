@@ -2,6 +2,7 @@ package ms.logic;
 
 import ms.model.GridDimension;
 import ms.model.MineField;
+import ms.model.RandomSource;
 
 /**
  * The {@code MineFieldFactory} interface defines a method for creating instances of {@code MineField}.
@@ -10,4 +11,32 @@ import ms.model.MineField;
 public interface MineFieldFactory {
 
     MineField createMineField(GridDimension dimensions, int mines);
+
+    /**
+     * Creates a minefield whose mines are placed from the given seed,
+     * so that the same seed and first click always yield the same board.
+     *
+     * @param dimensions the dimensions of the minefield
+     * @param mines the number of mines
+     * @param seed the seed of the mine placement
+     * @return a new {@code MineField}
+     */
+    default MineField createMineField(GridDimension dimensions, int mines, long seed) {
+        MineField mineField = createMineField(dimensions, mines);
+        mineField.setRandomSource(new RandomSource(RandomSource.DEFAULT_ALGORITHM, seed));
+        return mineField;
+    }
+
+    /**
+     * Clears a minefield created by {@link #createMineField(GridDimension, int)} so that its next board is
+     * generated in place, from the random source a new minefield of this factory would get.
+     * Factories handing out boards of a fixed seed keep that seed, and those drawing fresh seeds draw one.
+     * The default implementation cannot tell which and leaves the minefield alone.
+     *
+     * @param mineField the minefield to reset
+     * @return {@code true} if the minefield was reset, {@code false} if a new minefield must be created
+     */
+    default boolean resetInPlace(MineField mineField) {
+        return false;
+    }
 }
@@ -0,0 +1,76 @@
+package ms.logic;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.MineLayerCache;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.SessionCellStorage;
+
+/**
+ * The {@code SharedBoardFactory} class implements the {@code MineFieldFactory} interface for boards
+ * played by many sessions at once, such as a daily challenge. Every minefield it creates is backed by a
+ * {@code SessionCellStorage} and gets its mines from a shared {@code MineLayerCache}, so sessions with
+ * the same seed and first click share one immutable layer and only pay two bits per cell each.
+ */
+public class SharedBoardFactory implements MineFieldFactory {
+
+    private final MineLayerCache cache;
+    private final SafeZone safeZone;
+    private final RandomSource randomSource;
+
+    /**
+     * Constructs a factory for the board of the given random source, keeping only the first click free.
+     *
+     * @param cache the cache of shared mine layers
+     * @param randomSource the generator algorithm and seed of the shared board
+     */
+    public SharedBoardFactory(MineLayerCache cache, RandomSource randomSource) {
+        this(cache, SafeZone.FIRST_CELL, randomSource);
+    }
+
+    /**
+     * Constructs a factory for the board of the given random source.
+     *
+     * @param cache the cache of shared mine layers
+     * @param safeZone the cells around the first click that never receive a mine
+     * @param randomSource the generator algorithm and seed of the shared board
+     */
+    public SharedBoardFactory(MineLayerCache cache, SafeZone safeZone, RandomSource randomSource) {
+        this.cache = cache;
+        this.safeZone = safeZone;
+        this.randomSource = randomSource;
+    }
+
+    @Override
+    public MineField createMineField(GridDimension dimensions, int mines) {
+        return createMineField(dimensions, mines, randomSource);
+    }
+
+    @Override
+    public MineField createMineField(GridDimension dimensions, int mines, long seed) {
+        return createMineField(dimensions, mines, new RandomSource(randomSource.algorithm(), seed));
+    }
+
+    /**
+     * Clears the session of a minefield and detaches its layer, keeping the random source of the shared board,
+     * so that the next first click attaches the cached layer again.
+     *
+     * @param mineField the minefield to reset
+     * @return always {@code true}
+     */
+    @Override
+    public boolean resetInPlace(MineField mineField) {
+        mineField.clear();
+        mineField.setRandomSource(randomSource);
+        return true;
+    }
+
+    private MineField createMineField(GridDimension dimensions, int mines, RandomSource source) {
+        MineField mineField = new MineField(dimensions, mines, SessionCellStorage::new);
+        mineField.setSafeZone(safeZone);
+        mineField.setRandomSource(source);
+        mineField.setMineLayerCache(cache);
+        return mineField;
+    }
+}
@@ -0,0 +1,61 @@
+package ms.logic.operation;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.storage.CellLayout;
+import ms.model.storage.PackedCellStorage;
+
+/**
+ * The {@code CascadeMode} enum lists the available {@code CascadeStrategy} implementations,
+ * so that the cascade used by a game can be selected and benchmarked.
+ */
+public enum CascadeMode {
+
+    /**
+     * Breadth-first flood fill over single cells.
+     * On a padded or tiled packed storage it walks the slots directly.
+     */
+    QUEUE {
+        @Override
+        public CascadeStrategy create(MineField mineField, GridDimension dimensions) {
+            if (mineField.getStorage() instanceof PackedCellStorage storage) {
+                if (storage.getLayout() == CellLayout.PADDED) {
+                    return new PaddedCascade(storage);
+                }
+                if (storage.getLayout() == CellLayout.TILED) {
+                    return new TiledCascade(storage);
+                }
+            }
+            return new QueueCascade(mineField, dimensions);
+        }
+    },
+
+    /**
+     * Span-based flood fill over horizontal runs of cells.
+     */
+    SCANLINE {
+        @Override
+        public CascadeStrategy create(MineField mineField, GridDimension dimensions) {
+            return new ScanlineCascade(mineField, dimensions);
+        }
+    },
+
+    /**
+     * Fork-join flood fill spread over all cores, used on boards above the parallel threshold.
+     */
+    PARALLEL {
+        @Override
+        public CascadeStrategy create(MineField mineField, GridDimension dimensions) {
+            return new ParallelCascade(mineField, dimensions);
+        }
+    };
+
+    /**
+     * Creates the cascade strategy of this mode for the given minefield.
+     *
+     * @param mineField The minefield containing the cells to be revealed.
+     * @param dimensions The dimensions of the grid.
+     * @return a new {@code CascadeStrategy}
+     */
+    public abstract CascadeStrategy create(MineField mineField, GridDimension dimensions);
+}
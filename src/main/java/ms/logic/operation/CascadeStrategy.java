@@ -0,0 +1,34 @@
+package ms.logic.operation;
+
+import ms.model.Position;
+
+/**
+ * The {@code CascadeStrategy} interface defines how a reveal spreads from a cell without
+ * adjacent mines to the connected region around it.
+ * Every implementation must reveal exactly the same cells, only the traversal differs.
+ */
+@FunctionalInterface
+public interface CascadeStrategy {
+
+    /**
+     * Reveals the cell at the starting coordinates and, if it has no adjacent mines,
+     * every cell connected to it through cells without adjacent mines.
+     * Flagged, mined and already revealed cells are never revealed and stop the cascade.
+     *
+     * @param row The row of the starting cell.
+     * @param col The column of the starting cell.
+     * @return The total number of cells revealed during the cascade.
+     */
+    int reveal(int row, int col);
+
+    /**
+     * Reveals the cell at the starting position and, if it has no adjacent mines,
+     * every cell connected to it through cells without adjacent mines.
+     *
+     * @param startPosition The starting position for the cascade reveal.
+     * @return The total number of cells revealed during the cascade.
+     */
+    default int reveal(Position startPosition) {
+        return reveal(startPosition.row(), startPosition.col());
+    }
+}
@@ -0,0 +1,91 @@
+package ms.logic.operation;
+
+import ms.model.infinite.InfiniteMineField;
+
+/**
+ * The {@code ChunkedCascade} class reveals a connected region of cells without adjacent mines on an
+ * {@code InfiniteMineField}. It walks the region breadth-first over cell coordinates, so it crosses chunk
+ * borders like any other cell. On an unbounded field a region may be endless, so a cascade stops once
+ * it has revealed a maximum number of cells; revealing any revealed empty cell at the edge continues it.
+ */
+public class ChunkedCascade implements CascadeStrategy {
+
+    /**
+     * The default maximum number of cells revealed by one cascade.
+     */
+    public static final int DEFAULT_LIMIT = 1 << 20;
+
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+    private final InfiniteMineField mineField;
+    private final int limit;
+    private final IntQueue rows;
+    private final IntQueue cols;
+
+    /**
+     * Constructor for ChunkedCascade.
+     *
+     * @param mineField The infinite minefield containing the cells to be revealed.
+     */
+    public ChunkedCascade(InfiniteMineField mineField) {
+        this(mineField, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Constructor for ChunkedCascade.
+     *
+     * @param mineField The infinite minefield containing the cells to be revealed.
+     * @param limit The maximum number of cells revealed by one cascade.
+     */
+    public ChunkedCascade(InfiniteMineField mineField, int limit) {
+        this.mineField = mineField;
+        this.limit = limit;
+        this.rows = new IntQueue(INITIAL_QUEUE_CAPACITY);
+        this.cols = new IntQueue(INITIAL_QUEUE_CAPACITY);
+    }
+
+    @Override
+    public int reveal(int row, int col) {
+        int revealedCount = 0;
+        if (mineField.isOpen(row, col)) {
+            mineField.reveal(row, col);
+            revealedCount++;
+        } else if (!mineField.isRevealed(row, col) || mineField.isMined(row, col)) {
+            return 0;
+        }
+
+        if (mineField.countAdjacentMines(row, col) > 0) {
+            return revealedCount;
+        }
+
+        rows.add(row);
+        cols.add(col);
+        while (!rows.isEmpty() && revealedCount < limit) {
+            int cellRow = rows.poll();
+            int cellCol = cols.poll();
+
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int adjacentRow = cellRow + dr;
+                    int adjacentCol = cellCol + dc;
+                    if ((dr == 0 && dc == 0) || !mineField.isOpen(adjacentRow, adjacentCol)) {
+                        continue;
+                    }
+
+                    mineField.reveal(adjacentRow, adjacentCol);
+                    revealedCount++;
+                    if (mineField.countAdjacentMines(adjacentRow, adjacentCol) == 0) {
+                        rows.add(adjacentRow);
+                        cols.add(adjacentCol);
+                    }
+                }
+            }
+        }
+
+        while (!rows.isEmpty()) {
+            rows.poll();
+            cols.poll();
+        }
+        return revealedCount;
+    }
+}
@@ -1,7 +1,6 @@
 package ms.logic.operation;
 
 import ms.logic.status.GameStatistics;
-import ms.model.Cell;
 import ms.model.MineField;
 import ms.model.Position;
 
@@ -32,13 +31,24 @@ public class FlagOperation implements GameOperation {
      */
     @Override
     public void execute(Position position) {
-        Cell cell = minefield.getCell(position);
+        execute(position.row(), position.col());
+    }
+
+    /**
+     * Executes the flagging operation on the specified coordinates.
+     *
+     * @param row The row of the cell to be flagged or unflagged.
+     * @param col The column of the cell to be flagged or unflagged.
+     */
+    @Override
+    public void execute(int row, int col) {
+        int index = minefield.getDimensions().toIndex(row, col);
 
-        if (cell.isFlagged()) {
-            cell.toggleFlag();
+        if (minefield.isFlagged(index)) {
+            minefield.toggleFlag(index);
             stats.decrementFlags();
         } else {
-            cell.toggleFlag();
+            minefield.toggleFlag(index);
             stats.incrementFlags();
         }
     }
@@ -16,4 +16,15 @@ public interface GameOperation {
      * @param position The position of the cell to be operated on.
      */
     void execute(Position position);
+
+    /**
+     * Executes the operation on the specified coordinates.
+     * Implementations on hot paths override this to avoid creating a {@code Position}.
+     *
+     * @param row The row of the cell to be operated on.
+     * @param col The column of the cell to be operated on.
+     */
+    default void execute(int row, int col) {
+        execute(new Position(row, col));
+    }
 }
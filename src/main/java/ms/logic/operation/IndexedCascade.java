@@ -0,0 +1,74 @@
+package ms.logic.operation;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.ZeroRegionIndex;
+
+/**
+ * The {@code IndexedCascade} class reveals a region of cells without adjacent mines
+ * from the {@code ZeroRegionIndex} built when the minefield was initialized.
+ * The whole region and its numbered border are revealed in one pass over a contiguous
+ * range of cell indices, without any neighbour checks.
+ * When the region is not untouched, because some of its empty cells are already revealed or flagged,
+ * the reveal is handed to the fallback strategy, which follows the flags exactly.
+ */
+public class IndexedCascade implements CascadeStrategy {
+
+    private final MineField mineField;
+    private final GridDimension dimensions;
+    private final ZeroRegionIndex index;
+    private final CascadeStrategy fallback;
+
+    /**
+     * Constructor for IndexedCascade.
+     *
+     * @param mineField The minefield containing the cells to be revealed, with a zero region index.
+     * @param dimensions The dimensions of the grid.
+     * @param fallback The strategy used when the region cannot be revealed from the index.
+     */
+    public IndexedCascade(MineField mineField, GridDimension dimensions, CascadeStrategy fallback) {
+        this.mineField = mineField;
+        this.dimensions = dimensions;
+        this.index = mineField.getZeroRegionIndex();
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int reveal(int row, int col) {
+        if (!dimensions.isValidPosition(row, col)) {
+            return 0;
+        }
+
+        int region = index.regionOf(dimensions.toIndex(row, col));
+        if (region < 0 || !isUntouched(region)) {
+            return fallback.reveal(row, col);
+        }
+
+        int revealedCount = 0;
+        for (int slot = index.regionStart(region); slot < index.regionEnd(region); slot++) {
+            int cell = index.cellAt(slot);
+            if (!mineField.isRevealed(cell) && !mineField.isFlagged(cell)) {
+                mineField.reveal(cell);
+                revealedCount++;
+            }
+        }
+        return revealedCount;
+    }
+
+    /**
+     * Checks that no empty cell of a region is revealed or flagged,
+     * in which case revealing the indexed range is equivalent to a flood fill.
+     *
+     * @param region The region id.
+     * @return true if every empty cell of the region is still hidden, false otherwise.
+     */
+    private boolean isUntouched(int region) {
+        for (int slot = index.regionStart(region); slot < index.borderStart(region); slot++) {
+            int cell = index.cellAt(slot);
+            if (mineField.isRevealed(cell) || mineField.isFlagged(cell)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,72 @@
+package ms.logic.operation;
+
+import java.util.Arrays;
+
+/**
+ * The {@code IntQueue} class is a growable first-in first-out ring buffer of primitive {@code int} values.
+ * It is used as the work list of the cascade engines, so that cell indices are never boxed.
+ */
+final class IntQueue {
+
+    private int[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty queue able to hold at least the given number of values before growing.
+     *
+     * @param initialCapacity the initial capacity of the queue
+     */
+    IntQueue(int initialCapacity) {
+        this.elements = new int[Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1];
+    }
+
+    /**
+     * Appends a value at the tail of the queue, doubling the buffer if it is full.
+     *
+     * @param value the value to append
+     */
+    void add(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the head of the queue.
+     *
+     * @return the head value
+     */
+    int poll() {
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * @return the number of values in the queue
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the queue holds no values, {@code false} otherwise
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Doubles the buffer, moving the values so that the head is at position zero.
+     */
+    private void grow() {
+        int[] grown = Arrays.copyOfRange(elements, head, head + elements.length * 2);
+        System.arraycopy(elements, 0, grown, elements.length - head, head);
+        elements = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,69 @@
+package ms.logic.operation;
+
+import ms.model.GridDimension;
+import ms.model.storage.PackedCellStorage;
+
+/**
+ * The {@code PaddedCascade} class reveals a connected region of cells without adjacent mines
+ * on a {@code PackedCellStorage} with the padded layout.
+ * It walks the region breadth-first in slot space: every neighbour is at a fixed offset and the
+ * sentinel ring is never open, so the inner loop has no bounds checks and no coordinate arithmetic.
+ * Cells are revealed as they are enqueued, so the revealed state doubles as the visited set.
+ */
+public class PaddedCascade implements CascadeStrategy {
+
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+    private final PackedCellStorage storage;
+    private final GridDimension dimensions;
+    private final int[] offsets;
+    private final IntQueue queue;
+
+    /**
+     * Constructor for PaddedCascade.
+     *
+     * @param storage The padded storage containing the cells to be revealed.
+     */
+    public PaddedCascade(PackedCellStorage storage) {
+        this.storage = storage;
+        this.dimensions = storage.dimensions();
+        this.offsets = storage.neighbourSlotOffsets();
+        this.queue = new IntQueue(INITIAL_QUEUE_CAPACITY);
+    }
+
+    @Override
+    public int reveal(int row, int col) {
+        if (!dimensions.isValidPosition(row, col)) {
+            return 0;
+        }
+
+        int start = storage.slotOf(dimensions.toIndex(row, col));
+        if (!storage.isOpenAt(start)) {
+            return 0;
+        }
+
+        storage.revealAt(start);
+        if (storage.countAdjacentMinesAt(start) > 0) {
+            return 1;
+        }
+
+        int revealedCount = 1;
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int slot = queue.poll();
+
+            for (int offset : offsets) {
+                int adjacent = slot + offset;
+                if (storage.isOpenAt(adjacent)) {
+                    storage.revealAt(adjacent);
+                    revealedCount++;
+                    if (storage.countAdjacentMinesAt(adjacent) == 0) {
+                        queue.add(adjacent);
+                    }
+                }
+            }
+        }
+
+        return revealedCount;
+    }
+}
@@ -0,0 +1,202 @@
+package ms.logic.operation;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code ParallelCascade} class reveals a connected region of cells without adjacent mines
+ * on all the workers of a {@code ForkJoinPool}.
+ * Each worker floods from its own part of the frontier and hands half of its queue to a new task
+ * whenever it grows too large. Cells are claimed with a lock-free atomic visited bitmap,
+ * so every cell is revealed by exactly one worker, and the per-worker counts are summed once at the end.
+ * Boards smaller than the threshold are revealed by a {@code QueueCascade}, avoiding the fork-join overhead,
+ * and so are boards whose storage does not support concurrent reveals.
+ */
+public class ParallelCascade implements CascadeStrategy {
+
+    /**
+     * The default number of cells a board must have before the cascade runs in parallel.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 20;
+
+    private static final int SPLIT_SIZE = 1024;
+
+    private final MineField mineField;
+    private final GridDimension dimensions;
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final QueueCascade sequential;
+    private final boolean concurrent;
+
+    /**
+     * Constructor for ParallelCascade, running on the common pool with the default threshold.
+     *
+     * @param mineField The minefield containing the cells to be revealed.
+     * @param dimensions The dimensions of the grid.
+     */
+    public ParallelCascade(MineField mineField, GridDimension dimensions) {
+        this(mineField, dimensions, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor for ParallelCascade.
+     *
+     * @param mineField The minefield containing the cells to be revealed.
+     * @param dimensions The dimensions of the grid.
+     * @param pool The pool whose workers run the cascade.
+     * @param threshold The number of cells a board must have before the cascade runs in parallel.
+     */
+    public ParallelCascade(MineField mineField, GridDimension dimensions, ForkJoinPool pool, int threshold) {
+        this.mineField = mineField;
+        this.dimensions = dimensions;
+        this.pool = pool;
+        this.threshold = threshold;
+        this.sequential = new QueueCascade(mineField, dimensions);
+        this.concurrent = mineField.getStorage().supportsConcurrentReveal();
+    }
+
+    @Override
+    public int reveal(int row, int col) {
+        if (!concurrent || dimensions.totalCells() < threshold) {
+            return sequential.reveal(row, col);
+        }
+
+        if (!dimensions.isValidPosition(row, col)) {
+            return 0;
+        }
+
+        int start = dimensions.toIndex(row, col);
+        if (!canCascadeRevealAt(start)) {
+            return 0;
+        }
+
+        if (mineField.countAdjacentMines(start) > 0) {
+            return revealSingleCell(start) ? 1 : 0;
+        }
+
+        AtomicLongArray visited = new AtomicLongArray((dimensions.totalCells() + 63) >>> 6);
+        claim(visited, start);
+        return pool.invoke(new CascadeTask(visited, new int[]{start}));
+    }
+
+    /**
+     * Reveals the cell at the specified index.
+     *
+     * @param index The linear index of the cell to be revealed.
+     * @return true if the cell was successfully revealed, false otherwise.
+     */
+    private boolean revealSingleCell(int index) {
+        mineField.reveal(index);
+        return mineField.isRevealed(index);
+    }
+
+    /**
+     * Checks if the cell at the specified index can be cascaded for reveal.
+     * A cell can be cascaded if it is not revealed, not flagged, and not mined.
+     *
+     * @param index The linear index of the cell to check.
+     * @return true if the cell can be cascaded for reveal, false otherwise.
+     */
+    private boolean canCascadeRevealAt(int index) {
+        return !mineField.isRevealed(index) && !mineField.isFlagged(index) && !mineField.isMined(index);
+    }
+
+    /**
+     * Atomically marks a cell as visited.
+     *
+     * @param visited The shared visited bitmap.
+     * @param index The linear index of the cell.
+     * @return true if this call marked the cell, false if another worker already had.
+     */
+    private static boolean claim(AtomicLongArray visited, int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        long current = visited.get(word);
+        while ((current & bit) == 0) {
+            long witness = visited.compareAndExchange(word, current, current | bit);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * The {@code CascadeTask} class floods the region from a set of already claimed seeds
+     * and returns the number of cells it revealed.
+     */
+    private final class CascadeTask extends RecursiveTask<Integer> {
+
+        private final AtomicLongArray visited;
+        private final int[] seeds;
+
+        private CascadeTask(AtomicLongArray visited, int[] seeds) {
+            this.visited = visited;
+            this.seeds = seeds;
+        }
+
+        @Override
+        protected Integer compute() {
+            int[] neighbours = new int[8];
+            IntQueue queue = new IntQueue(seeds.length);
+            for (int seed : seeds) {
+                queue.add(seed);
+            }
+
+            List<CascadeTask> forked = new ArrayList<>();
+            int revealedCount = 0;
+
+            while (!queue.isEmpty()) {
+                if (queue.size() > SPLIT_SIZE) {
+                    forked.add(splitOff(queue));
+                }
+
+                int index = queue.poll();
+
+                if (revealSingleCell(index)) {
+                    revealedCount++;
+                }
+
+                if (mineField.countAdjacentMines(index) > 0) {
+                    continue;
+                }
+
+                int found = dimensions.neighbours(index, neighbours);
+                for (int i = 0; i < found; i++) {
+                    if (canCascadeRevealAt(neighbours[i]) && claim(visited, neighbours[i])) {
+                        queue.add(neighbours[i]);
+                    }
+                }
+            }
+
+            for (CascadeTask task : forked) {
+                revealedCount += task.join();
+            }
+            return revealedCount;
+        }
+
+        /**
+         * Moves half of the queue into a new task and forks it.
+         *
+         * @param queue The queue of this task.
+         * @return the forked task
+         */
+        private CascadeTask splitOff(IntQueue queue) {
+            int[] half = new int[queue.size() / 2];
+            for (int i = 0; i < half.length; i++) {
+                half[i] = queue.poll();
+            }
+
+            CascadeTask task = new CascadeTask(visited, half);
+            task.fork();
+            return task;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package ms.logic.operation;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+
+/**
+ * The {@code QueueCascade} class reveals a connected region of cells without adjacent mines.
+ * It walks the region breadth-first with an explicit queue of linear cell indices,
+ * so the size of the region is not limited by the depth of the thread stack.
+ * Cells are revealed as they are enqueued, so the revealed state doubles as the visited set and a reveal
+ * costs nothing beyond the region it opens. The queue and the neighbour buffer are kept between reveals,
+ * so repeated reveals on the same minefield do not allocate.
+ */
+public class QueueCascade implements CascadeStrategy {
+
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+    private final MineField mineField;
+    private final GridDimension dimensions;
+    private final IntQueue queue;
+    private final int[] neighbours;
+
+    /**
+     * Constructor for QueueCascade.
+     *
+     * @param mineField The minefield containing the cells to be revealed.
+     * @param dimensions The dimensions of the grid.
+     */
+    public QueueCascade(MineField mineField, GridDimension dimensions) {
+        this.mineField = mineField;
+        this.dimensions = dimensions;
+        this.queue = new IntQueue(INITIAL_QUEUE_CAPACITY);
+        this.neighbours = new int[8];
+    }
+
+    @Override
+    public int reveal(int row, int col) {
+        if (!dimensions.isValidPosition(row, col)) {
+            return 0;
+        }
+
+        int start = dimensions.toIndex(row, col);
+        if (!canCascadeRevealAt(start)) {
+            return 0;
+        }
+
+        if (mineField.countAdjacentMines(start) > 0) {
+            return revealSingleCell(start) ? 1 : 0;
+        }
+
+        if (!revealSingleCell(start)) {
+            return 0;
+        }
+        queue.add(start);
+
+        int revealedCount = 1;
+        while (!queue.isEmpty()) {
+            int index = queue.poll();
+
+            if (mineField.countAdjacentMines(index) > 0) {
+                continue;
+            }
+
+            int found = dimensions.neighbours(index, neighbours);
+            for (int i = 0; i < found; i++) {
+                int adjacent = neighbours[i];
+                if (canCascadeRevealAt(adjacent) && revealSingleCell(adjacent)) {
+                    revealedCount++;
+                    queue.add(adjacent);
+                }
+            }
+        }
+        return revealedCount;
+    }
+
+    /**
+     * Reveals the cell at the specified index.
+     *
+     * @param index The linear index of the cell to be revealed.
+     * @return true if the cell was successfully revealed, false otherwise.
+     */
+    private boolean revealSingleCell(int index) {
+        mineField.reveal(index);
+        return mineField.isRevealed(index);
+    }
+
+    /**
+     * Checks if the cell at the specified index can be cascaded for reveal.
+     * A cell can be cascaded if it is not revealed, not flagged, and not mined.
+     *
+     * @param index The linear index of the cell to check.
+     * @return true if the cell can be cascaded for reveal, false otherwise.
+     */
+    private boolean canCascadeRevealAt(int index) {
+        return !mineField.isRevealed(index) && !mineField.isFlagged(index) && !mineField.isMined(index);
+    }
+}
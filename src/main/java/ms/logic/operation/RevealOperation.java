@@ -4,7 +4,6 @@ import ms.logic.status.GameStatistics;
 import ms.logic.status.GameStatus;
 import ms.logic.status.GameStatusManager;
 import ms.logic.status.Timer;
-import ms.model.Cell;
 import ms.model.GridDimension;
 import ms.model.MineField;
 import ms.model.Position;
@@ -21,9 +20,10 @@ public class RevealOperation implements GameOperation {
     private final GameStatistics stats;
     private final GameStatusManager statusManager;
     private final Timer timer;
+    private final CascadeStrategy cascade;
 
     /**
-     * Constructor for RevealOperation.
+     * Constructor for RevealOperation, using the default queue-based cascade.
      *
      * @param mineField The minefield containing the cells to be revealed.
      * @param dimensions The dimensions of the grid.
@@ -32,11 +32,31 @@ public class RevealOperation implements GameOperation {
      * @param timer The timer for tracking game time.
      */
     public RevealOperation(MineField mineField, GridDimension dimensions, GameStatistics stats, GameStatusManager statusManager, Timer timer) {
+        this(mineField, dimensions, stats, statusManager, timer, CascadeMode.QUEUE);
+    }
+
+    /**
+     * Constructor for RevealOperation.
+     * If the minefield carries a zero region index, regions are revealed from it
+     * and the cascade of the given mode is only used as a fallback.
+     *
+     * @param mineField The minefield containing the cells to be revealed.
+     * @param dimensions The dimensions of the grid.
+     * @param stats The game statistics to track revealed cells and game status.
+     * @param statusManager The manager for handling game status changes.
+     * @param timer The timer for tracking game time.
+     * @param cascadeMode The cascade used to reveal regions without adjacent mines.
+     */
+    public RevealOperation(MineField mineField, GridDimension dimensions, GameStatistics stats, GameStatusManager statusManager, Timer timer, CascadeMode cascadeMode) {
         this.mineField = mineField;
         this.dimensions = dimensions;
         this.stats = stats;
         this.statusManager = statusManager;
         this.timer = timer;
+        CascadeStrategy strategy = cascadeMode.create(mineField, dimensions);
+        this.cascade = mineField.hasZeroRegionIndex()
+                ? new IndexedCascade(mineField, dimensions, strategy)
+                : strategy;
     }
 
     /**
@@ -48,12 +68,24 @@ public class RevealOperation implements GameOperation {
      */
     @Override
     public void execute(Position position) {
-        if (mineField.getCell(position).isMined()) {
-            handleMineReveal(position);
+        execute(position.row(), position.col());
+    }
+
+    /**
+     * Executes the reveal operation on the specified coordinates.
+     *
+     * @param row The row of the cell to be revealed.
+     * @param col The column of the cell to be revealed.
+     */
+    @Override
+    public void execute(int row, int col) {
+        int index = dimensions.toIndex(row, col);
+        if (mineField.isMined(index)) {
+            handleMineReveal(index);
             return;
         }
 
-        int revealedCount = revealCascade(position);
+        int revealedCount = cascade.reveal(row, col);
         stats.incrementRevealed(revealedCount);
 
         if (stats.isGameWon()) {
@@ -67,10 +99,10 @@ public class RevealOperation implements GameOperation {
      * Handles the logic when a mine is revealed.
      * Reveals the cell and ends the game with a lost status.
      *
-     * @param position The position of the mined cell that was revealed.
+     * @param index The linear index of the mined cell that was revealed.
      */
-    private void handleMineReveal(Position position) {
-        if (revealSingleCell(position)) {
+    private void handleMineReveal(int index) {
+        if (revealSingleCell(index)) {
             stats.incrementRevealed();
             statusManager.endGame(GameStatus.LOST);
             timer.stop();
@@ -78,66 +110,18 @@ public class RevealOperation implements GameOperation {
     }
 
     /**
-     * Reveals a single cell at the specified position.
+     * Reveals a single cell at the specified index.
      * If the cell is already revealed or flagged, it does nothing.
      *
-     * @param position The position of the cell to be revealed.
+     * @param index The linear index of the cell to be revealed.
      * @return true if the cell was successfully revealed, false otherwise.
      */
-    private boolean revealSingleCell(Position position) {
-        Cell cell = mineField.getCell(position);
-        if (cell.isRevealed() || cell.isFlagged()) {
-            return false;
-        }
-
-        cell.reveal();
-        return cell.isRevealed();
-    }
-
-    /**
-     * Reveals a cell and cascades the reveal to adjacent cells if the cell has no adjacent mines.
-     * This method will recursively reveal all connected cells that can be revealed.
-     *
-     * @param startPosition The starting position for the cascade reveal.
-     * @return The total number of cells revealed during the cascade.
-     */
-    private int revealCascade(Position startPosition) {
-        if (!canCascadeRevealAt(startPosition)) {
-            return 0;
-        }
-
-        int revealedCount = 0;
-
-        if (revealSingleCell(startPosition)) {
-            revealedCount++;
-        }
-
-        if (mineField.countAdjacentMines(startPosition) > 0) {
-            return revealedCount;
-        }
-
-        for (Position adjacent : Position.getAdjacentPositions(startPosition)) {
-            if (canCascadeRevealAt(adjacent) && !mineField.getCell(adjacent).isRevealed()) {
-                revealedCount += revealCascade(adjacent);
-            }
-        }
-
-        return revealedCount;
-    }
-
-    /**
-     * Checks if a cell at the specified position can be cascaded for reveal.
-     * A cell can be cascaded if it is not revealed, not flagged, and not mined.
-     *
-     * @param position The position of the cell to check.
-     * @return true if the cell can be cascaded for reveal, false otherwise.
-     */
-    private boolean canCascadeRevealAt(Position position) {
-        if (!dimensions.isValidPosition(position)) {
+    private boolean revealSingleCell(int index) {
+        if (mineField.isRevealed(index) || mineField.isFlagged(index)) {
             return false;
         }
 
-        Cell cell = mineField.getCell(position);
-        return !cell.isRevealed() && !cell.isFlagged() && !cell.isMined();
+        mineField.reveal(index);
+        return mineField.isRevealed(index);
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package ms.logic.operation;
+
+import ms.model.GridDimension;
+import ms.model.storage.PackedCellStorage;
+
+/**
+ * The {@code TiledCascade} class reveals a connected region of cells without adjacent mines
+ * on a {@code PackedCellStorage} with the tiled layout.
+ * It walks the region breadth-first in slot space and asks the layout for the neighbour slots, which are at
+ * fixed offsets for cells inside a tile, so the region is flooded a cache line at a time.
+ * Cells are revealed as they are enqueued, so the revealed state doubles as the visited set.
+ */
+public class TiledCascade implements CascadeStrategy {
+
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+    private final PackedCellStorage storage;
+    private final GridDimension dimensions;
+    private final int[] neighbours;
+    private final IntQueue queue;
+
+    /**
+     * Constructor for TiledCascade.
+     *
+     * @param storage The tiled storage containing the cells to be revealed.
+     */
+    public TiledCascade(PackedCellStorage storage) {
+        this.storage = storage;
+        this.dimensions = storage.dimensions();
+        this.neighbours = new int[8];
+        this.queue = new IntQueue(INITIAL_QUEUE_CAPACITY);
+    }
+
+    @Override
+    public int reveal(int row, int col) {
+        if (!dimensions.isValidPosition(row, col)) {
+            return 0;
+        }
+
+        int start = storage.slotOf(dimensions.toIndex(row, col));
+        if (!storage.isOpenAt(start)) {
+            return 0;
+        }
+
+        storage.revealAt(start);
+        if (storage.countAdjacentMinesAt(start) > 0) {
+            return 1;
+        }
+
+        int revealedCount = 1;
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int slot = queue.poll();
+
+            int found = storage.neighbourSlots(slot, neighbours);
+            for (int i = 0; i < found; i++) {
+                int adjacent = neighbours[i];
+                if (storage.isOpenAt(adjacent)) {
+                    storage.revealAt(adjacent);
+                    revealedCount++;
+                    if (storage.countAdjacentMinesAt(adjacent) == 0) {
+                        queue.add(adjacent);
+                    }
+                }
+            }
+        }
+
+        return revealedCount;
+    }
+}
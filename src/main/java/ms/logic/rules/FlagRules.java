@@ -39,13 +39,25 @@ public class FlagRules implements GameRules {
      */
     @Override
     public void validate(Position position) {
-        dimensions.validatePosition(position);
+        validate(position.row(), position.col());
+    }
+
+    /**
+     * Validates the flagging operation on the specified coordinates.
+     *
+     * @param row The row of the cell to be flagged.
+     * @param col The column of the cell to be flagged.
+     * @throws Game.InvalidGameOperationException if the operation is invalid.
+     */
+    @Override
+    public void validate(int row, int col) {
+        dimensions.validatePosition(row, col);
 
         if (firstReveal) {
             throw new Game.InvalidGameOperationException("Flagging is not a valid first move!");
         }
 
-        if (minefield.getCell(position).isRevealed()) {
+        if (minefield.isRevealed(row, col)) {
             throw new Game.InvalidGameOperationException("Cannot flag a revealed cell!");
         }
     }
@@ -10,4 +10,15 @@ import ms.model.Position;
 @FunctionalInterface
 public interface GameRules {
     void validate(Position position);
+
+    /**
+     * Validates the operation on the specified coordinates.
+     * Implementations on hot paths override this to avoid creating a {@code Position}.
+     *
+     * @param row The row of the cell to be operated on.
+     * @param col The column of the cell to be operated on.
+     */
+    default void validate(int row, int col) {
+        validate(new Position(row, col));
+    }
 }
@@ -40,13 +40,25 @@ public class RevealRules implements GameRules {
      */
     @Override
     public void validate(Position position) {
-        dimensions.validatePosition(position);
+        validate(position.row(), position.col());
+    }
+
+    /**
+     * Validates the reveal operation on the specified coordinates.
+     *
+     * @param row The row of the cell to be revealed.
+     * @param col The column of the cell to be revealed.
+     * @throws Game.InvalidGameOperationException if the operation is invalid.
+     */
+    @Override
+    public void validate(int row, int col) {
+        dimensions.validatePosition(row, col);
 
         if (statusManager.isGameOver()) {
             throw new Game.InvalidGameOperationException("Cannot reveal cells after game is over!");
         }
 
-        if (minefield.getCell(position).isFlagged()) {
+        if (minefield.isFlagged(row, col)) {
             throw new Game.InvalidGameOperationException("Cannot reveal a flagged cell! Remove flag first.");
         }
     }
@@ -75,6 +75,17 @@ public class GameStatistics {
         flagsPlaced = 0;
     }
 
+    /**
+     * Restores previously saved statistics, for example when a game is resumed from a board file.
+     *
+     * @param revealedCells the number of revealed cells
+     * @param flagsPlaced the number of flags placed
+     */
+    public void restore(int revealedCells, int flagsPlaced) {
+        this.revealedCells = revealedCells;
+        this.flagsPlaced = flagsPlaced;
+    }
+
     /**
      * Gets the number of revealed cells.
      *
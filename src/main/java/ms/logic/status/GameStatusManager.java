@@ -50,6 +50,15 @@ public class GameStatusManager {
         currentStatus = GameStatus.NOT_STARTED;
     }
 
+    /**
+     * Restores a previously saved status, for example when a game is resumed from a board file.
+     *
+     * @param status the status to restore
+     */
+    public void restore(GameStatus status) {
+        currentStatus = status;
+    }
+
     /**
      * Gets the current game status.
      *
@@ -1,18 +1,23 @@
 package ms.logic.status;
 
-import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A utility class for measuring elapsed time in milliseconds.
  * This timer can be started, stopped, and reset, and provides
  * the elapsed time between start and stop (or current time if still running).
+ * Times are read from {@code System.nanoTime}, which is monotonic and allocates nothing,
+ * so starting, stopping and resetting the timer produce no garbage.
  */
 public class Timer {
-    /** The instant when the timer was started. Null if not started. */
-    private Instant startTime;
+    /** The {@code System.nanoTime} value when the timer was started. Meaningless if not started. */
+    private long startNanos;
 
-    /** The instant when the timer was stopped. Null if not stopped. */
-    private Instant endTime;
+    /** The {@code System.nanoTime} value when the timer was stopped. Meaningless while running. */
+    private long endNanos;
+
+    /** Flag indicating whether the timer has been started since the last reset. */
+    private boolean started;
 
     /** Flag indicating whether the timer is currently running. */
     private boolean running;
@@ -21,9 +26,7 @@ public class Timer {
      * Constructs a new Timer in a reset state (not running, no time recorded).
      */
     public Timer() {
-        this.startTime = null;
-        this.endTime = null;
-        this.running = false;
+        reset();
     }
 
     /**
@@ -32,8 +35,8 @@ public class Timer {
      */
     public void start() {
         if (!running) {
-            startTime = Instant.now();
-            endTime = null;
+            startNanos = System.nanoTime();
+            started = true;
             running = true;
         }
     }
@@ -44,7 +47,7 @@ public class Timer {
      */
     public void stop() {
         if (running) {
-            endTime = Instant.now();
+            endNanos = System.nanoTime();
             running = false;
         }
     }
@@ -54,21 +57,46 @@ public class Timer {
      * Clears both start and end times and stops the timer.
      */
     public void reset() {
-        startTime = null;
-        endTime = null;
+        startNanos = 0;
+        endNanos = 0;
+        started = false;
         running = false;
     }
 
+    /**
+     * Restores a previously saved timer, for example when a game is resumed from a board file.
+     * A running timer keeps counting from the restored elapsed time.
+     *
+     * @param elapsedMillis the elapsed time in milliseconds
+     * @param running whether the timer was running
+     */
+    public void restore(long elapsedMillis, boolean running) {
+        long now = System.nanoTime();
+        startNanos = now - TimeUnit.MILLISECONDS.toNanos(elapsedMillis);
+        endNanos = now;
+        started = true;
+        this.running = running;
+    }
+
+    /**
+     * Checks if the timer is currently running.
+     *
+     * @return true if the timer is running, false otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
     /**
      * Gets the elapsed time in milliseconds.
      *
      * @return the elapsed time in milliseconds, or 0 if not started
      */
     public long getElapsedTime() {
-        if (startTime == null) {
+        if (!started) {
             return 0;
         }
-        Instant end = endTime != null ? endTime : Instant.now();
-        return end.toEpochMilli() - startTime.toEpochMilli();
+        long end = running ? System.nanoTime() : endNanos;
+        return TimeUnit.NANOSECONDS.toMillis(end - startNanos);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package ms.model;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BitSlicedAdjacency} class counts the adjacent mines of a whole row of cells at once.
+ * The eight neighbour bitsets of 64 cells are built with shifts and summed with carry-save adders
+ * into four bit planes, so one pass of a few dozen {@code long} operations counts 64 cells.
+ */
+public final class BitSlicedAdjacency {
+
+    /**
+     * The offset to pass for a row outside the grid, which counts as having no mines.
+     */
+    public static final int NO_ROW = -1;
+
+    private BitSlicedAdjacency() {
+    }
+
+    /**
+     * Counts the adjacent mines of every cell of a row from the mine bits of the row and its two neighbours.
+     * Each row is {@code wordsPerRow} words of {@code words} starting at the given offset, with bit {@code b}
+     * of word {@code w} holding column {@code w * 64 + b} and the bits past the last column cleared.
+     *
+     * @param words the array holding the mine bits
+     * @param above the offset of the row above, or {@code NO_ROW}
+     * @param current the offset of the row being counted
+     * @param below the offset of the row below, or {@code NO_ROW}
+     * @param wordsPerRow the number of words of one row
+     * @param width the number of columns
+     * @param counts receives the count of column {@code c} at index {@code c}
+     */
+    public static void countRow(long[] words, int above, int current, int below, int wordsPerRow, int width,
+                                byte[] counts) {
+        long abovePrevious = 0;
+        long currentPrevious = 0;
+        long belowPrevious = 0;
+        long aboveWord = wordAt(words, above, 0, wordsPerRow);
+        long currentWord = wordAt(words, current, 0, wordsPerRow);
+        long belowWord = wordAt(words, below, 0, wordsPerRow);
+
+        for (int word = 0; word < wordsPerRow; word++) {
+            long aboveNext = wordAt(words, above, word + 1, wordsPerRow);
+            long currentNext = wordAt(words, current, word + 1, wordsPerRow);
+            long belowNext = wordAt(words, below, word + 1, wordsPerRow);
+
+            long x1 = shiftInLeft(aboveWord, abovePrevious);
+            long x2 = aboveWord;
+            long x3 = shiftInRight(aboveWord, aboveNext);
+            long x4 = shiftInLeft(currentWord, currentPrevious);
+            long x5 = shiftInRight(currentWord, currentNext);
+            long x6 = shiftInLeft(belowWord, belowPrevious);
+            long x7 = belowWord;
+            long x8 = shiftInRight(belowWord, belowNext);
+
+            long sumA = x1 ^ x2 ^ x3;
+            long carryA = (x1 & x2) | (x3 & (x1 ^ x2));
+            long sumB = x4 ^ x5 ^ x6;
+            long carryB = (x4 & x5) | (x6 & (x4 ^ x5));
+            long sumC = sumA ^ sumB ^ x7;
+            long carryC = (sumA & sumB) | (x7 & (sumA ^ sumB));
+
+            long bit0 = sumC ^ x8;
+            long carryOnes = sumC & x8;
+            long twos = carryA ^ carryB ^ carryC;
+            long fours = (carryA & carryB) | (carryC & (carryA ^ carryB));
+            long bit1 = twos ^ carryOnes;
+            long carryTwos = twos & carryOnes;
+            long bit2 = fours ^ carryTwos;
+            long bit3 = fours & carryTwos;
+
+            writeCounts(counts, word << 6, Math.min(64, width - (word << 6)), bit0, bit1, bit2, bit3);
+
+            abovePrevious = aboveWord;
+            currentPrevious = currentWord;
+            belowPrevious = belowWord;
+            aboveWord = aboveNext;
+            currentWord = currentNext;
+            belowWord = belowNext;
+        }
+    }
+
+    private static long wordAt(long[] words, int rowOffset, int word, int wordsPerRow) {
+        return rowOffset == NO_ROW || word >= wordsPerRow ? 0L : words[rowOffset + word];
+    }
+
+    /**
+     * Moves every cell one column right, so each bit holds its left neighbour.
+     */
+    private static long shiftInLeft(long word, long previous) {
+        return (word << 1) | (previous >>> 63);
+    }
+
+    /**
+     * Moves every cell one column left, so each bit holds its right neighbour.
+     */
+    private static long shiftInRight(long word, long next) {
+        return (word >>> 1) | (next << 63);
+    }
+
+    private static void writeCounts(byte[] counts, int from, int cells, long bit0, long bit1, long bit2, long bit3) {
+        if ((bit0 | bit1 | bit2 | bit3) == 0) {
+            Arrays.fill(counts, from, from + cells, (byte) 0);
+            return;
+        }
+
+        for (int bit = 0; bit < cells; bit++) {
+            counts[from + bit] = (byte) (((bit0 >>> bit) & 1)
+                    | (((bit1 >>> bit) & 1) << 1)
+                    | (((bit2 >>> bit) & 1) << 2)
+                    | (((bit3 >>> bit) & 1) << 3));
+        }
+    }
+}
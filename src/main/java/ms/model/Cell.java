@@ -38,6 +38,15 @@ public class Cell {
         return isMined;
     }
 
+    /**
+     * Restores this cell to hidden and not mined, so the object can be reused for a new board.
+     * Cell views handed out by other storage engines are cleared through their storage instead.
+     */
+    public void reset() {
+        this.status = CellState.HIDDEN;
+        this.isMined = false;
+    }
+
     /**
      * Sets the mine status of this cell.
      *
@@ -0,0 +1,25 @@
+package ms.model;
+
+/**
+ * The {@code GenerationReport} record holds the time spent in each phase of a parallel board generation.
+ *
+ * @param stripes the number of row stripes the grid was split into
+ * @param partitionNanos the time spent drawing the number of mines of each stripe
+ * @param placementNanos the time spent placing the mines inside the stripes
+ * @param adjacencyNanos the time spent counting adjacent mines and loading the storage
+ */
+public record GenerationReport(int stripes, long partitionNanos, long placementNanos, long adjacencyNanos) {
+
+    /**
+     * @return the total time of the generation, in nanoseconds
+     */
+    public long totalNanos() {
+        return partitionNanos + placementNanos + adjacencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d stripes: partition %.2f ms, placement %.2f ms, adjacency %.2f ms",
+                stripes, partitionNanos / 1e6, placementNanos / 1e6, adjacencyNanos / 1e6);
+    }
+}
@@ -6,6 +6,9 @@ package ms.model;
  */
 public record GridDimension(int height, int width) {
 
+    private static final int[] NEIGHBOUR_ROW_DELTAS = {-1, -1, -1, 0, 0, 1, 1, 1};
+    private static final int[] NEIGHBOUR_COL_DELTAS = {-1, 0, 1, -1, 1, -1, 0, 1};
+
     /**
      * Constructs a {@code GridDimension} with the specified height and width.
      * Both dimensions must be positive values.
@@ -49,8 +52,28 @@ public record GridDimension(int height, int width) {
      * @return {@code true} if the position is valid, {@code false} otherwise
      */
     public boolean isValidPosition(Position position) {
-        return position.row() >= 0 && position.row() < height &&
-                position.col() >= 0 && position.col() < width;
+        return isValidPosition(position.row(), position.col());
+    }
+
+    /**
+     * Checks if the given coordinates are within the valid bounds of the grid.
+     *
+     * @param row the row to validate
+     * @param col the column to validate
+     * @return {@code true} if the coordinates are valid, {@code false} otherwise
+     */
+    public boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < height && col >= 0 && col < width;
+    }
+
+    /**
+     * Checks if the given linear index addresses a cell of the grid.
+     *
+     * @param index the linear index to validate
+     * @return {@code true} if the index is valid, {@code false} otherwise
+     */
+    public boolean isValidIndex(int index) {
+        return index >= 0 && index < totalCells();
     }
 
     /**
@@ -61,10 +84,110 @@ public record GridDimension(int height, int width) {
      * @throws IndexOutOfBoundsException if the position is outside the valid range
      */
     public void validatePosition(Position position) {
-        if (!isValidPosition(position)) {
+        validatePosition(position.row(), position.col());
+    }
+
+    /**
+     * Validates that the given coordinates are within the grid bounds,
+     * and throws {@code IndexOutOfBoundsException} if they are not.
+     *
+     * @param row the row to validate
+     * @param col the column to validate
+     * @throws IndexOutOfBoundsException if the coordinates are outside the valid range
+     */
+    public void validatePosition(int row, int col) {
+        if (!isValidPosition(row, col)) {
             throw new IndexOutOfBoundsException(
                     String.format("Invalid cell coordinates: (%d, %d). Valid range: (0,0) to (%d,%d)",
-                            position.row(), position.col(), height - 1, width - 1));
+                            row, col, height - 1, width - 1));
+        }
+    }
+
+    /**
+     * Validates that the given linear index addresses a cell of the grid,
+     * and throws {@code IndexOutOfBoundsException} if it does not.
+     *
+     * @param index the linear index to validate
+     * @throws IndexOutOfBoundsException if the index is outside the valid range
+     */
+    public void validateIndex(int index) {
+        if (!isValidIndex(index)) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Invalid cell index: %d. Valid range: 0 to %d", index, totalCells() - 1));
+        }
+    }
+
+    /**
+     * Converts coordinates into the row-major linear index of the cell.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the linear index, {@code row * width + col}
+     */
+    public int toIndex(int row, int col) {
+        return row * width + col;
+    }
+
+    /**
+     * Converts a position into the row-major linear index of the cell.
+     *
+     * @param position the {@code Position} of the cell
+     * @return the linear index of the cell
+     */
+    public int toIndex(Position position) {
+        return toIndex(position.row(), position.col());
+    }
+
+    /**
+     * Gets the row of the cell at the given linear index.
+     *
+     * @param index the linear index of the cell
+     * @return the row of the cell
+     */
+    public int rowOf(int index) {
+        return index / width;
+    }
+
+    /**
+     * Gets the column of the cell at the given linear index.
+     *
+     * @param index the linear index of the cell
+     * @return the column of the cell
+     */
+    public int colOf(int index) {
+        return index % width;
+    }
+
+    /**
+     * Converts a linear index back into a {@code Position}.
+     *
+     * @param index the linear index of the cell
+     * @return the {@code Position} of the cell
+     */
+    public Position toPosition(int index) {
+        return new Position(rowOf(index), colOf(index));
+    }
+
+    /**
+     * Writes the linear indices of the neighbours of a cell that lie inside the grid
+     * into the given buffer, in the order of {@code Position.getAdjacentPositions}, without allocating.
+     *
+     * @param index the linear index of the center cell
+     * @param neighbours a buffer of at least eight elements receiving the neighbour indices
+     * @return the number of neighbours written
+     */
+    public int neighbours(int index, int[] neighbours) {
+        int row = rowOf(index);
+        int col = colOf(index);
+        int count = 0;
+
+        for (int i = 0; i < NEIGHBOUR_ROW_DELTAS.length; i++) {
+            int r = row + NEIGHBOUR_ROW_DELTAS[i];
+            int c = col + NEIGHBOUR_COL_DELTAS[i];
+            if (isValidPosition(r, c)) {
+                neighbours[count++] = index + NEIGHBOUR_ROW_DELTAS[i] * width + NEIGHBOUR_COL_DELTAS[i];
+            }
         }
+        return count;
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package ms.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code Hypergeometric} class samples how many of {@code draws} cells taken without replacement
+ * from {@code population} cells hold one of {@code successes} mines.
+ * It inverts the distribution starting from its mode, so a draw costs about one step per standard deviation.
+ */
+final class Hypergeometric {
+
+    private static final int LOG_FACTORIAL_TABLE_SIZE = 256;
+    private static final double[] LOG_FACTORIALS = new double[LOG_FACTORIAL_TABLE_SIZE];
+
+    static {
+        for (int i = 1; i < LOG_FACTORIAL_TABLE_SIZE; i++) {
+            LOG_FACTORIALS[i] = LOG_FACTORIALS[i - 1] + Math.log(i);
+        }
+    }
+
+    private Hypergeometric() {
+    }
+
+    /**
+     * Draws one sample of the hypergeometric distribution.
+     *
+     * @param random the source of randomness
+     * @param population the number of cells
+     * @param successes the number of mines among the cells
+     * @param draws the number of cells drawn
+     * @return the number of mines among the drawn cells
+     */
+    static long sample(RandomGenerator random, long population, long successes, long draws) {
+        long low = Math.max(0, draws - (population - successes));
+        long high = Math.min(draws, successes);
+        if (low == high) {
+            return low;
+        }
+
+        long failures = population - successes;
+        long mode = Math.min(high, Math.max(low, (long) ((draws + 1.0) * (successes + 1.0) / (population + 2.0))));
+        double modeProbability = Math.exp(logChoose(successes, mode) + logChoose(failures, draws - mode)
+                - logChoose(population, draws));
+
+        double u = random.nextDouble() - modeProbability;
+        long down = mode;
+        long up = mode;
+        double downProbability = modeProbability;
+        double upProbability = modeProbability;
+
+        while (u > 0 && (down > low || up < high)) {
+            if (up < high) {
+                upProbability *= (double) (successes - up) * (draws - up)
+                        / ((double) (up + 1) * (failures - draws + up + 1));
+                up++;
+                u -= upProbability;
+                if (u <= 0) {
+                    return up;
+                }
+            }
+            if (down > low) {
+                downProbability *= (double) down * (failures - draws + down)
+                        / ((double) (successes - down + 1) * (draws - down + 1));
+                down--;
+                u -= downProbability;
+                if (u <= 0) {
+                    return down;
+                }
+            }
+        }
+        return mode;
+    }
+
+    private static double logChoose(long n, long k) {
+        return logFactorial(n) - logFactorial(k) - logFactorial(n - k);
+    }
+
+    /**
+     * Computes {@code ln(n!)}, from a table for small values and from Stirling's series otherwise.
+     */
+    private static double logFactorial(long n) {
+        if (n < LOG_FACTORIAL_TABLE_SIZE) {
+            return LOG_FACTORIALS[(int) n];
+        }
+        double x = n;
+        double inverse = 1.0 / x;
+        double inverseSquared = inverse * inverse;
+        return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x)
+                + inverse * (1.0 / 12 - inverseSquared * (1.0 / 360 - inverseSquared / 1260));
+    }
+}
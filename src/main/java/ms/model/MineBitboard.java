@@ -0,0 +1,136 @@
+package ms.model;
+
+import java.util.Arrays;
+
+/**
+ * The {@code MineBitboard} class holds the mine layer of a grid as one bit per cell.
+ * Every row starts on a fresh {@code long} word, so rows can be written by different threads
+ * without sharing a word.
+ */
+public final class MineBitboard {
+
+    private final GridDimension dimensions;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    /**
+     * Constructs an empty {@code MineBitboard} for the given dimensions.
+     *
+     * @param dimensions the dimensions of the grid
+     */
+    public MineBitboard(GridDimension dimensions) {
+        this.dimensions = dimensions;
+        this.wordsPerRow = (dimensions.width() + 63) >>> 6;
+        this.words = new long[dimensions.height() * wordsPerRow];
+    }
+
+    /**
+     * @return the dimensions of the grid
+     */
+    public GridDimension dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return the number of {@code long} words holding one row
+     */
+    public int wordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Gets one word of a row. Bit {@code b} of word {@code w} is the cell in column {@code w * 64 + b};
+     * bits past the last column are always zero.
+     *
+     * @param row the row of the word
+     * @param word the index of the word within the row
+     * @return the bits of the word
+     */
+    public long word(int row, int word) {
+        return words[row * wordsPerRow + word];
+    }
+
+    /**
+     * Checks if the cell at the specified position holds a mine.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is mined, {@code false} otherwise
+     */
+    public boolean isMined(int row, int col) {
+        return (words[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    /**
+     * Sets the mine status of the cell at the specified position.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param mined {@code true} to place a mine, {@code false} to remove it
+     */
+    public void setMined(int row, int col, boolean mined) {
+        int word = row * wordsPerRow + (col >>> 6);
+        if (mined) {
+            words[word] |= 1L << col;
+        } else {
+            words[word] &= ~(1L << col);
+        }
+    }
+
+    /**
+     * Removes every mine.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Places a mine on every cell of the given rows.
+     *
+     * @param fromRow the first row, inclusive
+     * @param toRow the last row, exclusive
+     */
+    public void fillRows(int fromRow, int toRow) {
+        int tailBits = dimensions.width() & 63;
+        long tailMask = tailBits == 0 ? -1L : (1L << tailBits) - 1;
+
+        for (int row = fromRow; row < toRow; row++) {
+            int start = row * wordsPerRow;
+            for (int word = 0; word < wordsPerRow - 1; word++) {
+                words[start + word] = -1L;
+            }
+            words[start + wordsPerRow - 1] = tailMask;
+        }
+    }
+
+    /**
+     * Counts the mines adjacent to the cell at the specified position.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the number of adjacent mines (0-8)
+     */
+    public int countAdjacentMines(int row, int col) {
+        int count = 0;
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, dimensions.height() - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, dimensions.width() - 1); c++) {
+                if ((r != row || c != col) && isMined(r, c)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the adjacent mines of every cell of a row with {@code BitSlicedAdjacency}.
+     *
+     * @param row the row to count
+     * @param counts receives the count of column {@code c} at index {@code c}
+     */
+    public void countAdjacentMines(int row, byte[] counts) {
+        int above = row > 0 ? (row - 1) * wordsPerRow : BitSlicedAdjacency.NO_ROW;
+        int below = row < dimensions.height() - 1 ? (row + 1) * wordsPerRow : BitSlicedAdjacency.NO_ROW;
+        BitSlicedAdjacency.countRow(words, above, row * wordsPerRow, below, wordsPerRow, dimensions.width(), counts);
+    }
+}
@@ -1,66 +1,83 @@
 package ms.model;
 
-import java.util.Random;
+import ms.model.storage.CellStorage;
+import ms.model.storage.CellStorageFactory;
+import ms.model.storage.ObjectCellStorage;
+import ms.model.storage.SessionCellStorage;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
  * The {@code MineField} class manages the grid of cells, mine placement, and adjacency calculations.
  * It handles minefield initialization and provides access to individual cells.
+ * Closing a minefield releases the resources of its storage engine.
  */
-public class MineField {
+public class MineField implements AutoCloseable {
 
     private final GridDimension dimensions;
     private final int mines;
-    private final Cell[][] field;
+    private final CellStorage storage;
+    private SafeZone safeZone = SafeZone.FIRST_CELL;
+    private RandomSource randomSource = RandomSource.withRandomSeed(RandomSource.DEFAULT_ALGORITHM);
+    private ForkJoinPool generationPool;
+    private GenerationReport generationReport;
+    private boolean indexZeroRegions;
+    private ZeroRegionIndex zeroRegionIndex;
+    private MineLayerCache mineLayerCache;
+    private RandomGenerator relocationRandom;
 
     /**
-     * Constructs a new {@code MineField} with the specified dimensions and mine count.
+     * Constructs a new {@code MineField} with the specified dimensions and mine count,
+     * backed by one {@code Cell} object per position.
      * Initializes all cells but does not place mines until {@code initializeGrid} is called.
      *
      * @param dimensions the {@code GridDimension} defining the size of the minefield
      * @param mines the number of mines to be placed in the field
      */
     public MineField(GridDimension dimensions, int mines) {
-        this.dimensions = dimensions;
-        this.mines = mines;
-        this.field = new Cell[dimensions.height()][dimensions.width()];
-
-        initializeCells();
+        this(dimensions, mines, ObjectCellStorage::new);
     }
 
     /**
-     * Initializes all cells in the grid to their default (empty) state.
+     * Constructs a new {@code MineField} with the specified dimensions and mine count,
+     * backed by the storage engine created by the given factory.
+     * Initializes all cells but does not place mines until {@code initializeGrid} is called.
+     *
+     * @param dimensions the {@code GridDimension} defining the size of the minefield
+     * @param mines the number of mines to be placed in the field
+     * @param storageFactory the factory creating the {@code CellStorage} that holds the cells
      */
-    private void initializeCells() {
-        for (int i = 0; i < dimensions.height(); i++) {
-            for (int j = 0; j < dimensions.width(); j++) {
-                field[i][j] = new Cell();
-            }
-        }
+    public MineField(GridDimension dimensions, int mines, CellStorageFactory storageFactory) {
+        this.dimensions = dimensions;
+        this.mines = mines;
+        this.storage = storageFactory.createStorage(dimensions, mines);
     }
 
     /**
-     * Places mines randomly in the field, excluding the specified position.
-     * This ensures the first clicked position is always safe.
+     * Places mines uniformly at random in the field, keeping the safe zone around the first click free.
+     * If the mines do not fit outside the safe zone, only the clicked cell is kept free.
+     * A new generator is created from the random source, so the layout depends only on the source and the click.
      *
-     * @param excludePosition the position to exclude from mine placement
+     * @param excludePosition the position of the first click
      */
     private void placeMinesRandomly(Position excludePosition) {
-        Random random = new Random();
-        int placedMines = 0;
+        int[] excluded = safeZone.excludedIndices(dimensions, excludePosition, mines);
 
-        while (placedMines < mines) {
-            int row = random.nextInt(dimensions.height());
-            int col = random.nextInt(dimensions.width());
-
-            Position candidate = new Position(row, col);
-
-            if (candidate.equals(excludePosition) || field[row][col].isMined()) {
-                continue;
-            }
-
-            field[row][col].setMined(true);
-            placedMines++;
+        RandomGenerator random = randomSource.create();
+        if (generationPool == null) {
+            MinePlacer.place(storage, mines, excluded, random);
+            generationReport = null;
+            return;
         }
+
+        SplittableGenerator splittable = random instanceof SplittableGenerator generator
+                ? generator
+                : new SplittableRandom(randomSource.seed());
+        generationReport = ParallelMinePlacer.place(storage, mines, excluded, splittable, generationPool);
     }
 
     /**
@@ -84,24 +101,350 @@ public class MineField {
         return mines;
     }
 
+    /**
+     * @return the dimensions of the field
+     */
+    public GridDimension getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return the storage engine holding the cells of the minefield
+     */
+    public CellStorage getStorage() {
+        return storage;
+    }
+
     /**
      * Gets the cell at the specified position.
      *
      * @param position the {@code Position} of the desired cell
      * @return the {@code Cell} at the given position
+     * @throws IndexOutOfBoundsException if the position is invalid
      */
     public Cell getCell(Position position) {
-        return field[position.row()][position.col()];
+        return getCell(position.row(), position.col());
+    }
+
+    /**
+     * Gets the cell at the specified coordinates.
+     *
+     * @param row the row of the desired cell
+     * @param col the column of the desired cell
+     * @return the {@code Cell} at the given coordinates
+     * @throws IndexOutOfBoundsException if the coordinates are invalid
+     */
+    public Cell getCell(int row, int col) {
+        dimensions.validatePosition(row, col);
+        return storage.getCell(dimensions.toIndex(row, col));
+    }
+
+    /**
+     * Gets the cell at the specified linear index.
+     *
+     * @param index the linear index of the desired cell
+     * @return the {@code Cell} at the given index
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Cell getCell(int index) {
+        dimensions.validateIndex(index);
+        return storage.getCell(index);
+    }
+
+    /**
+     * Checks if the cell at the specified linear index contains a mine.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is mined, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public boolean isMined(int index) {
+        dimensions.validateIndex(index);
+        return storage.isMined(index);
+    }
+
+    /**
+     * Checks if the cell at the specified coordinates contains a mine.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is mined, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the coordinates are invalid
+     */
+    public boolean isMined(int row, int col) {
+        dimensions.validatePosition(row, col);
+        return storage.isMined(dimensions.toIndex(row, col));
+    }
+
+    /**
+     * Checks if the cell at the specified linear index has been revealed (either normally or by explosion).
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is revealed or exploded, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public boolean isRevealed(int index) {
+        dimensions.validateIndex(index);
+        return storage.isRevealed(index);
+    }
+
+    /**
+     * Checks if the cell at the specified coordinates has been revealed (either normally or by explosion).
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is revealed or exploded, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the coordinates are invalid
+     */
+    public boolean isRevealed(int row, int col) {
+        dimensions.validatePosition(row, col);
+        return storage.isRevealed(dimensions.toIndex(row, col));
+    }
+
+    /**
+     * Checks if the cell at the specified linear index is currently flagged.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is flagged, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public boolean isFlagged(int index) {
+        dimensions.validateIndex(index);
+        return storage.isFlagged(index);
+    }
+
+    /**
+     * Checks if the cell at the specified coordinates is currently flagged.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is flagged, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the coordinates are invalid
+     */
+    public boolean isFlagged(int row, int col) {
+        dimensions.validatePosition(row, col);
+        return storage.isFlagged(dimensions.toIndex(row, col));
+    }
+
+    /**
+     * Reveals the cell at the specified linear index.
+     *
+     * @param index the linear index of the cell
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public void reveal(int index) {
+        dimensions.validateIndex(index);
+        storage.reveal(index);
+    }
+
+    /**
+     * Toggles the flag state of the cell at the specified linear index.
+     *
+     * @param index the linear index of the cell
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public void toggleFlag(int index) {
+        dimensions.validateIndex(index);
+        storage.toggleFlag(index);
+    }
+
+    /**
+     * Sets the cells around the first click that are kept free of mines by {@code initializeGrid}.
+     *
+     * @param safeZone the {@code SafeZone} to apply
+     */
+    public void setSafeZone(SafeZone safeZone) {
+        this.safeZone = safeZone;
+    }
+
+    /**
+     * @return the cells around the first click that are kept free of mines
+     */
+    public SafeZone getSafeZone() {
+        return safeZone;
+    }
+
+    /**
+     * Sets the generator and seed used by {@code initializeGrid} to place the mines.
+     *
+     * @param randomSource the {@code RandomSource} to use
+     */
+    public void setRandomSource(RandomSource randomSource) {
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Gets the generator and seed of this minefield, which together with the first click reproduce its layout.
+     * A pregenerated board is the exception: its mines are placed before the first click and then partly
+     * moved, so the same source and click only give back its layout when the board is pregenerated again.
+     *
+     * @return the {@code RandomSource} of the minefield
+     */
+    public RandomSource getRandomSource() {
+        return randomSource;
+    }
+
+    /**
+     * Enables or disables parallel generation on the common {@code ForkJoinPool}.
+     * Parallel generation yields a different board than sequential generation for the same seed,
+     * but the same board for every number of threads.
+     *
+     * @param parallelGeneration {@code true} to place mines with {@code ParallelMinePlacer}
+     */
+    public void setParallelGeneration(boolean parallelGeneration) {
+        setGenerationPool(parallelGeneration ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Sets the pool used to generate the board in parallel.
+     *
+     * @param generationPool the pool running {@code ParallelMinePlacer}, or {@code null} to generate sequentially
+     */
+    public void setGenerationPool(ForkJoinPool generationPool) {
+        this.generationPool = generationPool;
     }
 
     /**
-     * Initializes the minefield by placing mines randomly, excluding the first click position.
+     * Gets the phase timings of the last parallel generation.
+     *
+     * @return the {@code GenerationReport}, or {@code null} if the board was generated sequentially
+     */
+    public GenerationReport getGenerationReport() {
+        return generationReport;
+    }
+
+    /**
+     * Enables or disables labelling of the zero regions when the grid is initialized.
+     *
+     * @param indexZeroRegions {@code true} to build a {@code ZeroRegionIndex} in {@code initializeGrid}
+     */
+    public void setIndexZeroRegions(boolean indexZeroRegions) {
+        this.indexZeroRegions = indexZeroRegions;
+    }
+
+    /**
+     * Checks if a zero region index was built for the current mine layout.
+     *
+     * @return {@code true} if a {@code ZeroRegionIndex} is available, {@code false} otherwise
+     */
+    public boolean hasZeroRegionIndex() {
+        return zeroRegionIndex != null;
+    }
+
+    /**
+     * Gets the zero region index built by the last call to {@code initializeGrid}.
+     * Mines placed or removed afterwards through {@code getCell} are not reflected in it.
+     *
+     * @return the {@code ZeroRegionIndex}, or {@code null} if indexing is disabled
+     */
+    public ZeroRegionIndex getZeroRegionIndex() {
+        return zeroRegionIndex;
+    }
+
+    /**
+     * Sets the cache of shared mine layers used when the storage is a {@code SessionCellStorage}.
+     * Such a minefield does not place mines itself: {@code initializeGrid} attaches the layer cached for
+     * its dimensions, mine count, random source, safe zone and first click, generating it on a miss.
+     *
+     * @param mineLayerCache the cache of shared layers, or {@code null} to place mines in the storage
+     */
+    public void setMineLayerCache(MineLayerCache mineLayerCache) {
+        this.mineLayerCache = mineLayerCache;
+    }
+
+    /**
+     * Places the mines uniformly at random over the whole board before the first click is known,
+     * so that the board can be generated ahead of time, for instance by a {@code BoardPool}.
+     * {@code initializeGrid} then only moves the mines that fall in the safe zone, each to a uniformly random
+     * free cell outside it, which keeps the layout uniformly random among those with a free safe zone.
+     * The layout differs from the one {@code initializeGrid} places from the same random source and click,
+     * so {@code getRandomSource} only reproduces it together with this method.
+     *
+     * @throws IllegalArgumentException if the mines do not fit on the board
+     * @throws IllegalStateException if the minefield cannot be pregenerated
+     */
+    public void pregenerate() {
+        if (!canPregenerate()) {
+            throw new IllegalStateException("The mines of a session storage come from a shared layer "
+                    + "and cannot be pregenerated");
+        }
+        RandomGenerator random = randomSource.create();
+        MinePlacer.place(storage, mines, new int[0], random);
+        relocationRandom = random;
+    }
+
+    /**
+     * Checks if the mines can be placed by {@code pregenerate}. A minefield backed by a
+     * {@code SessionCellStorage} cannot, since its mines belong to a shared layer.
+     *
+     * @return {@code true} if the board can be pregenerated, {@code false} otherwise
+     */
+    public boolean canPregenerate() {
+        return !(storage instanceof SessionCellStorage);
+    }
+
+    /**
+     * Checks if the mines were placed by {@code pregenerate} and still wait for the first click.
+     *
+     * @return {@code true} if the board is pregenerated, {@code false} otherwise
+     */
+    public boolean isPregenerated() {
+        return relocationRandom != null;
+    }
+
+    /**
+     * Moves every mine of the safe zone to a uniformly random cell that is outside the zone and not mined,
+     * continuing the generator of {@code pregenerate}.
+     *
+     * @param firstClick the position of the first click
+     * @throws IllegalArgumentException if the mines do not fit outside the clicked cell
+     */
+    private void relocateSafeZoneMines(Position firstClick) {
+        int[] excluded = safeZone.excludedIndices(dimensions, firstClick, mines);
+        int totalCells = dimensions.totalCells();
+        if (mines > totalCells - excluded.length) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot place %d mines in %d free cells", mines, totalCells - excluded.length));
+        }
+
+        for (int index : excluded) {
+            if (!storage.isMined(index)) {
+                continue;
+            }
+
+            storage.setMined(index, false);
+            int target;
+            do {
+                target = relocationRandom.nextInt(totalCells);
+            } while (storage.isMined(target) || Arrays.binarySearch(excluded, target) >= 0);
+            storage.setMined(target, true);
+        }
+        relocationRandom = null;
+    }
+
+    /**
+     * Initializes the minefield by placing mines randomly, excluding the safe zone around the first click.
+     * A session storage backed by a mine layer cache gets its shared layer instead, and a pregenerated
+     * minefield only moves the mines out of the safe zone.
+     * If zero region indexing is enabled, the regions of the new layout are labelled as well.
      * This method should be called when the first cell is revealed.
      *
      * @param firstClickPosition the position of the first click, which will be mine-free
+     * @throws IllegalStateException if the storage is a session storage and no mine layer cache is set
      */
     public void initializeGrid(Position firstClickPosition) {
-        placeMinesRandomly(firstClickPosition);
+        if (storage instanceof SessionCellStorage session) {
+            if (mineLayerCache == null) {
+                throw new IllegalStateException("A session storage needs a mine layer cache to get its mines");
+            }
+            session.attach(mineLayerCache.get(
+                    new MineLayerCache.Key(dimensions, mines, randomSource, safeZone, firstClickPosition)));
+        } else if (relocationRandom != null) {
+            relocateSafeZoneMines(firstClickPosition);
+        } else {
+            placeMinesRandomly(firstClickPosition);
+        }
+        zeroRegionIndex = indexZeroRegions ? ZeroRegionIndex.build(storage) : null;
     }
 
     /**
@@ -112,16 +455,67 @@ public class MineField {
      * @throws IndexOutOfBoundsException if the center position is invalid
      */
     public int countAdjacentMines(Position center) {
+        return countAdjacentMines(center.row(), center.col());
+    }
+
+    /**
+     * Counts the number of mines adjacent to the specified coordinates.
+     *
+     * @param row the row of the center cell
+     * @param col the column of the center cell
+     * @return the number of adjacent mines (0-8)
+     * @throws IndexOutOfBoundsException if the coordinates are invalid
+     */
+    public int countAdjacentMines(int row, int col) {
+        dimensions.validatePosition(row, col);
+        return storage.countAdjacentMines(dimensions.toIndex(row, col));
+    }
 
-        dimensions.validatePosition(center);
+    /**
+     * Counts the number of mines adjacent to the cell at the specified linear index.
+     *
+     * @param index the linear index of the center cell
+     * @return the number of adjacent mines (0-8)
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int countAdjacentMines(int index) {
+        dimensions.validateIndex(index);
+        return storage.countAdjacentMines(index);
+    }
 
-        int mineCount = 0;
-        for (Position adjacent : Position.getAdjacentPositions(center)) {
-            if (dimensions.isValidPosition(adjacent) && getCell(adjacent).isMined()) {
-                mineCount++;
-            }
-        }
-        return mineCount;
+    /**
+     * Counts the adjacent mines of every cell of a row in one pass,
+     * which is cheaper than calling {@code countAdjacentMines} for each cell of the row.
+     *
+     * @param row the row to count
+     * @param counts receives the count of column {@code c} at index {@code c}, for every column
+     * @throws IndexOutOfBoundsException if the row is invalid
+     */
+    public void countAdjacentMinesInRow(int row, byte[] counts) {
+        dimensions.validatePosition(row, 0);
+        storage.countAdjacentMinesInRow(row, counts);
+    }
+
+    /**
+     * Clears the board in place for a new game: every cell becomes hidden and not mined,
+     * and the zero region index and the pregenerated state are dropped.
+     * The storage keeps its memory, so the next {@code initializeGrid} generates the new board without
+     * allocating a new minefield.
+     */
+    public void clear() {
+        storage.clear();
+        zeroRegionIndex = null;
+        generationReport = null;
+        relocationRandom = null;
+    }
+
+    /**
+     * Releases the resources held by the storage engine, such as native memory.
+     * The minefield must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        storage.close();
     }
 
     /**
@@ -147,11 +541,9 @@ public class MineField {
             return false;
         }
 
-        for (int i = 0; i < dimensions.height(); i++) {
-            for (int j = 0; j < dimensions.width(); j++) {
-                if (this.field[i][j].isMined() != other.field[i][j].isMined()) {
-                    return false;
-                }
+        for (int i = 0; i < dimensions.totalCells(); i++) {
+            if (this.storage.isMined(i) != other.storage.isMined(i)) {
+                return false;
             }
         }
 
@@ -167,10 +559,8 @@ public class MineField {
     public int hashCode() {
         int result = 17;
         result = 31 * result + dimensions.hashCode();
-        for (int i = 0; i < dimensions.height(); i++) {
-            for (int j = 0; j < dimensions.width(); j++) {
-                result = 31 * result + (field[i][j].isMined() ? 1 : 0);
-            }
+        for (int i = 0; i < dimensions.totalCells(); i++) {
+            result = 31 * result + (storage.isMined(i) ? 1 : 0);
         }
         return result;
     }
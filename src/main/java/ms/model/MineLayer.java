@@ -0,0 +1,83 @@
+package ms.model;
+
+import ms.model.storage.PackedCellStorage;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code MineLayer} class is an immutable mine layout together with its adjacent-mine counts.
+ * It is generated once and can then be read by any number of sessions and threads, each keeping
+ * its own revealed and flagged state in a {@code SessionCellStorage}.
+ */
+public final class MineLayer {
+
+    private final PackedCellStorage cells;
+    private final int mines;
+
+    private MineLayer(PackedCellStorage cells, int mines) {
+        this.cells = cells;
+        this.mines = mines;
+    }
+
+    /**
+     * Generates a layer the same way {@code MineField.initializeGrid} places mines, so a layer and a minefield
+     * generated from the same random source and first click have the same mines.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param mines the number of mines to place
+     * @param safeZone the cells around the first click that never receive a mine
+     * @param firstClick the position of the first click
+     * @param random the source of randomness
+     * @return the generated layer
+     */
+    public static MineLayer generate(GridDimension dimensions, int mines, SafeZone safeZone, Position firstClick,
+                                     RandomGenerator random) {
+        PackedCellStorage cells = new PackedCellStorage(dimensions);
+        MinePlacer.place(cells, mines, safeZone.excludedIndices(dimensions, firstClick, mines), random);
+        return new MineLayer(cells, mines);
+    }
+
+    /**
+     * @return the dimensions of the grid
+     */
+    public GridDimension dimensions() {
+        return cells.dimensions();
+    }
+
+    /**
+     * @return the number of mines in the layer
+     */
+    public int getMines() {
+        return mines;
+    }
+
+    /**
+     * Checks if the cell at the specified index contains a mine.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is mined, {@code false} otherwise
+     */
+    public boolean isMined(int index) {
+        return cells.isMined(index);
+    }
+
+    /**
+     * Gets the number of mines adjacent to the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @return the number of adjacent mines (0-8)
+     */
+    public int countAdjacentMines(int index) {
+        return cells.countAdjacentMines(index);
+    }
+
+    /**
+     * Copies the adjacent-mine counts of a row.
+     *
+     * @param row the row to count
+     * @param counts receives the count of column {@code c} at index {@code c}
+     */
+    public void countAdjacentMinesInRow(int row, byte[] counts) {
+        cells.countAdjacentMinesInRow(row, counts);
+    }
+}
@@ -0,0 +1,91 @@
+package ms.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code MineLayerCache} class keeps the most recently used {@code MineLayer}s, so that every session
+ * playing the same board shares one layer. A layer is identified by everything that determines its mines:
+ * the dimensions, the mine count, the random source and the safe zone around the first click.
+ * Layers are generated outside the lock; when two threads miss on the same key, both generate the same
+ * layer and the first one stored is kept.
+ */
+public class MineLayerCache {
+
+    /**
+     * The number of layers kept by a cache created without an explicit capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final Map<Key, MineLayer> layers;
+
+    /**
+     * Constructs a cache keeping up to {@value #DEFAULT_CAPACITY} layers.
+     */
+    public MineLayerCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a cache keeping up to the given number of layers, evicting the least recently used one.
+     *
+     * @param capacity the maximum number of cached layers
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public MineLayerCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.layers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, MineLayer> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the layer of a board, generating and caching it if it is not cached.
+     *
+     * @param key the description of the board
+     * @return the shared layer
+     */
+    public MineLayer get(Key key) {
+        synchronized (layers) {
+            MineLayer layer = layers.get(key);
+            if (layer != null) {
+                return layer;
+            }
+        }
+
+        MineLayer generated = MineLayer.generate(key.dimensions(), key.mines(), key.safeZone(), key.firstClick(),
+                key.randomSource().create());
+        synchronized (layers) {
+            MineLayer stored = layers.putIfAbsent(key, generated);
+            return stored != null ? stored : generated;
+        }
+    }
+
+    /**
+     * @return the number of cached layers
+     */
+    public int size() {
+        synchronized (layers) {
+            return layers.size();
+        }
+    }
+
+    /**
+     * The {@code Key} record describes a board by everything that determines its mine layout.
+     * Only boards with a fixed seed are worth caching, since a fresh seed never hits.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param mines the number of mines
+     * @param randomSource the generator algorithm and seed
+     * @param safeZone the cells around the first click that never receive a mine
+     * @param firstClick the position of the first click
+     */
+    public record Key(GridDimension dimensions, int mines, RandomSource randomSource, SafeZone safeZone,
+                      Position firstClick) {
+    }
+}
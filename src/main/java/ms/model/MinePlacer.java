@@ -0,0 +1,101 @@
+package ms.model;
+
+import ms.model.storage.CellStorage;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code MinePlacer} class places a uniformly random set of mines on an empty {@code CellStorage}.
+ * Candidate cells are numbered by rank, skipping the excluded cells, and a subset of ranks is drawn with
+ * Floyd's algorithm, so placement takes time proportional to the number of mines rather than to the
+ * number of failed tries. When more than half of the candidates are mines, the safe cells are drawn
+ * instead and every other candidate is mined, so dense boards are as fast as sparse ones.
+ */
+public final class MinePlacer {
+
+    private MinePlacer() {
+    }
+
+    /**
+     * Places the given number of mines on the storage, avoiding the excluded cells.
+     * The storage is expected to contain no mines.
+     *
+     * @param storage the storage receiving the mines
+     * @param mines the number of mines to place
+     * @param excluded the indices that must stay free of mines, in ascending order
+     * @param random the source of randomness
+     * @throws IllegalArgumentException if the mines do not fit outside the excluded cells
+     */
+    public static void place(CellStorage storage, int mines, int[] excluded, RandomGenerator random) {
+        int candidates = storage.dimensions().totalCells() - excluded.length;
+        if (mines < 0 || mines > candidates) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot place %d mines in %d free cells", mines, candidates));
+        }
+
+        if (mines <= candidates / 2) {
+            placeSparse(storage, mines, candidates, excluded, random);
+        } else {
+            placeDense(storage, candidates - mines, candidates, excluded, random);
+        }
+    }
+
+    /**
+     * Draws the mine ranks directly, using the storage itself as the set of chosen ranks.
+     */
+    private static void placeSparse(CellStorage storage, int mines, int candidates, int[] excluded,
+                                    RandomGenerator random) {
+        for (int bound = candidates - mines; bound < candidates; bound++) {
+            int index = indexOfRank(random.nextInt(bound + 1), excluded);
+            if (storage.isMined(index)) {
+                index = indexOfRank(bound, excluded);
+            }
+            storage.setMined(index, true);
+        }
+    }
+
+    /**
+     * Draws the ranks of the safe cells into a bitmap, then mines every candidate not drawn.
+     */
+    private static void placeDense(CellStorage storage, int safeCells, int candidates, int[] excluded,
+                                   RandomGenerator random) {
+        long[] safe = new long[(candidates + 63) >>> 6];
+        for (int bound = candidates - safeCells; bound < candidates; bound++) {
+            int rank = random.nextInt(bound + 1);
+            if ((safe[rank >>> 6] & (1L << rank)) != 0) {
+                rank = bound;
+            }
+            safe[rank >>> 6] |= 1L << rank;
+        }
+
+        int next = 0;
+        int index = 0;
+        for (int rank = 0; rank < candidates; rank++, index++) {
+            while (next < excluded.length && excluded[next] == index) {
+                next++;
+                index++;
+            }
+            if ((safe[rank >>> 6] & (1L << rank)) == 0) {
+                storage.setMined(index, true);
+            }
+        }
+    }
+
+    /**
+     * Maps the rank of a candidate cell to its linear index by stepping over the excluded cells.
+     *
+     * @param rank the rank of the candidate among the non-excluded cells
+     * @param excluded the excluded indices in ascending order
+     * @return the linear index of the candidate
+     */
+    static int indexOfRank(int rank, int[] excluded) {
+        int index = rank;
+        for (int skipped : excluded) {
+            if (skipped > index) {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+}
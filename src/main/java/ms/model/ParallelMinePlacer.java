@@ -0,0 +1,193 @@
+package ms.model;
+
+import ms.model.storage.CellStorage;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The {@code ParallelMinePlacer} class generates large boards on all cores of a {@code ForkJoinPool}.
+ * The grid is cut into row stripes whose size depends only on the width of the grid. The number of
+ * mines of each stripe is drawn in order from the root generator, and each stripe then places its
+ * mines with its own split generator, so the board depends only on the seed and not on the number of
+ * threads. Mines go into a {@code MineBitboard} first; the adjacent-mine counts of each stripe are then
+ * computed row by row with {@code BitSlicedAdjacency}, reading one halo row on each side, and loaded into
+ * the storage in one pass, on the calling thread alone when the storage does not support concurrent loads.
+ */
+public final class ParallelMinePlacer {
+
+    /**
+     * The approximate number of cells in one stripe.
+     */
+    public static final int STRIPE_CELLS = 1 << 16;
+
+    private ParallelMinePlacer() {
+    }
+
+    /**
+     * Places the given number of mines on an empty storage, avoiding the excluded cells.
+     *
+     * @param storage the storage receiving the mines
+     * @param mines the number of mines to place
+     * @param excluded the indices that must stay free of mines, in ascending order
+     * @param random the root generator, which is advanced and split
+     * @param pool the pool running the stripes
+     * @return the time spent in each phase
+     * @throws IllegalArgumentException if the mines do not fit outside the excluded cells
+     */
+    public static GenerationReport place(CellStorage storage, int mines, int[] excluded,
+                                         SplittableGenerator random, ForkJoinPool pool) {
+        GridDimension dimensions = storage.dimensions();
+        int candidates = dimensions.totalCells() - excluded.length;
+        if (mines < 0 || mines > candidates) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot place %d mines in %d free cells", mines, candidates));
+        }
+
+        int width = dimensions.width();
+        int stripeRows = Math.max(1, STRIPE_CELLS / width);
+        int stripes = (dimensions.height() + stripeRows - 1) / stripeRows;
+
+        long start = System.nanoTime();
+        int[] stripeMines = new int[stripes];
+        SplittableGenerator[] stripeRandoms = new SplittableGenerator[stripes];
+        long remainingCells = candidates;
+        long remainingMines = mines;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int stripeCandidates = stripeCandidates(stripe, stripeRows, dimensions, excluded);
+            stripeMines[stripe] = (int) Hypergeometric.sample(random, remainingCells, remainingMines, stripeCandidates);
+            stripeRandoms[stripe] = random.split();
+            remainingCells -= stripeCandidates;
+            remainingMines -= stripeMines[stripe];
+        }
+
+        long partitioned = System.nanoTime();
+        MineBitboard bitboard = new MineBitboard(dimensions);
+        pool.invoke(new StripeTask(0, stripes, stripe -> placeStripe(bitboard, stripe, stripeRows, excluded,
+                stripeMines[stripe], stripeRandoms[stripe])));
+
+        long placed = System.nanoTime();
+        if (storage.supportsConcurrentLoad()) {
+            pool.invoke(new StripeTask(0, stripes, stripe -> loadStripe(storage, bitboard, stripe, stripeRows)));
+        } else {
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                loadStripe(storage, bitboard, stripe, stripeRows);
+            }
+        }
+
+        long loaded = System.nanoTime();
+        return new GenerationReport(stripes, partitioned - start, placed - partitioned, loaded - placed);
+    }
+
+    private static int stripeStart(int stripe, int stripeRows, GridDimension dimensions) {
+        return Math.min(stripe * stripeRows, dimensions.height()) * dimensions.width();
+    }
+
+    private static int stripeCandidates(int stripe, int stripeRows, GridDimension dimensions, int[] excluded) {
+        int from = stripeStart(stripe, stripeRows, dimensions);
+        int to = stripeStart(stripe + 1, stripeRows, dimensions);
+        return to - from - excludedBetween(excluded, from, to).length;
+    }
+
+    /**
+     * Gets the excluded indices in {@code [from, to)}, relative to {@code from}.
+     */
+    private static int[] excludedBetween(int[] excluded, int from, int to) {
+        int first = 0;
+        while (first < excluded.length && excluded[first] < from) {
+            first++;
+        }
+        int last = first;
+        while (last < excluded.length && excluded[last] < to) {
+            last++;
+        }
+
+        int[] relative = Arrays.copyOfRange(excluded, first, last);
+        for (int i = 0; i < relative.length; i++) {
+            relative[i] -= from;
+        }
+        return relative;
+    }
+
+    /**
+     * Places the mines of one stripe with Floyd's algorithm over its candidate ranks,
+     * drawing the safe cells instead when more than half of the candidates are mines.
+     */
+    private static void placeStripe(MineBitboard bitboard, int stripe, int stripeRows, int[] excluded,
+                                    int mines, SplittableGenerator random) {
+        GridDimension dimensions = bitboard.dimensions();
+        int from = stripeStart(stripe, stripeRows, dimensions);
+        int to = stripeStart(stripe + 1, stripeRows, dimensions);
+        int[] skipped = excludedBetween(excluded, from, to);
+        int candidates = to - from - skipped.length;
+
+        boolean dense = mines > candidates / 2;
+        if (dense) {
+            bitboard.fillRows(dimensions.rowOf(from), dimensions.rowOf(to - 1) + 1);
+            for (int offset : skipped) {
+                bitboard.setMined(dimensions.rowOf(from + offset), dimensions.colOf(from + offset), false);
+            }
+        }
+
+        int draws = dense ? candidates - mines : mines;
+        for (int bound = candidates - draws; bound < candidates; bound++) {
+            int index = from + MinePlacer.indexOfRank(random.nextInt(bound + 1), skipped);
+            if (bitboard.isMined(dimensions.rowOf(index), dimensions.colOf(index)) != dense) {
+                index = from + MinePlacer.indexOfRank(bound, skipped);
+            }
+            bitboard.setMined(dimensions.rowOf(index), dimensions.colOf(index), !dense);
+        }
+    }
+
+    /**
+     * Counts the adjacent mines of every cell of one stripe, reading the halo rows of the
+     * neighbouring stripes, and loads the cells into the storage.
+     */
+    private static void loadStripe(CellStorage storage, MineBitboard bitboard, int stripe, int stripeRows) {
+        GridDimension dimensions = bitboard.dimensions();
+        int width = dimensions.width();
+        int fromRow = Math.min(stripe * stripeRows, dimensions.height());
+        int toRow = Math.min(fromRow + stripeRows, dimensions.height());
+        byte[] counts = new byte[width];
+
+        for (int row = fromRow; row < toRow; row++) {
+            bitboard.countAdjacentMines(row, counts);
+
+            int rowStart = row * width;
+            for (int col = 0; col < width; col++) {
+                storage.loadCell(rowStart + col, bitboard.isMined(row, col), counts[col]);
+            }
+        }
+    }
+
+    /**
+     * The {@code StripeTask} class runs an action on a range of stripes, splitting the range in half
+     * until a single stripe is left.
+     */
+    private static final class StripeTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        private StripeTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new StripeTask(from, middle, action), new StripeTask(middle, to, action));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ms.model;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The {@code RandomSource} record identifies the random generator used to place the mines of a board:
+ * the name of a {@code RandomGenerator} algorithm and the seed it starts from.
+ * The same source and the same first click always produce the same board.
+ *
+ * @param algorithm the name of a {@code RandomGenerator} algorithm, such as {@code L64X128MixRandom}
+ * @param seed the seed of the generator
+ */
+public record RandomSource(String algorithm, long seed) {
+
+    /**
+     * The algorithm used when none is specified.
+     */
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    /**
+     * Constructor for RandomSource.
+     *
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public RandomSource {
+        RandomGeneratorFactory.of(algorithm);
+    }
+
+    /**
+     * Creates a source for the given algorithm with a freshly drawn seed.
+     *
+     * @param algorithm the name of a {@code RandomGenerator} algorithm
+     * @return a new {@code RandomSource}
+     */
+    public static RandomSource withRandomSeed(String algorithm) {
+        return new RandomSource(algorithm, RandomGenerator.getDefault().nextLong());
+    }
+
+    /**
+     * Creates a new generator of this algorithm, starting from this seed.
+     *
+     * @return a new {@code RandomGenerator}
+     */
+    public RandomGenerator create() {
+        return RandomGeneratorFactory.of(algorithm).create(seed);
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + ":" + seed;
+    }
+}
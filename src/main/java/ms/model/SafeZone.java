@@ -0,0 +1,67 @@
+package ms.model;
+
+/**
+ * The {@code SafeZone} enum defines which cells around the first click are kept free of mines.
+ */
+public enum SafeZone {
+
+    /**
+     * Only the clicked cell is guaranteed to be safe.
+     */
+    FIRST_CELL {
+        @Override
+        public int[] excludedIndices(GridDimension dimensions, Position firstClick) {
+            return new int[]{dimensions.toIndex(firstClick)};
+        }
+    },
+
+    /**
+     * The clicked cell and its neighbours are safe, so the first click always opens a region.
+     */
+    OPENING {
+        @Override
+        public int[] excludedIndices(GridDimension dimensions, Position firstClick) {
+            int row = firstClick.row();
+            int col = firstClick.col();
+            int fromRow = Math.max(row - 1, 0);
+            int toRow = Math.min(row + 1, dimensions.height() - 1);
+            int fromCol = Math.max(col - 1, 0);
+            int toCol = Math.min(col + 1, dimensions.width() - 1);
+
+            int[] excluded = new int[(toRow - fromRow + 1) * (toCol - fromCol + 1)];
+            int count = 0;
+            for (int r = fromRow; r <= toRow; r++) {
+                for (int c = fromCol; c <= toCol; c++) {
+                    excluded[count++] = dimensions.toIndex(r, c);
+                }
+            }
+            return excluded;
+        }
+    };
+
+    /**
+     * Gets the linear indices of the cells that must not receive a mine.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param firstClick the position of the first click
+     * @return the excluded indices in ascending order
+     */
+    public abstract int[] excludedIndices(GridDimension dimensions, Position firstClick);
+
+    /**
+     * Gets the linear indices of the cells that must not receive a mine on a board with the given mine count.
+     * If the mines do not fit outside this zone, only the clicked cell is excluded.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param firstClick the position of the first click
+     * @param mines the number of mines to place
+     * @return the excluded indices in ascending order
+     */
+    public int[] excludedIndices(GridDimension dimensions, Position firstClick, int mines) {
+        int[] excluded = excludedIndices(dimensions, firstClick);
+        if (mines > dimensions.totalCells() - excluded.length) {
+            return FIRST_CELL.excludedIndices(dimensions, firstClick);
+        }
+        return excluded;
+    }
+}
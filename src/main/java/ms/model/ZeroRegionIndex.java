@@ -0,0 +1,226 @@
+package ms.model;
+
+import ms.model.storage.CellStorage;
+
+import java.util.Arrays;
+
+/**
+ * The {@code ZeroRegionIndex} class labels every connected region of cells without adjacent mines.
+ * Each region lists its own cells followed by its numbered border in one contiguous range,
+ * so that revealing an empty cell becomes a bulk reveal of a precomputed range of cell indices.
+ * The index is a snapshot of the mine layout it was built from.
+ */
+public final class ZeroRegionIndex {
+
+    private static final int NO_REGION = -1;
+
+    private final int[] regionOf;
+    private final int[] regionStarts;
+    private final int[] borderStarts;
+    private final int[] cells;
+
+    private ZeroRegionIndex(int[] regionOf, int[] regionStarts, int[] borderStarts, int[] cells) {
+        this.regionOf = regionOf;
+        this.regionStarts = regionStarts;
+        this.borderStarts = borderStarts;
+        this.cells = cells;
+    }
+
+    /**
+     * Builds the index of the mine layout currently held by the given storage.
+     * Empty cells are joined with union-find over their already visited neighbours,
+     * then every region is given a compact id and its cells and border are laid out contiguously.
+     *
+     * @param storage the storage holding the mine layout
+     * @return the index of the zero regions of the layout
+     */
+    public static ZeroRegionIndex build(CellStorage storage) {
+        GridDimension dimensions = storage.dimensions();
+        int width = dimensions.width();
+        int totalCells = dimensions.totalCells();
+
+        int[] parent = new int[totalCells];
+        for (int index = 0; index < totalCells; index++) {
+            parent[index] = isEmpty(storage, index) ? index : NO_REGION;
+            if (parent[index] == NO_REGION) {
+                continue;
+            }
+
+            int row = index / width;
+            int col = index % width;
+            if (col > 0) {
+                union(parent, index, index - 1);
+            }
+            if (row > 0) {
+                for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, width - 1); c++) {
+                    union(parent, index, index - width - col + c);
+                }
+            }
+        }
+
+        int[] regionOf = new int[totalCells];
+        Arrays.fill(regionOf, NO_REGION);
+        int regionCount = 0;
+        for (int index = 0; index < totalCells; index++) {
+            if (parent[index] != NO_REGION) {
+                int root = find(parent, index);
+                if (regionOf[root] == NO_REGION) {
+                    regionOf[root] = regionCount++;
+                }
+                regionOf[index] = regionOf[root];
+            }
+        }
+
+        int[] zeroCounts = new int[regionCount];
+        int[] borderCounts = new int[regionCount];
+        int[] neighbourRegions = new int[8];
+        for (int index = 0; index < totalCells; index++) {
+            if (regionOf[index] != NO_REGION) {
+                zeroCounts[regionOf[index]]++;
+            } else if (!storage.isMined(index)) {
+                int found = collectNeighbourRegions(dimensions, regionOf, index, neighbourRegions);
+                for (int i = 0; i < found; i++) {
+                    borderCounts[neighbourRegions[i]]++;
+                }
+            }
+        }
+
+        int[] regionStarts = new int[regionCount + 1];
+        int[] borderStarts = new int[regionCount];
+        for (int region = 0; region < regionCount; region++) {
+            borderStarts[region] = regionStarts[region] + zeroCounts[region];
+            regionStarts[region + 1] = borderStarts[region] + borderCounts[region];
+        }
+
+        int[] cells = new int[regionStarts[regionCount]];
+        int[] zeroCursor = Arrays.copyOf(regionStarts, regionCount);
+        int[] borderCursor = borderStarts.clone();
+        for (int index = 0; index < totalCells; index++) {
+            if (regionOf[index] != NO_REGION) {
+                cells[zeroCursor[regionOf[index]]++] = index;
+            } else if (!storage.isMined(index)) {
+                int found = collectNeighbourRegions(dimensions, regionOf, index, neighbourRegions);
+                for (int i = 0; i < found; i++) {
+                    cells[borderCursor[neighbourRegions[i]]++] = index;
+                }
+            }
+        }
+
+        return new ZeroRegionIndex(regionOf, regionStarts, borderStarts, cells);
+    }
+
+    /**
+     * Gets the region of the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @return the region id, or a negative value if the cell is mined or has adjacent mines
+     */
+    public int regionOf(int index) {
+        return regionOf[index];
+    }
+
+    /**
+     * @return the number of regions in the index
+     */
+    public int regionCount() {
+        return borderStarts.length;
+    }
+
+    /**
+     * Gets the first slot of a region; its empty cells are followed by its numbered border.
+     *
+     * @param region the region id
+     * @return the first slot of the region
+     */
+    public int regionStart(int region) {
+        return regionStarts[region];
+    }
+
+    /**
+     * Gets the first slot of the numbered border of a region.
+     *
+     * @param region the region id
+     * @return the first border slot of the region
+     */
+    public int borderStart(int region) {
+        return borderStarts[region];
+    }
+
+    /**
+     * Gets the slot after the last one of a region.
+     *
+     * @param region the region id
+     * @return the end slot (exclusive) of the region
+     */
+    public int regionEnd(int region) {
+        return regionStarts[region + 1];
+    }
+
+    /**
+     * Gets the linear index of the cell stored in a slot.
+     *
+     * @param slot the slot, between a region start and its end
+     * @return the linear index of the cell
+     */
+    public int cellAt(int slot) {
+        return cells[slot];
+    }
+
+    private static boolean isEmpty(CellStorage storage, int index) {
+        return !storage.isMined(index) && storage.countAdjacentMines(index) == 0;
+    }
+
+    /**
+     * Collects the distinct regions touching a cell.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param regionOf the region of every cell
+     * @param index the linear index of the cell
+     * @param found the array receiving the distinct region ids
+     * @return the number of distinct regions found
+     */
+    private static int collectNeighbourRegions(GridDimension dimensions, int[] regionOf, int index, int[] found) {
+        int width = dimensions.width();
+        int row = index / width;
+        int col = index % width;
+        int count = 0;
+
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, dimensions.height() - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, width - 1); c++) {
+                int region = regionOf[r * width + c];
+                if (region != NO_REGION && !contains(found, count, region)) {
+                    found[count++] = region;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        if (parent[b] == NO_REGION) {
+            return;
+        }
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private static int find(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+}
@@ -0,0 +1,71 @@
+package ms.model.infinite;
+
+/**
+ * The {@code Chunk} class holds one square block of an {@code InfiniteMineField}:
+ * a row bitset per layer for the mines, the revealed cells and the flagged cells.
+ * Bit {@code c} of word {@code r} of a layer is the cell at local row {@code r} and local column {@code c}.
+ */
+final class Chunk {
+
+    static final int SHIFT = 6;
+    static final int SIZE = 1 << SHIFT;
+    static final int MASK = SIZE - 1;
+
+    final int chunkRow;
+    final int chunkCol;
+    final long[] mines = new long[SIZE];
+    final long[] revealed = new long[SIZE];
+    final long[] flagged = new long[SIZE];
+    boolean stored;
+
+    Chunk(int chunkRow, int chunkCol) {
+        this.chunkRow = chunkRow;
+        this.chunkCol = chunkCol;
+    }
+
+    static long key(int chunkRow, int chunkCol) {
+        return ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+    }
+
+    boolean isMined(int localRow, int localCol) {
+        return (mines[localRow] & (1L << localCol)) != 0;
+    }
+
+    boolean isRevealed(int localRow, int localCol) {
+        return (revealed[localRow] & (1L << localCol)) != 0;
+    }
+
+    boolean isFlagged(int localRow, int localCol) {
+        return (flagged[localRow] & (1L << localCol)) != 0;
+    }
+
+    /**
+     * Reveals a cell unless it is flagged.
+     */
+    void reveal(int localRow, int localCol) {
+        if (!isFlagged(localRow, localCol)) {
+            revealed[localRow] |= 1L << localCol;
+        }
+    }
+
+    /**
+     * Toggles the flag of a cell unless it is revealed.
+     */
+    void toggleFlag(int localRow, int localCol) {
+        if (!isRevealed(localRow, localCol)) {
+            flagged[localRow] ^= 1L << localCol;
+        }
+    }
+
+    /**
+     * Checks if the player has touched this chunk, in which case it must be saved before it is dropped.
+     */
+    boolean hasState() {
+        for (int row = 0; row < SIZE; row++) {
+            if ((revealed[row] | flagged[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
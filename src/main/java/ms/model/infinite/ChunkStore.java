@@ -0,0 +1,92 @@
+package ms.model.infinite;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The {@code ChunkStore} class keeps evicted chunks on disk, one small file per chunk.
+ * Mines are not written, since they can be generated again from the seed; only the revealed and flagged
+ * layers are, each as a bitmask of its non-empty rows followed by those rows.
+ */
+final class ChunkStore {
+
+    private final Path directory;
+
+    ChunkStore(Path directory) {
+        this.directory = directory;
+    }
+
+    void save(Chunk chunk) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fileOf(
+                chunk.chunkRow, chunk.chunkCol))))) {
+            writeLayer(out, chunk.revealed);
+            writeLayer(out, chunk.flagged);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save chunk " + chunk.chunkRow + "," + chunk.chunkCol, e);
+        }
+    }
+
+    /**
+     * Reads the saved state of a chunk into it, if the chunk was saved before.
+     *
+     * @return {@code true} if a saved state was found
+     */
+    boolean load(Chunk chunk) {
+        Path file = fileOf(chunk.chunkRow, chunk.chunkCol);
+        if (!Files.exists(file)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            readLayer(in, chunk.revealed);
+            readLayer(in, chunk.flagged);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load chunk " + chunk.chunkRow + "," + chunk.chunkCol, e);
+        }
+    }
+
+    /**
+     * Deletes the saved state of a chunk, so that it is generated afresh when it is loaded again.
+     */
+    void delete(Chunk chunk) {
+        try {
+            Files.deleteIfExists(fileOf(chunk.chunkRow, chunk.chunkCol));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete chunk " + chunk.chunkRow + "," + chunk.chunkCol, e);
+        }
+    }
+
+    private Path fileOf(int chunkRow, int chunkCol) {
+        return directory.resolve("chunk_" + chunkRow + "_" + chunkCol + ".bin");
+    }
+
+    private static void writeLayer(DataOutputStream out, long[] layer) throws IOException {
+        long present = 0;
+        for (int row = 0; row < layer.length; row++) {
+            if (layer[row] != 0) {
+                present |= 1L << row;
+            }
+        }
+
+        out.writeLong(present);
+        for (long word : layer) {
+            if (word != 0) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    private static void readLayer(DataInputStream in, long[] layer) throws IOException {
+        long present = in.readLong();
+        for (int row = 0; row < layer.length; row++) {
+            layer[row] = (present & (1L << row)) != 0 ? in.readLong() : 0L;
+        }
+    }
+}
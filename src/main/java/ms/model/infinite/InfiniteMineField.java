@@ -0,0 +1,306 @@
+package ms.model.infinite;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The {@code InfiniteMineField} class is an unbounded minefield addressed by any pair of {@code int}
+ * coordinates, which wrap around at the ends of their range. The field is split into 64×64 chunks, and the mines of a chunk are drawn on first access
+ * from a generator seeded by a hash of the seed and the chunk coordinates, so the same seed always gives
+ * the same field without anything being stored. Adjacency at a chunk border reads the mines of the
+ * neighbouring chunks, generated the same way.
+ * Only the most recently used chunks stay in memory. When a chunk the player has touched is evicted,
+ * its revealed and flagged layers are written to the spill directory and read back when it is used again;
+ * untouched chunks are simply dropped and regenerated. Memory therefore depends on the explored area only.
+ */
+public class InfiniteMineField {
+
+    /**
+     * The number of rows and columns of a chunk.
+     */
+    public static final int CHUNK_SIZE = Chunk.SIZE;
+
+    private static final int DEFAULT_MAX_RESIDENT_CHUNKS = 4096;
+
+    private final long seed;
+    private final int minesPerChunk;
+    private final int maxResidentChunks;
+    private final ChunkStore store;
+    private final Map<Long, Chunk> chunks;
+    private boolean initialized;
+    private int safeRow;
+    private int safeCol;
+    private long evictedChunks;
+
+    /**
+     * Constructs an {@code InfiniteMineField} that keeps every explored chunk in memory.
+     *
+     * @param seed the seed of the field
+     * @param minesPerChunk the number of mines in each chunk, before the safe zone is cleared
+     */
+    public InfiniteMineField(long seed, int minesPerChunk) {
+        this(seed, minesPerChunk, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Constructs an {@code InfiniteMineField} that keeps at most the given number of chunks in memory
+     * and spills the touched chunks it evicts to a directory.
+     *
+     * @param seed the seed of the field
+     * @param minesPerChunk the number of mines in each chunk, before the safe zone is cleared
+     * @param maxResidentChunks the number of chunks kept in memory
+     * @param spillDirectory the directory receiving evicted chunks, or {@code null} to never evict
+     * @throws IllegalArgumentException if the mines do not fit in a chunk or no chunk may be resident
+     */
+    public InfiniteMineField(long seed, int minesPerChunk, int maxResidentChunks, Path spillDirectory) {
+        if (minesPerChunk < 0 || minesPerChunk > CHUNK_SIZE * CHUNK_SIZE) {
+            throw new IllegalArgumentException("Mines per chunk must be between 0 and " + CHUNK_SIZE * CHUNK_SIZE);
+        }
+        if (maxResidentChunks < 1) {
+            throw new IllegalArgumentException("At least one chunk must be resident");
+        }
+
+        this.seed = seed;
+        this.minesPerChunk = minesPerChunk;
+        this.maxResidentChunks = spillDirectory == null ? Integer.MAX_VALUE : maxResidentChunks;
+        this.store = spillDirectory == null ? null : new ChunkStore(spillDirectory);
+        this.chunks = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                return size() > InfiniteMineField.this.maxResidentChunks && evict(eldest.getValue());
+            }
+        };
+    }
+
+    /**
+     * Constructs an {@code InfiniteMineField} with the default number of resident chunks.
+     *
+     * @param seed the seed of the field
+     * @param minesPerChunk the number of mines in each chunk, before the safe zone is cleared
+     * @param spillDirectory the directory receiving evicted chunks
+     */
+    public InfiniteMineField(long seed, int minesPerChunk, Path spillDirectory) {
+        this(seed, minesPerChunk, DEFAULT_MAX_RESIDENT_CHUNKS, spillDirectory);
+    }
+
+    /**
+     * Keeps the first click and its eight neighbours free of mines.
+     * It must be called before any cell is accessed.
+     *
+     * @param row the row of the first click
+     * @param col the column of the first click
+     * @throws IllegalStateException if the field is already initialized or has been accessed
+     */
+    public void initialize(int row, int col) {
+        if (initialized || !chunks.isEmpty()) {
+            throw new IllegalStateException("The infinite minefield has already been initialized");
+        }
+        this.initialized = true;
+        this.safeRow = row;
+        this.safeCol = col;
+    }
+
+    /**
+     * @return the seed of the field
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the number of chunks currently held in memory
+     */
+    public int getResidentChunks() {
+        return chunks.size();
+    }
+
+    /**
+     * @return the number of chunks evicted from memory so far
+     */
+    public long getEvictedChunks() {
+        return evictedChunks;
+    }
+
+    /**
+     * Checks if the cell at the specified coordinates contains a mine.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is mined, {@code false} otherwise
+     */
+    public boolean isMined(int row, int col) {
+        return chunkOf(row, col).isMined(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Checks if the cell at the specified coordinates has been revealed (either normally or by explosion).
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is revealed, {@code false} otherwise
+     */
+    public boolean isRevealed(int row, int col) {
+        return chunkOf(row, col).isRevealed(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Checks if the cell at the specified coordinates is currently flagged.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell is flagged, {@code false} otherwise
+     */
+    public boolean isFlagged(int row, int col) {
+        return chunkOf(row, col).isFlagged(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Checks if a cascade may reveal the cell: it is hidden, not flagged and not mined.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return {@code true} if the cell can be revealed by a cascade, {@code false} otherwise
+     */
+    public boolean isOpen(int row, int col) {
+        Chunk chunk = chunkOf(row, col);
+        int localRow = row & Chunk.MASK;
+        long bit = 1L << (col & Chunk.MASK);
+        return ((chunk.mines[localRow] | chunk.revealed[localRow] | chunk.flagged[localRow]) & bit) == 0;
+    }
+
+    /**
+     * Reveals the cell at the specified coordinates. Flagged cells stay hidden.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    public void reveal(int row, int col) {
+        chunkOf(row, col).reveal(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Toggles the flag of the cell at the specified coordinates. Revealed cells cannot be flagged.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    public void toggleFlag(int row, int col) {
+        chunkOf(row, col).toggleFlag(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    /**
+     * Counts the mines adjacent to the cell at the specified coordinates.
+     * Cells inside a chunk are counted from its own mine layer; border cells also read the neighbouring chunks.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the number of adjacent mines (0-8)
+     */
+    public int countAdjacentMines(int row, int col) {
+        int localRow = row & Chunk.MASK;
+        int localCol = col & Chunk.MASK;
+        if (localRow > 0 && localRow < Chunk.MASK && localCol > 0 && localCol < Chunk.MASK) {
+            long[] mines = chunkOf(row, col).mines;
+            long window = 7L << (localCol - 1);
+            return Long.bitCount(mines[localRow - 1] & window)
+                    + Long.bitCount(mines[localRow] & window & ~(1L << localCol))
+                    + Long.bitCount(mines[localRow + 1] & window);
+        }
+
+        int count = 0;
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                if ((dr != 0 || dc != 0) && isMined(row + dr, col + dc)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the chunk holding the given cell, loading or generating it if needed.
+     * The returned chunk may be evicted by the next lookup, so callers use it right away.
+     */
+    private Chunk chunkOf(int row, int col) {
+        int chunkRow = row >> Chunk.SHIFT;
+        int chunkCol = col >> Chunk.SHIFT;
+        long key = Chunk.key(chunkRow, chunkCol);
+
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = generate(chunkRow, chunkCol);
+            if (store != null) {
+                chunk.stored = store.load(chunk);
+            }
+            chunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Draws the mines of a chunk with Floyd's algorithm from a generator seeded by the chunk coordinates,
+     * then clears the safe zone around the first click.
+     */
+    private Chunk generate(int chunkRow, int chunkCol) {
+        Chunk chunk = new Chunk(chunkRow, chunkCol);
+        SplittableRandom random = new SplittableRandom(chunkSeed(chunkRow, chunkCol));
+        int cells = Chunk.SIZE * Chunk.SIZE;
+
+        for (int bound = cells - minesPerChunk; bound < cells; bound++) {
+            int cell = random.nextInt(bound + 1);
+            if ((chunk.mines[cell >>> Chunk.SHIFT] & (1L << cell)) != 0) {
+                cell = bound;
+            }
+            chunk.mines[cell >>> Chunk.SHIFT] |= 1L << cell;
+        }
+
+        if (initialized) {
+            clearSafeZone(chunk);
+        }
+        return chunk;
+    }
+
+    private void clearSafeZone(Chunk chunk) {
+        long originRow = (long) chunk.chunkRow << Chunk.SHIFT;
+        long originCol = (long) chunk.chunkCol << Chunk.SHIFT;
+
+        for (long row = safeRow - 1L; row <= safeRow + 1L; row++) {
+            for (long col = safeCol - 1L; col <= safeCol + 1L; col++) {
+                long localRow = row - originRow;
+                long localCol = col - originCol;
+                if (localRow >= 0 && localRow < Chunk.SIZE && localCol >= 0 && localCol < Chunk.SIZE) {
+                    chunk.mines[(int) localRow] &= ~(1L << localCol);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mixes the seed and the chunk coordinates into the seed of the chunk generator.
+     */
+    private long chunkSeed(int chunkRow, int chunkCol) {
+        long hash = seed ^ (Chunk.key(chunkRow, chunkCol) * 0x9E3779B97F4A7C15L);
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * Saves a chunk about to be dropped from memory if the player has touched it,
+     * or deletes its saved state if the player has undone everything since it was loaded.
+     *
+     * @return always {@code true}, so the chunk is removed
+     */
+    private boolean evict(Chunk chunk) {
+        if (chunk.hasState()) {
+            store.save(chunk);
+        } else if (chunk.stored) {
+            store.delete(chunk);
+        }
+        evictedChunks++;
+        return true;
+    }
+}
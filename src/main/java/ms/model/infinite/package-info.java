@@ -0,0 +1,4 @@
+/**
+ * This package contains the unbounded minefield, split into chunks that are generated lazily from a seed.
+ */
+package ms.model.infinite;
@@ -0,0 +1,174 @@
+package ms.model.storage;
+
+import ms.model.Cell;
+import ms.model.CellState;
+import ms.model.GridDimension;
+import ms.model.MineBitboard;
+
+import java.util.Arrays;
+
+/**
+ * The {@code BitboardCellStorage} class keeps the board in three bit planes: the mines in a
+ * {@code MineBitboard}, and the revealed and flagged cells in two more planes of the same shape.
+ * A cell takes three bits, so it is the densest engine for large boards; adjacent-mine counts are
+ * not stored but computed from the mine plane, a whole row at a time with {@code BitSlicedAdjacency}.
+ * Rows start on a fresh word, so bulk loads of distinct rows may run concurrently.
+ */
+public class BitboardCellStorage implements CellStorage {
+
+    private final GridDimension dimensions;
+    private final MineBitboard mines;
+    private final int wordsPerRow;
+    private final long[] revealed;
+    private final long[] flagged;
+
+    /**
+     * Constructs a new {@code BitboardCellStorage} with every cell hidden and not mined.
+     *
+     * @param dimensions the dimensions of the grid
+     */
+    public BitboardCellStorage(GridDimension dimensions) {
+        this.dimensions = dimensions;
+        this.mines = new MineBitboard(dimensions);
+        this.wordsPerRow = mines.wordsPerRow();
+        this.revealed = new long[dimensions.height() * wordsPerRow];
+        this.flagged = new long[dimensions.height() * wordsPerRow];
+    }
+
+    /**
+     * Gets the number of bytes the bit planes of a board take.
+     *
+     * @param dimensions the dimensions of the grid
+     * @return the size of the three planes in bytes
+     */
+    public static long planeBytes(GridDimension dimensions) {
+        return 3L * Long.BYTES * dimensions.height() * ((dimensions.width() + 63) >>> 6);
+    }
+
+    @Override
+    public GridDimension dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public Cell getCell(int index) {
+        return new BitboardCell(index);
+    }
+
+    @Override
+    public boolean isMined(int index) {
+        return mines.isMined(dimensions.rowOf(index), dimensions.colOf(index));
+    }
+
+    @Override
+    public void setMined(int index, boolean mined) {
+        mines.setMined(dimensions.rowOf(index), dimensions.colOf(index), mined);
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        return (revealed[wordOf(index)] & (1L << dimensions.colOf(index))) != 0;
+    }
+
+    @Override
+    public boolean isFlagged(int index) {
+        return (flagged[wordOf(index)] & (1L << dimensions.colOf(index))) != 0;
+    }
+
+    @Override
+    public void reveal(int index) {
+        setState(index, getState(index).reveal(isMined(index)));
+    }
+
+    @Override
+    public void toggleFlag(int index) {
+        setState(index, getState(index).toggleFlag());
+    }
+
+    @Override
+    public void clear() {
+        mines.clear();
+        Arrays.fill(revealed, 0L);
+        Arrays.fill(flagged, 0L);
+    }
+
+    @Override
+    public int countAdjacentMines(int index) {
+        return mines.countAdjacentMines(dimensions.rowOf(index), dimensions.colOf(index));
+    }
+
+    @Override
+    public void countAdjacentMinesInRow(int row, byte[] counts) {
+        mines.countAdjacentMines(row, counts);
+    }
+
+    /**
+     * Rows start on a fresh word of every plane, so distinct rows can be loaded concurrently.
+     */
+    @Override
+    public boolean supportsConcurrentLoad() {
+        return true;
+    }
+
+    private int wordOf(int index) {
+        return dimensions.rowOf(index) * wordsPerRow + (dimensions.colOf(index) >>> 6);
+    }
+
+    private CellState getState(int index) {
+        if (isRevealed(index)) {
+            return isMined(index) ? CellState.EXPLODED : CellState.REVEALED;
+        }
+        return isFlagged(index) ? CellState.FLAGGED : CellState.HIDDEN;
+    }
+
+    private void setState(int index, CellState state) {
+        int word = wordOf(index);
+        long bit = 1L << dimensions.colOf(index);
+        boolean isRevealed = state == CellState.REVEALED || state == CellState.EXPLODED;
+
+        revealed[word] = isRevealed ? revealed[word] | bit : revealed[word] & ~bit;
+        flagged[word] = state == CellState.FLAGGED ? flagged[word] | bit : flagged[word] & ~bit;
+    }
+
+    /**
+     * The {@code BitboardCell} class is a {@code Cell} view over one bit of each plane.
+     */
+    private final class BitboardCell extends Cell {
+
+        private final int index;
+
+        private BitboardCell(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void toggleFlag() {
+            BitboardCellStorage.this.toggleFlag(index);
+        }
+
+        @Override
+        public void reveal() {
+            BitboardCellStorage.this.reveal(index);
+        }
+
+        @Override
+        public boolean isMined() {
+            return BitboardCellStorage.this.isMined(index);
+        }
+
+        @Override
+        public void setMined(boolean mined) {
+            BitboardCellStorage.this.setMined(index, mined);
+        }
+
+        @Override
+        public boolean isRevealed() {
+            return BitboardCellStorage.this.isRevealed(index);
+        }
+
+        @Override
+        public boolean isFlagged() {
+            return BitboardCellStorage.this.isFlagged(index);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package ms.model.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code BoardHeader} class gives access to the fixed-size header at the start of a board file.
+ * Besides the dimensions of the grid, it holds the state of the game played on the board, so a game can be
+ * resumed from the file alone. Every setter writes straight into the mapped header.
+ */
+public final class BoardHeader {
+
+    /**
+     * The size of the header in bytes; the cells start right after it.
+     */
+    public static final int SIZE = 64;
+
+    static final int MAGIC = 0x4D535750;
+    static final int VERSION = 1;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int HEIGHT_OFFSET = 8;
+    private static final int WIDTH_OFFSET = 12;
+    private static final int MINES_OFFSET = 16;
+    private static final int INITIALIZED_OFFSET = 20;
+    private static final int STATUS_OFFSET = 21;
+    private static final int TIMER_RUNNING_OFFSET = 22;
+    private static final int REVEALED_OFFSET = 24;
+    private static final int FLAGS_OFFSET = 28;
+    private static final int ELAPSED_OFFSET = 32;
+
+    private final ByteBuffer buffer;
+
+    BoardHeader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Writes the identification and dimensions of a new board and clears the game state.
+     */
+    void format(int height, int width) {
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(HEIGHT_OFFSET, height);
+        buffer.putInt(WIDTH_OFFSET, width);
+    }
+
+    /**
+     * Checks that the header belongs to a board file of the supported version.
+     */
+    boolean isValid() {
+        return buffer.getInt(MAGIC_OFFSET) == MAGIC && buffer.getInt(VERSION_OFFSET) == VERSION;
+    }
+
+    /**
+     * @return the number of rows of the board
+     */
+    public int getHeight() {
+        return buffer.getInt(HEIGHT_OFFSET);
+    }
+
+    /**
+     * @return the number of columns of the board
+     */
+    public int getWidth() {
+        return buffer.getInt(WIDTH_OFFSET);
+    }
+
+    /**
+     * @return the number of mines of the game
+     */
+    public int getMines() {
+        return buffer.getInt(MINES_OFFSET);
+    }
+
+    /**
+     * @param mines the number of mines of the game
+     */
+    public void setMines(int mines) {
+        buffer.putInt(MINES_OFFSET, mines);
+    }
+
+    /**
+     * @return {@code true} if the mines have been placed by the first reveal
+     */
+    public boolean isInitialized() {
+        return buffer.get(INITIALIZED_OFFSET) != 0;
+    }
+
+    /**
+     * @param initialized {@code true} once the mines have been placed
+     */
+    public void setInitialized(boolean initialized) {
+        buffer.put(INITIALIZED_OFFSET, (byte) (initialized ? 1 : 0));
+    }
+
+    /**
+     * @return the ordinal of the status of the game
+     */
+    public int getStatus() {
+        return buffer.get(STATUS_OFFSET);
+    }
+
+    /**
+     * @param status the ordinal of the status of the game
+     */
+    public void setStatus(int status) {
+        buffer.put(STATUS_OFFSET, (byte) status);
+    }
+
+    /**
+     * @return {@code true} if the game timer was running
+     */
+    public boolean isTimerRunning() {
+        return buffer.get(TIMER_RUNNING_OFFSET) != 0;
+    }
+
+    /**
+     * @param running {@code true} if the game timer is running
+     */
+    public void setTimerRunning(boolean running) {
+        buffer.put(TIMER_RUNNING_OFFSET, (byte) (running ? 1 : 0));
+    }
+
+    /**
+     * @return the number of revealed cells
+     */
+    public int getRevealedCells() {
+        return buffer.getInt(REVEALED_OFFSET);
+    }
+
+    /**
+     * @param revealedCells the number of revealed cells
+     */
+    public void setRevealedCells(int revealedCells) {
+        buffer.putInt(REVEALED_OFFSET, revealedCells);
+    }
+
+    /**
+     * @return the number of flags placed
+     */
+    public int getFlagsPlaced() {
+        return buffer.getInt(FLAGS_OFFSET);
+    }
+
+    /**
+     * @param flagsPlaced the number of flags placed
+     */
+    public void setFlagsPlaced(int flagsPlaced) {
+        buffer.putInt(FLAGS_OFFSET, flagsPlaced);
+    }
+
+    /**
+     * @return the elapsed game time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return buffer.getLong(ELAPSED_OFFSET);
+    }
+
+    /**
+     * @param elapsedMillis the elapsed game time in milliseconds
+     */
+    public void setElapsedMillis(long elapsedMillis) {
+        buffer.putLong(ELAPSED_OFFSET, elapsedMillis);
+    }
+}
@@ -0,0 +1,330 @@
+package ms.model.storage;
+
+import ms.model.Cell;
+import ms.model.CellState;
+import ms.model.GridDimension;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+import static ms.model.storage.PackedCellStorage.COUNT_MASK;
+import static ms.model.storage.PackedCellStorage.COUNT_SHIFT;
+import static ms.model.storage.PackedCellStorage.MINE_BIT;
+import static ms.model.storage.PackedCellStorage.STATE_MASK;
+import static ms.model.storage.PackedCellStorage.STATE_SHIFT;
+
+/**
+ * The {@code ByteBufferCellStorage} class keeps every cell in one byte of a set of {@code ByteBuffer} chunks
+ * of at most 1 GiB each, using the same bit layout as {@code PackedCellStorage}.
+ * Subclasses decide where the buffers live and how they are released; once they are detached,
+ * every access throws {@code IllegalStateException}.
+ */
+public abstract class ByteBufferCellStorage implements CellStorage {
+
+    /**
+     * The base-2 logarithm of the number of cells held by one chunk.
+     */
+    protected static final int CHUNK_SHIFT = 30;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    private static final CellState[] STATES = CellState.values();
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final GridDimension dimensions;
+    private ByteBuffer[] chunks;
+
+    /**
+     * Constructor for ByteBufferCellStorage.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param chunks the buffers holding the cells, each covering {@code 1 << CHUNK_SHIFT} cells except the last
+     */
+    protected ByteBufferCellStorage(GridDimension dimensions, ByteBuffer[] chunks) {
+        this.dimensions = dimensions;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Gets the number of chunks needed to hold the given number of cells.
+     *
+     * @param cells the number of cells
+     * @return the number of chunks
+     */
+    protected static int chunkCount(int cells) {
+        return ((cells - 1) >>> CHUNK_SHIFT) + 1;
+    }
+
+    /**
+     * Gets the number of cells held by the given chunk.
+     *
+     * @param cells the total number of cells
+     * @param chunk the index of the chunk
+     * @return the size of the chunk in bytes
+     */
+    protected static int chunkSize(int cells, int chunk) {
+        return Math.min(cells - (chunk << CHUNK_SHIFT), 1 << CHUNK_SHIFT);
+    }
+
+    /**
+     * Frees a direct or mapped buffer immediately, if the platform allows it.
+     * Otherwise the buffer is freed when it is garbage collected.
+     *
+     * @param buffer the buffer to free, which must not be used afterwards
+     */
+    protected static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            // the buffer is left to the garbage collector
+        }
+    }
+
+    /**
+     * Looks up {@code sun.misc.Unsafe.invokeCleaner}, which frees a direct buffer immediately.
+     * If it is not available, closed buffers are freed when they are garbage collected.
+     */
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public GridDimension dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public Cell getCell(int index) {
+        return new BufferCell(index);
+    }
+
+    @Override
+    public boolean isMined(int index) {
+        return (get(index) & MINE_BIT) != 0;
+    }
+
+    @Override
+    public void setMined(int index, boolean mined) {
+        if (isMined(index) == mined) {
+            return;
+        }
+
+        put(index, (byte) (get(index) ^ MINE_BIT));
+        adjustNeighbourCounts(index, mined ? 1 : -1);
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        CellState state = getState(index);
+        return state == CellState.REVEALED || state == CellState.EXPLODED;
+    }
+
+    @Override
+    public boolean isFlagged(int index) {
+        return getState(index) == CellState.FLAGGED;
+    }
+
+    @Override
+    public void reveal(int index) {
+        setState(index, getState(index).reveal(isMined(index)));
+    }
+
+    @Override
+    public void toggleFlag(int index) {
+        setState(index, getState(index).toggleFlag());
+    }
+
+    /**
+     * Zeroes every chunk, eight bytes at a time.
+     */
+    @Override
+    public void clear() {
+        for (ByteBuffer chunk : chunks()) {
+            int size = chunk.capacity();
+            int position = 0;
+            for (; position + Long.BYTES <= size; position += Long.BYTES) {
+                chunk.putLong(position, 0L);
+            }
+            for (; position < size; position++) {
+                chunk.put(position, (byte) 0);
+            }
+        }
+    }
+
+    @Override
+    public int countAdjacentMines(int index) {
+        return (get(index) & COUNT_MASK) >>> COUNT_SHIFT;
+    }
+
+    @Override
+    public void countAdjacentMinesInRow(int row, byte[] counts) {
+        int rowStart = row * dimensions.width();
+        for (int col = 0; col < dimensions.width(); col++) {
+            counts[col] = (byte) ((get(rowStart + col) & COUNT_MASK) >>> COUNT_SHIFT);
+        }
+    }
+
+    @Override
+    public void loadCell(int index, boolean mined, int adjacentMines) {
+        put(index, (byte) ((get(index) & STATE_MASK) | (mined ? MINE_BIT : 0) | (adjacentMines << COUNT_SHIFT)));
+    }
+
+    /**
+     * Every cell is a byte of its own, so distinct cells can be revealed concurrently.
+     */
+    @Override
+    public boolean supportsConcurrentReveal() {
+        return true;
+    }
+
+    /**
+     * Every cell is a byte of its own, so distinct rows can be loaded concurrently.
+     */
+    @Override
+    public boolean supportsConcurrentLoad() {
+        return true;
+    }
+
+    /**
+     * Gets the state of the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @return the {@code CellState} of the cell
+     */
+    public CellState getState(int index) {
+        return STATES[(get(index) & STATE_MASK) >>> STATE_SHIFT];
+    }
+
+    /**
+     * Sets the state of the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @param state the new {@code CellState} of the cell
+     */
+    public void setState(int index, CellState state) {
+        put(index, (byte) ((get(index) & ~STATE_MASK) | (state.ordinal() << STATE_SHIFT)));
+    }
+
+    /**
+     * Checks if the buffers of this storage have been detached.
+     *
+     * @return {@code true} if the storage has been closed, {@code false} otherwise
+     */
+    public boolean isClosed() {
+        return chunks == null;
+    }
+
+    /**
+     * Gets the buffers holding the cells.
+     *
+     * @return the chunks of this storage
+     * @throws IllegalStateException if the storage has been closed
+     */
+    protected ByteBuffer[] chunks() {
+        ByteBuffer[] current = chunks;
+        if (current == null) {
+            throw new IllegalStateException("The cell storage has been closed");
+        }
+        return current;
+    }
+
+    /**
+     * Detaches the buffers from this storage, so that later accesses fail instead of touching released memory.
+     *
+     * @return the detached buffers, or {@code null} if they were already detached
+     */
+    protected ByteBuffer[] detachChunks() {
+        ByteBuffer[] detached = chunks;
+        chunks = null;
+        return detached;
+    }
+
+    private byte get(int index) {
+        return chunk(index).get(index & CHUNK_MASK);
+    }
+
+    private void put(int index, byte value) {
+        chunk(index).put(index & CHUNK_MASK, value);
+    }
+
+    private ByteBuffer chunk(int index) {
+        return chunks()[index >>> CHUNK_SHIFT];
+    }
+
+    /**
+     * Adds the given delta to the adjacent-mine count of every neighbour of a cell.
+     *
+     * @param index the cell whose mine status changed
+     * @param delta {@code 1} if a mine was placed, {@code -1} if it was removed
+     */
+    private void adjustNeighbourCounts(int index, int delta) {
+        int width = dimensions.width();
+        int row = index / width;
+        int col = index % width;
+        int change = delta << COUNT_SHIFT;
+
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, dimensions.height() - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, width - 1); c++) {
+                if (r != row || c != col) {
+                    int neighbour = r * width + c;
+                    put(neighbour, (byte) (get(neighbour) + change));
+                }
+            }
+        }
+    }
+
+    /**
+     * The {@code BufferCell} class is a {@code Cell} view over one byte of a buffer.
+     */
+    private final class BufferCell extends Cell {
+
+        private final int index;
+
+        private BufferCell(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void toggleFlag() {
+            ByteBufferCellStorage.this.toggleFlag(index);
+        }
+
+        @Override
+        public void reveal() {
+            ByteBufferCellStorage.this.reveal(index);
+        }
+
+        @Override
+        public boolean isMined() {
+            return ByteBufferCellStorage.this.isMined(index);
+        }
+
+        @Override
+        public void setMined(boolean mined) {
+            ByteBufferCellStorage.this.setMined(index, mined);
+        }
+
+        @Override
+        public boolean isRevealed() {
+            return ByteBufferCellStorage.this.isRevealed(index);
+        }
+
+        @Override
+        public boolean isFlagged() {
+            return ByteBufferCellStorage.this.isFlagged(index);
+        }
+    }
+}
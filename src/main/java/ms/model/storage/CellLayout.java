@@ -0,0 +1,212 @@
+package ms.model.storage;
+
+import ms.model.GridDimension;
+
+/**
+ * The {@code CellLayout} enum defines how the cells of a flat storage engine are arranged in memory.
+ * A layout maps the public row-major index of a cell to the slot that holds it.
+ */
+public enum CellLayout {
+
+    /**
+     * Slots follow the public row-major order, so the slot of a cell is its index.
+     */
+    ROW_MAJOR {
+        @Override
+        public int slotCount(GridDimension dimensions) {
+            return dimensions.totalCells();
+        }
+
+        @Override
+        public int stride(GridDimension dimensions) {
+            return dimensions.width();
+        }
+
+        @Override
+        public int slotOf(GridDimension dimensions, int index) {
+            return index;
+        }
+
+        @Override
+        public int slotOf(GridDimension dimensions, int row, int col) {
+            return row * dimensions.width() + col;
+        }
+
+        @Override
+        public int neighbourSlots(GridDimension dimensions, int slot, int[] neighbours) {
+            return dimensions.neighbours(slot, neighbours);
+        }
+    },
+
+    /**
+     * The grid is surrounded by a one-cell ring of sentinel slots that are never mined and always revealed,
+     * so every cell has eight neighbour slots at fixed offsets and neighbour loops need no bounds checks.
+     */
+    PADDED {
+        @Override
+        public int slotCount(GridDimension dimensions) {
+            return (dimensions.height() + 2) * (dimensions.width() + 2);
+        }
+
+        @Override
+        public int stride(GridDimension dimensions) {
+            return dimensions.width() + 2;
+        }
+
+        @Override
+        public int slotOf(GridDimension dimensions, int index) {
+            return slotOf(dimensions, dimensions.rowOf(index), dimensions.colOf(index));
+        }
+
+        @Override
+        public int slotOf(GridDimension dimensions, int row, int col) {
+            return (row + 1) * stride(dimensions) + col + 1;
+        }
+
+        @Override
+        public int neighbourSlots(GridDimension dimensions, int slot, int[] neighbours) {
+            int stride = stride(dimensions);
+            neighbours[0] = slot - stride - 1;
+            neighbours[1] = slot - stride;
+            neighbours[2] = slot - stride + 1;
+            neighbours[3] = slot - 1;
+            neighbours[4] = slot + 1;
+            neighbours[5] = slot + stride - 1;
+            neighbours[6] = slot + stride;
+            neighbours[7] = slot + stride + 1;
+            return 8;
+        }
+    },
+
+    /**
+     * The grid is cut into square tiles of {@value #TILE_SIZE} by {@value #TILE_SIZE} cells, laid out one after
+     * the other in row-major order, and the cells of a tile are row-major inside it. A tile of bytes fills one
+     * 64-byte cache line, so a neighbourhood or a two-dimensional flood fill touches a few lines instead of
+     * one line per row, however wide the board is. Tiles at the right and bottom edges are partly unused.
+     * Rows are not contiguous, and neighbours are only at {@code stride} offsets within a tile.
+     * The unused slots of the edge tiles are padding, like the ring of the {@code PADDED} layout.
+     */
+    TILED {
+        @Override
+        public int slotCount(GridDimension dimensions) {
+            return tilesAcross(dimensions) * ((dimensions.height() + TILE_MASK) >>> TILE_SHIFT) << TILE_AREA_SHIFT;
+        }
+
+        @Override
+        public int stride(GridDimension dimensions) {
+            return TILE_SIZE;
+        }
+
+        @Override
+        public int slotOf(GridDimension dimensions, int index) {
+            return slotOf(dimensions, dimensions.rowOf(index), dimensions.colOf(index));
+        }
+
+        @Override
+        public int slotOf(GridDimension dimensions, int row, int col) {
+            int tile = (row >>> TILE_SHIFT) * tilesAcross(dimensions) + (col >>> TILE_SHIFT);
+            return tile << TILE_AREA_SHIFT | (row & TILE_MASK) << TILE_SHIFT | (col & TILE_MASK);
+        }
+
+        @Override
+        public int neighbourSlots(GridDimension dimensions, int slot, int[] neighbours) {
+            int tileRow = (slot >>> TILE_SHIFT) & TILE_MASK;
+            int tileCol = slot & TILE_MASK;
+
+            if (tileRow > 0 && tileRow < TILE_MASK && tileCol > 0 && tileCol < TILE_MASK) {
+                neighbours[0] = slot - TILE_SIZE - 1;
+                neighbours[1] = slot - TILE_SIZE;
+                neighbours[2] = slot - TILE_SIZE + 1;
+                neighbours[3] = slot - 1;
+                neighbours[4] = slot + 1;
+                neighbours[5] = slot + TILE_SIZE - 1;
+                neighbours[6] = slot + TILE_SIZE;
+                neighbours[7] = slot + TILE_SIZE + 1;
+                return 8;
+            }
+
+            int tilesAcross = tilesAcross(dimensions);
+            int tile = slot >>> TILE_AREA_SHIFT;
+            int row = (tile / tilesAcross) << TILE_SHIFT | tileRow;
+            int col = (tile % tilesAcross) << TILE_SHIFT | tileCol;
+            int count = 0;
+
+            for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, dimensions.height() - 1); r++) {
+                for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, dimensions.width() - 1); c++) {
+                    if (r != row || c != col) {
+                        neighbours[count++] = slotOf(dimensions, r, c);
+                    }
+                }
+            }
+            return count;
+        }
+
+        private int tilesAcross(GridDimension dimensions) {
+            return (dimensions.width() + TILE_MASK) >>> TILE_SHIFT;
+        }
+    };
+
+    /**
+     * The side of a tile in the {@code TILED} layout.
+     */
+    public static final int TILE_SIZE = 8;
+
+    private static final int TILE_SHIFT = 3;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    private static final int TILE_AREA_SHIFT = 2 * TILE_SHIFT;
+
+    /**
+     * Gets the number of slots needed to hold a grid, including any padding.
+     *
+     * @param dimensions the dimensions of the grid
+     * @return the number of slots
+     */
+    public abstract int slotCount(GridDimension dimensions);
+
+    /**
+     * Gets the distance, in slots, between two vertically adjacent cells.
+     *
+     * @param dimensions the dimensions of the grid
+     * @return the row stride
+     */
+    public abstract int stride(GridDimension dimensions);
+
+    /**
+     * Maps the public row-major index of a cell to its slot.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param index the linear index of the cell
+     * @return the slot holding the cell
+     */
+    public abstract int slotOf(GridDimension dimensions, int index);
+
+    /**
+     * Maps the coordinates of a cell to its slot, without dividing by the width.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the slot holding the cell
+     */
+    public abstract int slotOf(GridDimension dimensions, int row, int col);
+
+    /**
+     * Writes the slots of the neighbours of a slot into the given buffer, without allocating.
+     * Neighbours outside the grid are either skipped or, where the layout has them, padding slots.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param slot the slot of the center cell
+     * @param neighbours a buffer of at least eight elements receiving the neighbour slots
+     * @return the number of neighbours written
+     */
+    public abstract int neighbourSlots(GridDimension dimensions, int slot, int[] neighbours);
+
+    /**
+     * Checks if the cells of each row occupy consecutive slots.
+     *
+     * @return {@code true} if a row can be scanned slot by slot, {@code false} otherwise
+     */
+    public boolean hasContiguousRows() {
+        return this != TILED;
+    }
+}
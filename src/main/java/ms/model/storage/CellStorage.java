@@ -0,0 +1,161 @@
+package ms.model.storage;
+
+import ms.model.BitSlicedAdjacency;
+import ms.model.Cell;
+import ms.model.GridDimension;
+
+/**
+ * The {@code CellStorage} interface defines how the cells of a minefield are kept in memory.
+ * Cells are addressed by their row-major linear index, {@code row * width + col}.
+ * Storages holding resources outside the heap release them in {@code close}.
+ */
+public interface CellStorage extends AutoCloseable {
+
+    /**
+     * Gets the dimensions of the grid held by this storage.
+     *
+     * @return the grid dimensions
+     */
+    GridDimension dimensions();
+
+    /**
+     * Gets the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @return the {@code Cell} at the given index
+     */
+    Cell getCell(int index);
+
+    /**
+     * Checks if the cell at the specified index contains a mine.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is mined, {@code false} otherwise
+     */
+    boolean isMined(int index);
+
+    /**
+     * Sets the mine status of the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @param mined {@code true} to place a mine, {@code false} to remove it
+     */
+    void setMined(int index, boolean mined);
+
+    /**
+     * Checks if the cell at the specified index has been revealed (either normally or by explosion).
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is revealed or exploded, {@code false} otherwise
+     */
+    boolean isRevealed(int index);
+
+    /**
+     * Checks if the cell at the specified index is currently flagged.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is flagged, {@code false} otherwise
+     */
+    boolean isFlagged(int index);
+
+    /**
+     * Reveals the cell at the specified index, following the {@code CellState} transitions.
+     *
+     * @param index the linear index of the cell
+     */
+    void reveal(int index);
+
+    /**
+     * Toggles the flag state of the cell at the specified index, following the {@code CellState} transitions.
+     *
+     * @param index the linear index of the cell
+     */
+    void toggleFlag(int index);
+
+    /**
+     * Counts the number of mines adjacent to the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @return the number of adjacent mines (0-8)
+     */
+    int countAdjacentMines(int index);
+
+    /**
+     * Restores every cell to hidden and not mined in bulk, keeping the memory of the storage,
+     * so that a new board can be generated in place without allocating.
+     */
+    void clear();
+
+    /**
+     * Counts the adjacent mines of every cell of a row.
+     * The default implementation gathers the mine bits of the row and its neighbours
+     * and counts them with {@code BitSlicedAdjacency}.
+     *
+     * @param row the row to count
+     * @param counts receives the count of column {@code c} at index {@code c}
+     */
+    default void countAdjacentMinesInRow(int row, byte[] counts) {
+        GridDimension dimensions = dimensions();
+        int height = dimensions.height();
+        int width = dimensions.width();
+        int wordsPerRow = (width + 63) >>> 6;
+        long[] rows = new long[3 * wordsPerRow];
+
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, height - 1); r++) {
+            int offset = (r - row + 1) * wordsPerRow;
+            for (int col = 0; col < width; col++) {
+                if (isMined(r * width + col)) {
+                    rows[offset + (col >>> 6)] |= 1L << col;
+                }
+            }
+        }
+
+        BitSlicedAdjacency.countRow(rows,
+                row > 0 ? 0 : BitSlicedAdjacency.NO_ROW,
+                wordsPerRow,
+                row < height - 1 ? 2 * wordsPerRow : BitSlicedAdjacency.NO_ROW,
+                wordsPerRow, width, counts);
+    }
+
+    /**
+     * Writes the mine status and the adjacent-mine count of a cell computed by a bulk loader,
+     * without updating its neighbours. Loading every cell this way leaves the storage consistent.
+     * Calls for distinct rows may only run concurrently if {@link #supportsConcurrentLoad()} says so.
+     *
+     * @param index the linear index of the cell
+     * @param mined {@code true} if the cell holds a mine
+     * @param adjacentMines the number of mines adjacent to the cell (0-8)
+     */
+    default void loadCell(int index, boolean mined, int adjacentMines) {
+        setMined(index, mined);
+    }
+
+    /**
+     * Checks if the cells of distinct rows may be loaded with {@link #loadCell} from several threads at once.
+     * The default implementation returns {@code false}, since the default {@code loadCell} goes through
+     * {@code setMined}, which storages are free to implement with shared structures.
+     *
+     * @return {@code true} if concurrent loads of distinct rows are safe, {@code false} otherwise
+     */
+    default boolean supportsConcurrentLoad() {
+        return false;
+    }
+
+    /**
+     * Checks if distinct cells may be revealed, and their state read, from several threads at once.
+     * Storages that pack several cells into one word or keep them in shared structures are not safe,
+     * so the default implementation returns {@code false}.
+     *
+     * @return {@code true} if concurrent reveals of distinct cells are safe, {@code false} otherwise
+     */
+    default boolean supportsConcurrentReveal() {
+        return false;
+    }
+
+    /**
+     * Releases the resources held by this storage. Storages on the heap have nothing to release.
+     */
+    @Override
+    default void close() {
+    }
+}
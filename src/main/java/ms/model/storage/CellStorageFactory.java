@@ -0,0 +1,25 @@
+package ms.model.storage;
+
+import ms.model.GridDimension;
+
+/**
+ * The {@code CellStorageFactory} interface defines a method for creating the {@code CellStorage}
+ * that backs a minefield of the given dimensions.
+ */
+@FunctionalInterface
+public interface CellStorageFactory {
+
+    CellStorage createStorage(GridDimension dimensions);
+
+    /**
+     * Creates the storage for a board whose number of mines is known, so that a factory
+     * can choose an engine by density. The default implementation ignores the mine count.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param mines the number of mines that will be placed
+     * @return a new {@code CellStorage}
+     */
+    default CellStorage createStorage(GridDimension dimensions, int mines) {
+        return createStorage(dimensions);
+    }
+}
@@ -0,0 +1,169 @@
+package ms.model.storage;
+
+import java.util.Arrays;
+
+/**
+ * The {@code CompressedBitmap} class is a roaring-style bitmap over {@code int} positions.
+ * Positions are grouped by their upper 16 bits into containers that are only created when a bit
+ * of their range is first set. A container starts as a sorted array of its set positions and turns into
+ * a plain 65536-bit bitmap once it holds more than 4096 of them, so it never takes more than 8 KiB.
+ */
+final class CompressedBitmap {
+
+    private static final int CONTAINER_BITS = 16;
+    private static final int LOW_MASK = (1 << CONTAINER_BITS) - 1;
+    private static final int ARRAY_LIMIT = 4096;
+
+    private final Container[] containers;
+
+    /**
+     * Constructs an empty bitmap for positions below the given bound.
+     *
+     * @param bound the number of positions
+     */
+    CompressedBitmap(int bound) {
+        this.containers = new Container[(Math.max(bound, 1) - 1 >>> CONTAINER_BITS) + 1];
+    }
+
+    boolean get(int position) {
+        Container container = containers[position >>> CONTAINER_BITS];
+        return container != null && container.get(position & LOW_MASK);
+    }
+
+    void set(int position, boolean value) {
+        int key = position >>> CONTAINER_BITS;
+        Container container = containers[key];
+        if (container == null) {
+            if (!value) {
+                return;
+            }
+            container = new ArrayContainer();
+        }
+        containers[key] = value ? container.add(position & LOW_MASK) : container.remove(position & LOW_MASK);
+    }
+
+    /**
+     * Clears every position, dropping the containers.
+     */
+    void clear() {
+        Arrays.fill(containers, null);
+    }
+
+    /**
+     * @return the approximate number of bytes held by the containers
+     */
+    long memoryUsage() {
+        long bytes = 0;
+        for (Container container : containers) {
+            if (container != null) {
+                bytes += container.memoryUsage();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * A {@code Container} holds the set low positions of one 65536-bit range.
+     * Updates return the container to keep, which may be a new representation, or {@code null} once empty.
+     */
+    private interface Container {
+
+        boolean get(int low);
+
+        Container add(int low);
+
+        Container remove(int low);
+
+        long memoryUsage();
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean get(int low) {
+            return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+        }
+
+        @Override
+        public Container add(int low) {
+            int found = Arrays.binarySearch(values, 0, size, (char) low);
+            if (found >= 0) {
+                return this;
+            }
+            if (size == ARRAY_LIMIT) {
+                return toBitmap().add(low);
+            }
+
+            int insertion = -found - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+            values[insertion] = (char) low;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(int low) {
+            int found = Arrays.binarySearch(values, 0, size, (char) low);
+            if (found < 0) {
+                return this;
+            }
+
+            System.arraycopy(values, found + 1, values, found, size - found - 1);
+            size--;
+            return size == 0 ? null : this;
+        }
+
+        @Override
+        public long memoryUsage() {
+            return 2L * values.length;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[1 << (CONTAINER_BITS - 6)];
+        private int cardinality;
+
+        @Override
+        public boolean get(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public Container add(int low) {
+            if (!get(low)) {
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(int low) {
+            if (get(low)) {
+                words[low >>> 6] &= ~(1L << low);
+                cardinality--;
+            }
+            return cardinality == 0 ? null : this;
+        }
+
+        @Override
+        public long memoryUsage() {
+            return 8L * words.length;
+        }
+    }
+}
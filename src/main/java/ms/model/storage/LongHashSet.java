@@ -0,0 +1,122 @@
+package ms.model.storage;
+
+import java.util.Arrays;
+
+/**
+ * The {@code LongHashSet} class is a set of non-negative {@code long} values stored in a single array
+ * with open addressing and linear probing, so no value is ever boxed.
+ * Removal shifts the following entries of the probe run back, so the table never holds tombstones.
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = -1L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int size;
+
+    /**
+     * Constructs a set able to hold the expected number of values without growing.
+     *
+     * @param expectedSize the expected number of values
+     */
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes every value, keeping the table.
+     */
+    void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+
+    boolean contains(long value) {
+        int mask = table.length - 1;
+        for (int slot = slotOf(value, mask); ; slot = (slot + 1) & mask) {
+            long entry = table[slot];
+            if (entry == value) {
+                return true;
+            }
+            if (entry == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @return {@code true} if the value was not already present
+     */
+    boolean add(long value) {
+        if ((size + 1) * 2 > table.length) {
+            grow();
+        }
+
+        int mask = table.length - 1;
+        for (int slot = slotOf(value, mask); ; slot = (slot + 1) & mask) {
+            long entry = table[slot];
+            if (entry == value) {
+                return false;
+            }
+            if (entry == EMPTY) {
+                table[slot] = value;
+                size++;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes a value from the set.
+     *
+     * @return {@code true} if the value was present
+     */
+    boolean remove(long value) {
+        int mask = table.length - 1;
+        int slot = slotOf(value, mask);
+        while (table[slot] != value) {
+            if (table[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slotOf(table[next], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        Arrays.fill(table, EMPTY);
+        size = 0;
+        for (long entry : old) {
+            if (entry != EMPTY) {
+                add(entry);
+            }
+        }
+    }
+
+    private static int slotOf(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
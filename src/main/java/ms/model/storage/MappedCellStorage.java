@@ -0,0 +1,156 @@
+package ms.model.storage;
+
+import ms.model.GridDimension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code MappedCellStorage} class keeps the cells of a board in a file mapped into memory.
+ * The file starts with a {@code BoardHeader} followed by one packed byte per cell, so reveals and flags
+ * are written straight into the page cache and survive a crash of the JVM. Opening an existing file only
+ * maps it: no cell is read until it is used, so reopening takes the same time whatever the size of the board.
+ */
+public class MappedCellStorage extends ByteBufferCellStorage {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer headerBuffer;
+    private final BoardHeader header;
+
+    private MappedCellStorage(Path file, FileChannel channel, MappedByteBuffer headerBuffer,
+                              GridDimension dimensions, ByteBuffer[] chunks) {
+        super(dimensions, chunks);
+        this.file = file;
+        this.channel = channel;
+        this.headerBuffer = headerBuffer;
+        this.header = new BoardHeader(headerBuffer);
+    }
+
+    /**
+     * Creates a new board file with every cell hidden and not mined, replacing any existing file.
+     * The old file is unlinked first, so a storage still mapping it is not affected.
+     *
+     * @param file the path of the board file
+     * @param dimensions the dimensions of the grid
+     * @return a storage mapping the new file
+     * @throws UncheckedIOException if the file cannot be created
+     */
+    public static MappedCellStorage create(Path file, GridDimension dimensions) {
+        try {
+            Files.deleteIfExists(file);
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedCellStorage storage = map(file, channel, dimensions);
+            storage.header.format(dimensions.height(), dimensions.width());
+            return storage;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create board file " + file, e);
+        }
+    }
+
+    /**
+     * Opens an existing board file without reading its cells.
+     *
+     * @param file the path of the board file
+     * @return a storage mapping the file
+     * @throws IllegalArgumentException if the file is not a board file of the supported version
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public static MappedCellStorage open(Path file) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() < BoardHeader.SIZE) {
+                channel.close();
+                throw new IllegalArgumentException("Not a board file: " + file);
+            }
+
+            ByteBuffer probe = ByteBuffer.allocate(BoardHeader.SIZE);
+            channel.read(probe, 0);
+            BoardHeader header = new BoardHeader(probe);
+            GridDimension dimensions = header.isValid() ? new GridDimension(header.getHeight(), header.getWidth()) : null;
+            if (dimensions == null || channel.size() != BoardHeader.SIZE + (long) dimensions.totalCells()) {
+                channel.close();
+                throw new IllegalArgumentException("Not a board file: " + file);
+            }
+            return map(file, channel, dimensions);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open board file " + file, e);
+        }
+    }
+
+    /**
+     * Gets a factory creating a new board file at the given path for each storage.
+     *
+     * @param file the path of the board file
+     * @return a {@code CellStorageFactory} backed by the file
+     */
+    public static CellStorageFactory at(Path file) {
+        return dimensions -> create(file, dimensions);
+    }
+
+    private static MappedCellStorage map(Path file, FileChannel channel, GridDimension dimensions) throws IOException {
+        int cells = dimensions.totalCells();
+        MappedByteBuffer headerBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, BoardHeader.SIZE);
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(cells)];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            long position = BoardHeader.SIZE + ((long) chunk << CHUNK_SHIFT);
+            chunks[chunk] = channel.map(FileChannel.MapMode.READ_WRITE, position, chunkSize(cells, chunk));
+        }
+        return new MappedCellStorage(file, channel, headerBuffer, dimensions, chunks);
+    }
+
+    /**
+     * @return the path of the board file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the header of the board file, holding the state of the game
+     */
+    public BoardHeader header() {
+        return header;
+    }
+
+    /**
+     * Writes the modified pages of the mapping to the storage device,
+     * so the board also survives a crash of the operating system.
+     */
+    public void force() {
+        headerBuffer.force();
+        for (ByteBuffer chunk : chunks()) {
+            ((MappedByteBuffer) chunk).force();
+        }
+    }
+
+    /**
+     * Unmaps the file and closes it. The contents of the file are kept. Calling it again has no effect.
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] released = detachChunks();
+        if (released == null) {
+            return;
+        }
+
+        for (ByteBuffer chunk : released) {
+            release(chunk);
+        }
+        release(headerBuffer);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close board file " + file, e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package ms.model.storage;
+
+import ms.model.Cell;
+import ms.model.GridDimension;
+
+/**
+ * The {@code ObjectCellStorage} class keeps one {@code Cell} object per grid position.
+ * It is the original storage engine and the cheapest choice for small boards.
+ */
+public class ObjectCellStorage implements CellStorage {
+
+    private final GridDimension dimensions;
+    private final Cell[] field;
+
+    /**
+     * Constructs a new {@code ObjectCellStorage} with every cell hidden and not mined.
+     *
+     * @param dimensions the dimensions of the grid
+     */
+    public ObjectCellStorage(GridDimension dimensions) {
+        this.dimensions = dimensions;
+        this.field = new Cell[dimensions.totalCells()];
+
+        initializeCells();
+    }
+
+    /**
+     * Initializes all cells in the grid to their default (empty) state.
+     */
+    private void initializeCells() {
+        for (int i = 0; i < field.length; i++) {
+            field[i] = new Cell();
+        }
+    }
+
+    @Override
+    public GridDimension dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public Cell getCell(int index) {
+        return field[index];
+    }
+
+    @Override
+    public boolean isMined(int index) {
+        return field[index].isMined();
+    }
+
+    @Override
+    public void setMined(int index, boolean mined) {
+        field[index].setMined(mined);
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        return field[index].isRevealed();
+    }
+
+    @Override
+    public boolean isFlagged(int index) {
+        return field[index].isFlagged();
+    }
+
+    @Override
+    public void reveal(int index) {
+        field[index].reveal();
+    }
+
+    @Override
+    public void toggleFlag(int index) {
+        field[index].toggleFlag();
+    }
+
+    /**
+     * Resets every {@code Cell} object in place, so no cell is allocated.
+     */
+    @Override
+    public void clear() {
+        for (Cell cell : field) {
+            cell.reset();
+        }
+    }
+
+    @Override
+    public int countAdjacentMines(int index) {
+        int width = dimensions.width();
+        int row = index / width;
+        int col = index % width;
+
+        int mineCount = 0;
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, dimensions.height() - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, width - 1); c++) {
+                if ((r != row || c != col) && field[r * width + c].isMined()) {
+                    mineCount++;
+                }
+            }
+        }
+        return mineCount;
+    }
+
+    /**
+     * Every cell is an object of its own, so distinct cells can be revealed concurrently.
+     */
+    @Override
+    public boolean supportsConcurrentReveal() {
+        return true;
+    }
+
+    /**
+     * Every cell is an object of its own, so distinct rows can be loaded concurrently.
+     */
+    @Override
+    public boolean supportsConcurrentLoad() {
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package ms.model.storage;
+
+import ms.model.GridDimension;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@code OffHeapCellStorage} class keeps every cell in one byte of native memory, outside the Java heap.
+ * The memory is split into direct buffers of at most 1 GiB, so the heap only holds a handful of small objects
+ * whatever the size of the board and the garbage collector never scans or copies the cells.
+ * The memory is released by {@code close}; a closed storage throws {@code IllegalStateException} on access.
+ */
+public class OffHeapCellStorage extends ByteBufferCellStorage {
+
+    /**
+     * Constructs a new {@code OffHeapCellStorage} with every cell hidden and not mined.
+     *
+     * @param dimensions the dimensions of the grid
+     */
+    public OffHeapCellStorage(GridDimension dimensions) {
+        super(dimensions, allocate(dimensions.totalCells()));
+    }
+
+    private static ByteBuffer[] allocate(int cells) {
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(cells)];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            chunks[chunk] = ByteBuffer.allocateDirect(chunkSize(cells, chunk));
+        }
+        return chunks;
+    }
+
+    /**
+     * Releases the native memory of this storage. Calling it again has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] released = detachChunks();
+        if (released == null) {
+            return;
+        }
+        for (ByteBuffer chunk : released) {
+            release(chunk);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package ms.model.storage;
+
+import ms.model.Cell;
+import ms.model.CellState;
+import ms.model.GridDimension;
+
+import java.util.Arrays;
+
+/**
+ * The {@code PackedCellStorage} class keeps every cell in a single byte of a flat array.
+ * Each byte holds the mine bit, the {@code CellState} in two bits and the number of
+ * adjacent mines in four bits, which is kept up to date whenever a mine is placed or removed.
+ * This makes {@code countAdjacentMines} a single array load.
+ * The order of the bytes is given by a {@code CellLayout}; besides the index-based methods of
+ * {@code CellStorage}, slot-based methods let traversals work directly in the layout.
+ */
+public class PackedCellStorage implements CellStorage {
+
+    static final int MINE_BIT = 0x01;
+    static final int STATE_SHIFT = 1;
+    static final int STATE_MASK = 0x03 << STATE_SHIFT;
+    static final int COUNT_SHIFT = 3;
+    static final int COUNT_MASK = 0x0F << COUNT_SHIFT;
+    private static final CellState[] STATES = CellState.values();
+
+    private final GridDimension dimensions;
+    private final CellLayout layout;
+    private final int[] neighbourSlotOffsets;
+    private final int[] neighbourBuffer = new int[8];
+    private final byte[] cells;
+
+    /**
+     * Constructs a new row-major {@code PackedCellStorage} with every cell hidden and not mined.
+     *
+     * @param dimensions the dimensions of the grid
+     */
+    public PackedCellStorage(GridDimension dimensions) {
+        this(dimensions, CellLayout.ROW_MAJOR);
+    }
+
+    /**
+     * Constructs a new {@code PackedCellStorage} with the given layout and every cell hidden and not mined.
+     * Padding slots, if the layout has any, are permanently revealed.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param layout the arrangement of the cells in memory
+     */
+    public PackedCellStorage(GridDimension dimensions, CellLayout layout) {
+        this.dimensions = dimensions;
+        this.layout = layout;
+        this.neighbourSlotOffsets = computeNeighbourSlotOffsets(layout.stride(dimensions));
+        this.cells = new byte[layout.slotCount(dimensions)];
+
+        initializePadding();
+    }
+
+    /**
+     * Marks the padding slots of the layout, if it has any, as revealed.
+     */
+    private void initializePadding() {
+        if (layout == CellLayout.PADDED) {
+            initializeSentinels();
+        } else if (layout == CellLayout.TILED) {
+            initializeTilePadding();
+        }
+    }
+
+    /**
+     * Marks every slot of the padding ring as revealed.
+     */
+    private void initializeSentinels() {
+        int stride = layout.stride(dimensions);
+        int lastRow = cells.length - stride;
+        byte sentinel = (byte) (CellState.REVEALED.ordinal() << STATE_SHIFT);
+
+        for (int slot = 0; slot < stride; slot++) {
+            cells[slot] = sentinel;
+            cells[lastRow + slot] = sentinel;
+        }
+        for (int slot = stride; slot < lastRow; slot += stride) {
+            cells[slot] = sentinel;
+            cells[slot + stride - 1] = sentinel;
+        }
+    }
+
+    /**
+     * Marks the slots of the edge tiles that lie outside the grid as revealed.
+     */
+    private void initializeTilePadding() {
+        Arrays.fill(cells, (byte) (CellState.REVEALED.ordinal() << STATE_SHIFT));
+        for (int row = 0; row < dimensions.height(); row++) {
+            for (int col = 0; col < dimensions.width(); col++) {
+                cells[layout.slotOf(dimensions, row, col)] = 0;
+            }
+        }
+    }
+
+    private static int[] computeNeighbourSlotOffsets(int stride) {
+        return new int[]{-stride - 1, -stride, -stride + 1, -1, 1, stride - 1, stride, stride + 1};
+    }
+
+    @Override
+    public GridDimension dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return the layout of the cells in memory
+     */
+    public CellLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets the slot holding the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @return the slot of the cell
+     */
+    public int slotOf(int index) {
+        return layout.slotOf(dimensions, index);
+    }
+
+    /**
+     * Gets the offsets from a slot to its eight neighbour slots, in the same order as
+     * {@code Position.getAdjacentPositions}. In the padded layout they are valid for every cell;
+     * in the tiled layout only for cells inside a tile.
+     *
+     * @return a new array of eight slot offsets
+     */
+    public int[] neighbourSlotOffsets() {
+        return neighbourSlotOffsets.clone();
+    }
+
+    /**
+     * Writes the slots of the neighbours of a slot into the given buffer, in any layout.
+     * The written slots may include padding slots, which are never open.
+     *
+     * @param slot the slot of the center cell
+     * @param neighbours a buffer of at least eight elements receiving the neighbour slots
+     * @return the number of neighbours written
+     */
+    public int neighbourSlots(int slot, int[] neighbours) {
+        return layout.neighbourSlots(dimensions, slot, neighbours);
+    }
+
+    /**
+     * Gets a view of the cell at the specified index.
+     * Every change made through the returned {@code Cell} is written back to the packed byte.
+     *
+     * @param index the linear index of the cell
+     * @return a {@code Cell} view of the given index
+     */
+    @Override
+    public Cell getCell(int index) {
+        return new PackedCell(index, slotOf(index));
+    }
+
+    @Override
+    public boolean isMined(int index) {
+        return isMinedAt(slotOf(index));
+    }
+
+    @Override
+    public void setMined(int index, boolean mined) {
+        setMinedAt(index, slotOf(index), mined);
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        return isRevealedAt(slotOf(index));
+    }
+
+    @Override
+    public boolean isFlagged(int index) {
+        return isFlaggedAt(slotOf(index));
+    }
+
+    @Override
+    public void reveal(int index) {
+        revealAt(slotOf(index));
+    }
+
+    @Override
+    public void toggleFlag(int index) {
+        int slot = slotOf(index);
+        setStateAt(slot, getStateAt(slot).toggleFlag());
+    }
+
+    /**
+     * Zeroes the packed array with {@code Arrays.fill} and marks the padding slots again.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(cells, (byte) 0);
+        initializePadding();
+    }
+
+    @Override
+    public int countAdjacentMines(int index) {
+        return countAdjacentMinesAt(slotOf(index));
+    }
+
+    /**
+     * Copies the stored adjacent-mine counts of a row.
+     *
+     * @param row the row to count
+     * @param counts receives the count of column {@code c} at index {@code c}
+     */
+    @Override
+    public void countAdjacentMinesInRow(int row, byte[] counts) {
+        int width = dimensions.width();
+        if (!layout.hasContiguousRows()) {
+            for (int col = 0; col < width; col++) {
+                counts[col] = (byte) countAdjacentMinesAt(layout.slotOf(dimensions, row, col));
+            }
+            return;
+        }
+
+        int rowSlot = slotOf(row * width);
+        for (int col = 0; col < width; col++) {
+            counts[col] = (byte) ((cells[rowSlot + col] & COUNT_MASK) >>> COUNT_SHIFT);
+        }
+    }
+
+    /**
+     * Writes the mine bit and the adjacent-mine count into the packed byte, keeping the cell state.
+     *
+     * @param index the linear index of the cell
+     * @param mined {@code true} if the cell holds a mine
+     * @param adjacentMines the number of mines adjacent to the cell (0-8)
+     */
+    @Override
+    public void loadCell(int index, boolean mined, int adjacentMines) {
+        int slot = slotOf(index);
+        cells[slot] = (byte) ((cells[slot] & STATE_MASK) | (mined ? MINE_BIT : 0) | (adjacentMines << COUNT_SHIFT));
+    }
+
+    /**
+     * Every cell is a byte of its own, so distinct cells can be revealed concurrently.
+     */
+    @Override
+    public boolean supportsConcurrentReveal() {
+        return true;
+    }
+
+    /**
+     * Every cell is a byte of its own, so distinct rows can be loaded concurrently.
+     */
+    @Override
+    public boolean supportsConcurrentLoad() {
+        return true;
+    }
+
+    /**
+     * Gets the state of the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @return the {@code CellState} of the cell
+     */
+    public CellState getState(int index) {
+        return getStateAt(slotOf(index));
+    }
+
+    /**
+     * Sets the state of the cell at the specified index.
+     *
+     * @param index the linear index of the cell
+     * @param state the new {@code CellState} of the cell
+     */
+    public void setState(int index, CellState state) {
+        setStateAt(slotOf(index), state);
+    }
+
+    /**
+     * Checks if the slot holds a cell that is hidden, not flagged and not mined,
+     * with a single comparison on the packed byte. Padding slots are never open.
+     *
+     * @param slot the slot to check
+     * @return {@code true} if a cascade may reveal the slot, {@code false} otherwise
+     */
+    public boolean isOpenAt(int slot) {
+        return (cells[slot] & (MINE_BIT | STATE_MASK)) == 0;
+    }
+
+    /**
+     * Checks if the slot holds a mine.
+     *
+     * @param slot the slot to check
+     * @return {@code true} if the slot is mined, {@code false} otherwise
+     */
+    public boolean isMinedAt(int slot) {
+        return (cells[slot] & MINE_BIT) != 0;
+    }
+
+    /**
+     * Checks if the slot is revealed or exploded. Padding slots are always revealed.
+     *
+     * @param slot the slot to check
+     * @return {@code true} if the slot is revealed, {@code false} otherwise
+     */
+    public boolean isRevealedAt(int slot) {
+        CellState state = getStateAt(slot);
+        return state == CellState.REVEALED || state == CellState.EXPLODED;
+    }
+
+    /**
+     * Checks if the slot is flagged.
+     *
+     * @param slot the slot to check
+     * @return {@code true} if the slot is flagged, {@code false} otherwise
+     */
+    public boolean isFlaggedAt(int slot) {
+        return getStateAt(slot) == CellState.FLAGGED;
+    }
+
+    /**
+     * Reveals the slot, following the {@code CellState} transitions.
+     *
+     * @param slot the slot to reveal
+     */
+    public void revealAt(int slot) {
+        setStateAt(slot, getStateAt(slot).reveal(isMinedAt(slot)));
+    }
+
+    /**
+     * Gets the number of mines adjacent to the slot.
+     *
+     * @param slot the slot to check
+     * @return the number of adjacent mines (0-8)
+     */
+    public int countAdjacentMinesAt(int slot) {
+        return (cells[slot] & COUNT_MASK) >>> COUNT_SHIFT;
+    }
+
+    private CellState getStateAt(int slot) {
+        return STATES[(cells[slot] & STATE_MASK) >>> STATE_SHIFT];
+    }
+
+    private void setStateAt(int slot, CellState state) {
+        cells[slot] = (byte) ((cells[slot] & ~STATE_MASK) | (state.ordinal() << STATE_SHIFT));
+    }
+
+    private void setMinedAt(int index, int slot, boolean mined) {
+        if (isMinedAt(slot) == mined) {
+            return;
+        }
+
+        cells[slot] ^= MINE_BIT;
+        adjustNeighbourCounts(index, slot, mined ? 1 : -1);
+    }
+
+    /**
+     * Adds the given delta to the adjacent-mine count of every neighbour of a slot.
+     * In the padded layout the neighbours are at fixed offsets and the ring absorbs the updates
+     * at the border, in the tiled layout the layout lists them; otherwise the neighbours are clipped to the grid.
+     *
+     * @param index the linear index of the cell whose mine status changed
+     * @param slot the slot of that cell
+     * @param delta {@code 1} if a mine was placed, {@code -1} if it was removed
+     */
+    private void adjustNeighbourCounts(int index, int slot, int delta) {
+        byte change = (byte) (delta << COUNT_SHIFT);
+
+        if (layout == CellLayout.PADDED) {
+            for (int offset : neighbourSlotOffsets) {
+                cells[slot + offset] += change;
+            }
+            return;
+        }
+        if (layout == CellLayout.TILED) {
+            int found = layout.neighbourSlots(dimensions, slot, neighbourBuffer);
+            for (int i = 0; i < found; i++) {
+                cells[neighbourBuffer[i]] += change;
+            }
+            return;
+        }
+
+        int width = dimensions.width();
+        int row = index / width;
+        int col = index % width;
+
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, dimensions.height() - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, width - 1); c++) {
+                if (r != row || c != col) {
+                    cells[layout.slotOf(dimensions, r, c)] += change;
+                }
+            }
+        }
+    }
+
+    /**
+     * The {@code PackedCell} class is a {@code Cell} view over one byte of the packed array.
+     */
+    private final class PackedCell extends Cell {
+
+        private final int index;
+        private final int slot;
+
+        private PackedCell(int index, int slot) {
+            this.index = index;
+            this.slot = slot;
+        }
+
+        @Override
+        public void toggleFlag() {
+            setStateAt(slot, getStateAt(slot).toggleFlag());
+        }
+
+        @Override
+        public void reveal() {
+            revealAt(slot);
+        }
+
+        @Override
+        public boolean isMined() {
+            return isMinedAt(slot);
+        }
+
+        @Override
+        public void setMined(boolean mined) {
+            setMinedAt(index, slot, mined);
+        }
+
+        @Override
+        public boolean isRevealed() {
+            return isRevealedAt(slot);
+        }
+
+        @Override
+        public boolean isFlagged() {
+            return isFlaggedAt(slot);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package ms.model.storage;
+
+import ms.model.Cell;
+import ms.model.CellState;
+import ms.model.GridDimension;
+import ms.model.MineLayer;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SessionCellStorage} class holds the state of one player on a board whose mines live in a
+ * shared, immutable {@code MineLayer}. The session itself only keeps two bits per cell, for the revealed
+ * and the flagged cells, so many sessions can play the same board for little memory.
+ * Until a layer is attached the board has no mines; mines can never be placed through the storage.
+ */
+public class SessionCellStorage implements CellStorage {
+
+    private final GridDimension dimensions;
+    private final long[] revealed;
+    private final long[] flagged;
+    private MineLayer layer;
+
+    /**
+     * Constructs a new {@code SessionCellStorage} with every cell hidden and no layer attached.
+     *
+     * @param dimensions the dimensions of the grid
+     */
+    public SessionCellStorage(GridDimension dimensions) {
+        this.dimensions = dimensions;
+        this.revealed = new long[(dimensions.totalCells() + 63) >>> 6];
+        this.flagged = new long[(dimensions.totalCells() + 63) >>> 6];
+    }
+
+    /**
+     * Attaches the shared mine layer of the board.
+     *
+     * @param layer the mine layer
+     * @throws IllegalArgumentException if the layer has other dimensions
+     * @throws IllegalStateException if a layer is already attached
+     */
+    public void attach(MineLayer layer) {
+        if (!layer.dimensions().equals(dimensions)) {
+            throw new IllegalArgumentException("The mine layer does not match the dimensions of the board");
+        }
+        if (this.layer != null) {
+            throw new IllegalStateException("A mine layer is already attached");
+        }
+        this.layer = layer;
+    }
+
+    /**
+     * @return the attached mine layer, or {@code null} before the first click
+     */
+    public MineLayer getLayer() {
+        return layer;
+    }
+
+    @Override
+    public GridDimension dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public Cell getCell(int index) {
+        return new SessionCell(index);
+    }
+
+    @Override
+    public boolean isMined(int index) {
+        return layer != null && layer.isMined(index);
+    }
+
+    /**
+     * Always fails, since the mines belong to the shared layer.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setMined(int index, boolean mined) {
+        throw new UnsupportedOperationException("The mines of a session are shared and cannot be changed");
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        return (revealed[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean isFlagged(int index) {
+        return (flagged[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void reveal(int index) {
+        setState(index, getState(index).reveal(isMined(index)));
+    }
+
+    @Override
+    public void toggleFlag(int index) {
+        setState(index, getState(index).toggleFlag());
+    }
+
+    /**
+     * Clears the revealed and flagged bits and detaches the mine layer, so another one can be attached.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(revealed, 0L);
+        Arrays.fill(flagged, 0L);
+        layer = null;
+    }
+
+    @Override
+    public int countAdjacentMines(int index) {
+        return layer != null ? layer.countAdjacentMines(index) : 0;
+    }
+
+    @Override
+    public void countAdjacentMinesInRow(int row, byte[] counts) {
+        if (layer != null) {
+            layer.countAdjacentMinesInRow(row, counts);
+        } else {
+            Arrays.fill(counts, 0, dimensions.width(), (byte) 0);
+        }
+    }
+
+    private CellState getState(int index) {
+        if (isRevealed(index)) {
+            return isMined(index) ? CellState.EXPLODED : CellState.REVEALED;
+        }
+        return isFlagged(index) ? CellState.FLAGGED : CellState.HIDDEN;
+    }
+
+    private void setState(int index, CellState state) {
+        long bit = 1L << index;
+        int word = index >>> 6;
+        boolean isRevealed = state == CellState.REVEALED || state == CellState.EXPLODED;
+
+        revealed[word] = isRevealed ? revealed[word] | bit : revealed[word] & ~bit;
+        flagged[word] = state == CellState.FLAGGED ? flagged[word] | bit : flagged[word] & ~bit;
+    }
+
+    /**
+     * The {@code SessionCell} class is a {@code Cell} view over one position of the session.
+     */
+    private final class SessionCell extends Cell {
+
+        private final int index;
+
+        private SessionCell(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void toggleFlag() {
+            SessionCellStorage.this.toggleFlag(index);
+        }
+
+        @Override
+        public void reveal() {
+            SessionCellStorage.this.reveal(index);
+        }
+
+        @Override
+        public boolean isMined() {
+            return SessionCellStorage.this.isMined(index);
+        }
+
+        @Override
+        public void setMined(boolean mined) {
+            SessionCellStorage.this.setMined(index, mined);
+        }
+
+        @Override
+        public boolean isRevealed() {
+            return SessionCellStorage.this.isRevealed(index);
+        }
+
+        @Override
+        public boolean isFlagged() {
+            return SessionCellStorage.this.isFlagged(index);
+        }
+    }
+}
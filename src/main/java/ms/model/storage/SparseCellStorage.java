@@ -0,0 +1,174 @@
+package ms.model.storage;
+
+import ms.model.Cell;
+import ms.model.CellState;
+import ms.model.GridDimension;
+
+/**
+ * The {@code SparseCellStorage} class is meant for giant boards with very few mines.
+ * Mines are kept as linear indices in a primitive {@code LongHashSet}, and the revealed and flagged cells in
+ * two {@code CompressedBitmap}s whose containers are only created where the player has played.
+ * Adjacent-mine counts are computed on demand from the mine set, so memory grows with the number of mines
+ * and of touched cells rather than with the size of the board.
+ */
+public class SparseCellStorage implements CellStorage {
+
+    private static final int EXPECTED_MINES = 1024;
+
+    private final GridDimension dimensions;
+    private final LongHashSet mines;
+    private final CompressedBitmap revealed;
+    private final CompressedBitmap flagged;
+
+    /**
+     * Constructs a new {@code SparseCellStorage} with every cell hidden and not mined.
+     *
+     * @param dimensions the dimensions of the grid
+     */
+    public SparseCellStorage(GridDimension dimensions) {
+        this.dimensions = dimensions;
+        this.mines = new LongHashSet(EXPECTED_MINES);
+        this.revealed = new CompressedBitmap(dimensions.totalCells());
+        this.flagged = new CompressedBitmap(dimensions.totalCells());
+    }
+
+    @Override
+    public GridDimension dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public Cell getCell(int index) {
+        return new SparseCell(index);
+    }
+
+    @Override
+    public boolean isMined(int index) {
+        return mines.contains(index);
+    }
+
+    @Override
+    public void setMined(int index, boolean mined) {
+        if (mined) {
+            mines.add(index);
+        } else {
+            mines.remove(index);
+        }
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        return revealed.get(index);
+    }
+
+    @Override
+    public boolean isFlagged(int index) {
+        return flagged.get(index);
+    }
+
+    @Override
+    public void reveal(int index) {
+        setState(index, getState(index).reveal(isMined(index)));
+    }
+
+    @Override
+    public void toggleFlag(int index) {
+        setState(index, getState(index).toggleFlag());
+    }
+
+    @Override
+    public void clear() {
+        mines.clear();
+        revealed.clear();
+        flagged.clear();
+    }
+
+    @Override
+    public int countAdjacentMines(int index) {
+        if (mines.size() == 0) {
+            return 0;
+        }
+
+        int width = dimensions.width();
+        int row = index / width;
+        int col = index % width;
+        int count = 0;
+
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, dimensions.height() - 1); r++) {
+            for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, width - 1); c++) {
+                if ((r != row || c != col) && mines.contains((long) r * width + c)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of mines in the storage
+     */
+    public int getMineCount() {
+        return mines.size();
+    }
+
+    /**
+     * @return the approximate number of bytes held by the revealed and flagged bitmaps
+     */
+    public long getStateMemoryUsage() {
+        return revealed.memoryUsage() + flagged.memoryUsage();
+    }
+
+    private CellState getState(int index) {
+        if (revealed.get(index)) {
+            return isMined(index) ? CellState.EXPLODED : CellState.REVEALED;
+        }
+        return flagged.get(index) ? CellState.FLAGGED : CellState.HIDDEN;
+    }
+
+    private void setState(int index, CellState state) {
+        revealed.set(index, state == CellState.REVEALED || state == CellState.EXPLODED);
+        flagged.set(index, state == CellState.FLAGGED);
+    }
+
+    /**
+     * The {@code SparseCell} class is a {@code Cell} view over one position of the sparse storage.
+     */
+    private final class SparseCell extends Cell {
+
+        private final int index;
+
+        private SparseCell(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void toggleFlag() {
+            SparseCellStorage.this.toggleFlag(index);
+        }
+
+        @Override
+        public void reveal() {
+            SparseCellStorage.this.reveal(index);
+        }
+
+        @Override
+        public boolean isMined() {
+            return SparseCellStorage.this.isMined(index);
+        }
+
+        @Override
+        public void setMined(boolean mined) {
+            SparseCellStorage.this.setMined(index, mined);
+        }
+
+        @Override
+        public boolean isRevealed() {
+            return SparseCellStorage.this.isRevealed(index);
+        }
+
+        @Override
+        public boolean isFlagged() {
+            return SparseCellStorage.this.isFlagged(index);
+        }
+    }
+}
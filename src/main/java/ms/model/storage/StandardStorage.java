@@ -0,0 +1,163 @@
+package ms.model.storage;
+
+import ms.model.GridDimension;
+
+/**
+ * The {@code StandardStorage} enum lists the storage engines shipped with the game as {@code StorageProvider}s.
+ * Automatic selection prefers the object grid for tiny boards, the sparse engine for boards with very few mines,
+ * the padded packed bytes otherwise, and falls back to bitboards when the bytes do not fit the memory budget.
+ * The tiled and off-heap engines are only used when asked for by name.
+ */
+public enum StandardStorage implements StorageProvider {
+
+    /**
+     * One {@code Cell} object per position.
+     */
+    OBJECT("object", 50) {
+        @Override
+        public CellStorage createStorage(GridDimension dimensions) {
+            return new ObjectCellStorage(dimensions);
+        }
+
+        @Override
+        public long estimateBytes(GridDimension dimensions, int mines) {
+            return (long) OBJECT_CELL_BYTES * dimensions.totalCells();
+        }
+
+        @Override
+        public boolean isSuitable(GridDimension dimensions, int mines) {
+            return dimensions.totalCells() <= TINY_BOARD_CELLS;
+        }
+    },
+
+    /**
+     * One byte per cell, in the padded layout.
+     */
+    PACKED("packed", 30) {
+        @Override
+        public CellStorage createStorage(GridDimension dimensions) {
+            return new PackedCellStorage(dimensions, CellLayout.PADDED);
+        }
+
+        @Override
+        public long estimateBytes(GridDimension dimensions, int mines) {
+            return (long) (dimensions.height() + 2) * (dimensions.width() + 2);
+        }
+
+        @Override
+        public boolean isSuitable(GridDimension dimensions, int mines) {
+            return true;
+        }
+    },
+
+    /**
+     * One byte per cell, in the tiled layout.
+     */
+    TILED("tiled", 0) {
+        @Override
+        public CellStorage createStorage(GridDimension dimensions) {
+            return new PackedCellStorage(dimensions, CellLayout.TILED);
+        }
+
+        @Override
+        public long estimateBytes(GridDimension dimensions, int mines) {
+            return CellLayout.TILED.slotCount(dimensions);
+        }
+
+        @Override
+        public boolean isSuitable(GridDimension dimensions, int mines) {
+            return false;
+        }
+    },
+
+    /**
+     * Three bits per cell, with adjacent counts computed from the mine plane.
+     */
+    BITBOARD("bitboard", 20) {
+        @Override
+        public CellStorage createStorage(GridDimension dimensions) {
+            return new BitboardCellStorage(dimensions);
+        }
+
+        @Override
+        public long estimateBytes(GridDimension dimensions, int mines) {
+            return BitboardCellStorage.planeBytes(dimensions);
+        }
+
+        @Override
+        public boolean isSuitable(GridDimension dimensions, int mines) {
+            return true;
+        }
+    },
+
+    /**
+     * A hash set of mines and compressed state bitmaps, for boards with very few mines.
+     */
+    SPARSE("sparse", 40) {
+        @Override
+        public CellStorage createStorage(GridDimension dimensions) {
+            return new SparseCellStorage(dimensions);
+        }
+
+        @Override
+        public long estimateBytes(GridDimension dimensions, int mines) {
+            return (long) SPARSE_MINE_BYTES * mines + 2L * Integer.BYTES * ((dimensions.totalCells() >>> 16) + 1);
+        }
+
+        @Override
+        public boolean isSuitable(GridDimension dimensions, int mines) {
+            return (long) mines * SPARSE_CELLS_PER_MINE <= dimensions.totalCells();
+        }
+    },
+
+    /**
+     * One byte per cell outside the heap.
+     */
+    OFF_HEAP("offheap", 0) {
+        @Override
+        public CellStorage createStorage(GridDimension dimensions) {
+            return new OffHeapCellStorage(dimensions);
+        }
+
+        @Override
+        public long estimateBytes(GridDimension dimensions, int mines) {
+            return 0;
+        }
+
+        @Override
+        public boolean isSuitable(GridDimension dimensions, int mines) {
+            return false;
+        }
+    };
+
+    /**
+     * The largest board, in cells, for which the object grid is preferred.
+     */
+    public static final int TINY_BOARD_CELLS = 4096;
+
+    /**
+     * The fewest cells per mine for which the sparse engine is preferred.
+     */
+    public static final int SPARSE_CELLS_PER_MINE = 64;
+
+    private static final int OBJECT_CELL_BYTES = 28;
+    private static final int SPARSE_MINE_BYTES = 32;
+
+    private final String backendName;
+    private final int priority;
+
+    StandardStorage(String backendName, int priority) {
+        this.backendName = backendName;
+        this.priority = priority;
+    }
+
+    @Override
+    public String getName() {
+        return backendName;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+}
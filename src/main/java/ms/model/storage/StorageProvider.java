@@ -0,0 +1,52 @@
+package ms.model.storage;
+
+import ms.model.GridDimension;
+
+/**
+ * The {@code StorageProvider} interface is the service interface through which storage engines are offered
+ * to a {@code StorageSelector}. Besides the engines of {@code StandardStorage}, providers are discovered with
+ * {@code java.util.ServiceLoader} from {@code META-INF/services/ms.model.storage.StorageProvider}.
+ */
+public interface StorageProvider {
+
+    /**
+     * Gets the name that selects this engine, as used by the {@code --storage} option.
+     *
+     * @return the unique name of the engine
+     */
+    String getName();
+
+    /**
+     * Creates an empty storage for a board.
+     *
+     * @param dimensions the dimensions of the grid
+     * @return a new {@code CellStorage}
+     */
+    CellStorage createStorage(GridDimension dimensions);
+
+    /**
+     * Estimates the heap memory taken by a storage for a board.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param mines the number of mines on the board
+     * @return the estimated size in bytes
+     */
+    long estimateBytes(GridDimension dimensions, int mines);
+
+    /**
+     * Checks if the engine should be considered by automatic selection for a board.
+     * Engines that only make sense when asked for by name return {@code false}.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param mines the number of mines on the board
+     * @return {@code true} if the engine suits the board, {@code false} otherwise
+     */
+    boolean isSuitable(GridDimension dimensions, int mines);
+
+    /**
+     * Gets the preference of the engine among the suitable ones that fit the memory budget.
+     *
+     * @return the priority, higher values being preferred
+     */
+    int priority();
+}
@@ -0,0 +1,151 @@
+package ms.model.storage;
+
+import ms.model.GridDimension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * The {@code StorageSelector} class picks the storage engine of each minefield from the available
+ * {@code StorageProvider}s. Among the engines suitable for the size and density of a board whose estimated
+ * size fits the memory budget, the one with the highest priority wins; if none fits, the smallest suitable
+ * engine is used. A backend can also be pinned by name, which bypasses the selection.
+ * As a {@code CellStorageFactory}, a selector can back a {@code MineField} or a {@code MineFieldFactory}.
+ */
+public class StorageSelector implements CellStorageFactory {
+
+    private final List<StorageProvider> providers;
+    private final long memoryBudget;
+    private final StorageProvider pinned;
+
+    /**
+     * Constructs a selector over every available provider, with half of the maximum heap as memory budget.
+     */
+    public StorageSelector() {
+        this(loadProviders(), Runtime.getRuntime().maxMemory() / 2, null);
+    }
+
+    /**
+     * Constructs a selector over every available provider, optionally pinned to one backend.
+     *
+     * @param pinnedBackend the name of the backend to always use, or {@code null} to select automatically
+     * @throws IllegalArgumentException if no provider has the given name
+     */
+    public StorageSelector(String pinnedBackend) {
+        this(loadProviders(), Runtime.getRuntime().maxMemory() / 2, pinnedBackend);
+    }
+
+    /**
+     * Constructs a selector over the given providers.
+     *
+     * @param providers the providers to choose from
+     * @param memoryBudget the number of heap bytes a storage may take
+     * @param pinnedBackend the name of the backend to always use, or {@code null} to select automatically
+     * @throws IllegalArgumentException if no provider has the given name
+     */
+    public StorageSelector(List<StorageProvider> providers, long memoryBudget, String pinnedBackend) {
+        this.providers = List.copyOf(providers);
+        this.memoryBudget = memoryBudget;
+        this.pinned = pinnedBackend != null ? forName(pinnedBackend) : null;
+    }
+
+    /**
+     * Gets the standard engines followed by the providers found with {@code ServiceLoader}.
+     * A discovered provider whose name is already taken is ignored.
+     *
+     * @return the available providers
+     */
+    public static List<StorageProvider> loadProviders() {
+        List<StorageProvider> providers = new ArrayList<>(List.of(StandardStorage.values()));
+        for (StorageProvider provider : ServiceLoader.load(StorageProvider.class)) {
+            if (providers.stream().noneMatch(known -> known.getName().equals(provider.getName()))) {
+                providers.add(provider);
+            }
+        }
+        return providers;
+    }
+
+    /**
+     * @return the providers this selector chooses from
+     */
+    public List<StorageProvider> getProviders() {
+        return providers;
+    }
+
+    /**
+     * @return the number of heap bytes a storage may take
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Finds a provider by name.
+     *
+     * @param name the name of the backend
+     * @return the provider with the given name
+     * @throws IllegalArgumentException if no provider has the given name
+     */
+    public StorageProvider forName(String name) {
+        for (StorageProvider provider : providers) {
+            if (provider.getName().equals(name)) {
+                return provider;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown storage backend: %s", name));
+    }
+
+    /**
+     * Picks the provider for a board.
+     *
+     * @param dimensions the dimensions of the grid
+     * @param mines the number of mines on the board
+     * @return the pinned provider, or the preferred suitable provider that fits the budget
+     * @throws IllegalStateException if no provider suits the board
+     */
+    public StorageProvider select(GridDimension dimensions, int mines) {
+        if (pinned != null) {
+            return pinned;
+        }
+
+        StorageProvider best = null;
+        StorageProvider smallest = null;
+        for (StorageProvider provider : providers) {
+            if (!provider.isSuitable(dimensions, mines)) {
+                continue;
+            }
+
+            long bytes = provider.estimateBytes(dimensions, mines);
+            if (bytes <= memoryBudget && (best == null || provider.priority() > best.priority())) {
+                best = provider;
+            }
+            if (smallest == null || bytes < smallest.estimateBytes(dimensions, mines)) {
+                smallest = provider;
+            }
+        }
+
+        if (smallest == null) {
+            throw new IllegalStateException(String.format("No storage backend suits a %dx%d board",
+                    dimensions.height(), dimensions.width()));
+        }
+        return best != null ? best : smallest;
+    }
+
+    /**
+     * Creates the storage of a board whose mine count is not known, selecting as if every cell were mined,
+     * so that engines meant for sparse boards are not picked.
+     *
+     * @param dimensions the dimensions of the grid
+     * @return a new storage
+     */
+    @Override
+    public CellStorage createStorage(GridDimension dimensions) {
+        return createStorage(dimensions, dimensions.totalCells());
+    }
+
+    @Override
+    public CellStorage createStorage(GridDimension dimensions, int mines) {
+        return select(dimensions, mines).createStorage(dimensions);
+    }
+}
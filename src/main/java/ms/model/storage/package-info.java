@@ -0,0 +1,4 @@
+/**
+ * This package contains the storage engines that hold the cells of a minefield in memory.
+ */
+package ms.model.storage;
@@ -0,0 +1,307 @@
+package ms.solver;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@code Component} class is a set of frontier cells linked by shared constraints, independent of every
+ * other component. Its solutions are counted by backtracking over the cells in breadth-first order, pruning a
+ * branch as soon as one of its constraints has too many mines or too few cells left to reach its count.
+ * On a pool with several workers the top levels of the search are split into {@code ForkJoinPool} tasks.
+ */
+final class Component {
+
+    private static final int SPLIT_MIN_REMAINING = 12;
+    private static final int DEADLINE_CHECK_MASK = 0x3FF;
+
+    private final int[] cells;
+    private final int[][] constraintVariables;
+    private final int[] targets;
+    private final int[][] variableConstraints;
+
+    /**
+     * Constructs a component from its constraints.
+     *
+     * @param constraints the constraints of the component
+     * @param variableOf the variable of each board cell within this component
+     * @param variableCells the board cell of each variable
+     */
+    Component(List<Constraint> constraints, int[] variableOf, int[] variableCells) {
+        int[][] variables = new int[constraints.size()][];
+        int[] targets = new int[constraints.size()];
+        for (int c = 0; c < variables.length; c++) {
+            Constraint constraint = constraints.get(c);
+            variables[c] = new int[constraint.size()];
+            for (int i = 0; i < constraint.size(); i++) {
+                variables[c][i] = variableOf[constraint.cell(i)];
+            }
+            targets[c] = constraint.mines();
+        }
+
+        // Breadth-first order over shared constraints keeps neighbouring cells close in the search,
+        // so constraints fill up, and prune, as early as possible.
+        int[] order = breadthFirstOrder(variables, invert(variables, variableCells.length));
+        int[] rank = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            rank[order[i]] = i;
+        }
+        for (int[] constraintVariables : variables) {
+            for (int i = 0; i < constraintVariables.length; i++) {
+                constraintVariables[i] = rank[constraintVariables[i]];
+            }
+        }
+
+        this.cells = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            cells[i] = variableCells[order[i]];
+        }
+        this.constraintVariables = variables;
+        this.targets = targets;
+        this.variableConstraints = invert(variables, order.length);
+    }
+
+    private static int[][] invert(int[][] constraintVariables, int variables) {
+        int[] memberships = new int[variables];
+        for (int[] members : constraintVariables) {
+            for (int v : members) {
+                memberships[v]++;
+            }
+        }
+        int[][] inverted = new int[variables][];
+        for (int v = 0; v < variables; v++) {
+            inverted[v] = new int[memberships[v]];
+            memberships[v] = 0;
+        }
+        for (int c = 0; c < constraintVariables.length; c++) {
+            for (int v : constraintVariables[c]) {
+                inverted[v][memberships[v]++] = c;
+            }
+        }
+        return inverted;
+    }
+
+    private static int[] breadthFirstOrder(int[][] constraintVariables, int[][] variableConstraints) {
+        int[] order = new int[variableConstraints.length];
+        boolean[] seen = new boolean[variableConstraints.length];
+        int head = 0;
+        int tail = 0;
+        for (int start = 0; start < order.length; start++) {
+            if (seen[start]) {
+                continue;
+            }
+            seen[start] = true;
+            order[tail++] = start;
+            while (head < tail) {
+                for (int c : variableConstraints[order[head++]]) {
+                    for (int v : constraintVariables[c]) {
+                        if (!seen[v]) {
+                            seen[v] = true;
+                            order[tail++] = v;
+                        }
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    int size() {
+        return cells.length;
+    }
+
+    int cell(int variable) {
+        return cells[variable];
+    }
+
+    /**
+     * Gets a rough mine probability for a cell from the densest constraint it belongs to.
+     * Used when no solution could be found within the budget.
+     *
+     * @param variable the variable of the cell
+     * @return the estimated probability
+     */
+    double localDensity(int variable) {
+        double density = 0;
+        for (int c : variableConstraints[variable]) {
+            density = Math.max(density, (double) targets[c] / constraintVariables[c].length);
+        }
+        return density;
+    }
+
+    /**
+     * Creates the task counting the solutions of this component by mine count, and for each cell the solutions
+     * where it is mined.
+     *
+     * @param maxMines the largest number of mines the component may hold
+     * @param deadline the {@code System.nanoTime()} value at which the search gives up
+     * @param maxNodes the number of search nodes of one task after which it gives up
+     * @param parallelism the parallelism of the pool that will run the task, {@code 1} to never fork
+     * @return the task, whose tally is partial if the deadline passed or the nodes ran out
+     */
+    RecursiveTask<Tally> newSearch(int maxMines, long deadline, long maxNodes, int parallelism) {
+        int limit = Math.max(0, Math.min(maxMines, cells.length));
+        int[] unassigned = new int[targets.length];
+        for (int c = 0; c < targets.length; c++) {
+            unassigned[c] = constraintVariables[c].length;
+        }
+        int splitDepth = parallelism > 1 ? 32 - Integer.numberOfLeadingZeros(parallelism) + 2 : 0;
+        return new Search(new byte[cells.length], new int[targets.length], unassigned, 0, 0,
+                limit, splitDepth, deadline, maxNodes, new AtomicBoolean());
+    }
+
+    /**
+     * The {@code Tally} class holds the solution counts of a component, indexed by mine count.
+     */
+    static final class Tally {
+
+        final double[] solutions;
+        final double[][] minedSolutions;
+        boolean complete = true;
+
+        Tally(int variables, int maxMines) {
+            this.solutions = new double[maxMines + 1];
+            this.minedSolutions = new double[variables][maxMines + 1];
+        }
+
+        void add(Tally other) {
+            for (int k = 0; k < solutions.length; k++) {
+                solutions[k] += other.solutions[k];
+            }
+            for (int v = 0; v < minedSolutions.length; v++) {
+                for (int k = 0; k < solutions.length; k++) {
+                    minedSolutions[v][k] += other.minedSolutions[v][k];
+                }
+            }
+            complete &= other.complete;
+        }
+
+        boolean isEmpty() {
+            for (double count : solutions) {
+                if (count > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The {@code Search} class explores the assignments below a partial one. Near the root it forks one
+     * subtask per value of the next cell; deeper down it backtracks on its own.
+     */
+    private final class Search extends RecursiveTask<Tally> {
+
+        private final byte[] values;
+        private final int[] mines;
+        private final int[] unassigned;
+        private final int depth;
+        private final int mineCount;
+        private final int limit;
+        private final int splitDepth;
+        private final long deadline;
+        private final long maxNodes;
+        private final AtomicBoolean expired;
+        private long nodes;
+        private Tally tally;
+
+        private Search(byte[] values, int[] mines, int[] unassigned, int depth, int mineCount,
+                       int limit, int splitDepth, long deadline, long maxNodes, AtomicBoolean expired) {
+            this.values = values;
+            this.mines = mines;
+            this.unassigned = unassigned;
+            this.depth = depth;
+            this.mineCount = mineCount;
+            this.limit = limit;
+            this.splitDepth = splitDepth;
+            this.deadline = deadline;
+            this.maxNodes = maxNodes;
+            this.expired = expired;
+        }
+
+        @Override
+        protected Tally compute() {
+            tally = new Tally(cells.length, limit);
+            if (depth < splitDepth && cells.length - depth > SPLIT_MIN_REMAINING) {
+                Search empty = branch(0);
+                Search mined = branch(1);
+                if (mined != null) {
+                    mined.fork();
+                }
+                if (empty != null) {
+                    tally.add(empty.invoke());
+                }
+                if (mined != null) {
+                    tally.add(mined.join());
+                }
+            } else {
+                backtrack(depth, mineCount);
+                tally.complete = !expired.get();
+            }
+            return tally;
+        }
+
+        private Search branch(int value) {
+            byte[] childValues = values.clone();
+            int[] childMines = mines.clone();
+            int[] childUnassigned = unassigned.clone();
+            if (!assign(depth, value, childValues, childMines, childUnassigned) || mineCount + value > limit) {
+                return null;
+            }
+            return new Search(childValues, childMines, childUnassigned, depth + 1, mineCount + value,
+                    limit, splitDepth, deadline, maxNodes, expired);
+        }
+
+        private void backtrack(int variable, int count) {
+            if (++nodes > maxNodes || ((nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline)) {
+                expired.set(true);
+            }
+            if (expired.get()) {
+                return;
+            }
+            if (variable == cells.length) {
+                record(count);
+                return;
+            }
+            for (int value = 0; value <= 1; value++) {
+                if (count + value > limit) {
+                    break;
+                }
+                if (assign(variable, value, values, mines, unassigned)) {
+                    backtrack(variable + 1, count + value);
+                }
+                unassign(variable, value);
+            }
+        }
+
+        private void record(int count) {
+            tally.solutions[count]++;
+            for (int v = 0; v < values.length; v++) {
+                if (values[v] == 1) {
+                    tally.minedSolutions[v][count]++;
+                }
+            }
+        }
+
+        private boolean assign(int variable, int value, byte[] values, int[] mines, int[] unassigned) {
+            values[variable] = (byte) value;
+            boolean feasible = true;
+            for (int c : variableConstraints[variable]) {
+                unassigned[c]--;
+                mines[c] += value;
+                if (mines[c] > targets[c] || mines[c] + unassigned[c] < targets[c]) {
+                    feasible = false;
+                }
+            }
+            return feasible;
+        }
+
+        private void unassign(int variable, int value) {
+            values[variable] = 0;
+            for (int c : variableConstraints[variable]) {
+                unassigned[c]++;
+                mines[c] -= value;
+            }
+        }
+    }
+}
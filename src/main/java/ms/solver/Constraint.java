@@ -0,0 +1,108 @@
+package ms.solver;
+
+/**
+ * The {@code Constraint} class states that a set of at most eight unknown cells, the hidden neighbours of a
+ * revealed number, holds exactly a given number of mines. Cells leave the set as they become known, and the
+ * count drops by one for every neighbour known to be a mine.
+ */
+final class Constraint {
+
+    private final int center;
+    private final int[] cells;
+    private int size;
+    private int mines;
+
+    /**
+     * Constructs an empty constraint for a revealed cell.
+     *
+     * @param center the index of the revealed cell
+     * @param mines the number of mines among the cells that will be added
+     */
+    Constraint(int center, int mines) {
+        this.center = center;
+        this.cells = new int[8];
+        this.mines = mines;
+    }
+
+    int center() {
+        return center;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int mines() {
+        return mines;
+    }
+
+    int cell(int i) {
+        return cells[i];
+    }
+
+    void add(int cell) {
+        cells[size++] = cell;
+    }
+
+    boolean contains(int cell) {
+        for (int i = 0; i < size; i++) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes a cell that became known.
+     *
+     * @param cell the cell to remove
+     * @param mined {@code true} if the cell is a mine, which lowers the count
+     * @return {@code true} if the cell was part of the constraint
+     */
+    boolean remove(int cell, boolean mined) {
+        for (int i = 0; i < size; i++) {
+            if (cells[i] == cell) {
+                cells[i] = cells[--size];
+                if (mined) {
+                    mines--;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the cells of this constraint that are not in the other one.
+     *
+     * @param other the other constraint
+     * @return the size of the difference
+     */
+    int countNotIn(Constraint other) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!other.contains(cells[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Copies the cells of this constraint that are not in the other one.
+     *
+     * @param other the other constraint
+     * @param buffer receives the cells of the difference
+     * @return the number of cells written
+     */
+    int copyNotIn(Constraint other, int[] buffer) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!other.contains(cells[i])) {
+                buffer[count++] = cells[i];
+            }
+        }
+        return count;
+    }
+}
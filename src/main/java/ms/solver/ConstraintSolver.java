@@ -0,0 +1,459 @@
+package ms.solver;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+
+import java.util.Arrays;
+
+/**
+ * The {@code ConstraintSolver} class deduces certainly safe and certainly mined cells of a minefield from the
+ * player's point of view. It only reads whether cells are revealed or flagged and the numbers of revealed cells;
+ * it never looks at hidden mines.
+ * <p>
+ * Every revealed number with hidden neighbours becomes a {@link Constraint}. Two rules are applied: the
+ * single-cell rule (a constraint needing no more mines is all safe, one needing as many mines as it has cells is
+ * all mined) and the subset/superset rule on overlapping constraints. Flags are trusted as mines.
+ * <p>
+ * The solver is incremental. After a reveal, {@link #onReveal(int)} walks only the cells that the reveal
+ * uncovered, and only the constraints touching them are re-examined. A full scan happens once, on construction
+ * or on {@link #resync()}.
+ */
+public class ConstraintSolver {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte SAFE = 1;
+    private static final byte MINE = 2;
+    private static final byte REVEALED = 3;
+
+    private final MineField mineField;
+    private final GridDimension dimensions;
+    private final byte[] knowledge;
+    private final boolean[] flagged;
+    private final boolean[] deducedMines;
+    private final Constraint[] constraints;
+    private final boolean[] queued;
+    private final int[] worklist;
+    private final int[] safeCells;
+    private final int[] mineCells;
+    private final int[] revealStack;
+    private final int[] neighbours = new int[8];
+    private final int[] innerNeighbours = new int[8];
+    private final int[] difference = new int[8];
+    private int worklistHead;
+    private int worklistTail;
+    private int safeHead;
+    private int safeTail;
+    private int mineHead;
+    private int mineTail;
+    private int knownSafe;
+    private int knownMines;
+
+    /**
+     * Constructs a solver for the given minefield and reads its current state.
+     *
+     * @param mineField the minefield to reason about
+     */
+    public ConstraintSolver(MineField mineField) {
+        this.mineField = mineField;
+        this.dimensions = mineField.getDimensions();
+        int cells = dimensions.totalCells();
+        this.knowledge = new byte[cells];
+        this.flagged = new boolean[cells];
+        this.deducedMines = new boolean[cells];
+        this.constraints = new Constraint[cells];
+        this.queued = new boolean[cells];
+        this.worklist = new int[cells];
+        this.safeCells = new int[cells];
+        this.mineCells = new int[cells];
+        this.revealStack = new int[cells];
+        resync();
+    }
+
+    /**
+     * Gets the minefield this solver reasons about.
+     *
+     * @return the minefield
+     */
+    public MineField getMineField() {
+        return mineField;
+    }
+
+    /**
+     * Forgets everything and rebuilds the constraints from a full scan of the minefield.
+     * Only needed when the minefield changed without the solver being told, for example after a reset.
+     */
+    public void resync() {
+        Arrays.fill(knowledge, UNKNOWN);
+        Arrays.fill(flagged, false);
+        Arrays.fill(deducedMines, false);
+        Arrays.fill(constraints, null);
+        Arrays.fill(queued, false);
+        worklistHead = worklistTail = 0;
+        safeHead = safeTail = 0;
+        mineHead = mineTail = 0;
+        knownSafe = knownMines = 0;
+
+        int cells = dimensions.totalCells();
+        for (int index = 0; index < cells; index++) {
+            if (mineField.isRevealed(index)) {
+                knowledge[index] = REVEALED;
+            } else if (mineField.isFlagged(index)) {
+                knowledge[index] = MINE;
+                flagged[index] = true;
+                knownMines++;
+            }
+        }
+        for (int index = 0; index < cells; index++) {
+            if (knowledge[index] == REVEALED) {
+                buildConstraint(index);
+            }
+        }
+        propagate();
+    }
+
+    /**
+     * Updates the solver after a reveal at the given cell. The cells uncovered by the reveal form a connected
+     * region around it, so only that region is visited.
+     *
+     * @param row the row of the revealed cell
+     * @param col the column of the revealed cell
+     */
+    public void onReveal(int row, int col) {
+        onReveal(dimensions.toIndex(row, col));
+    }
+
+    /**
+     * Updates the solver after a reveal at the given cell.
+     *
+     * @param index the linear index of the revealed cell
+     */
+    public void onReveal(int index) {
+        dimensions.validateIndex(index);
+        if (knowledge[index] == REVEALED || !mineField.isRevealed(index)) {
+            return;
+        }
+
+        int top = 0;
+        revealStack[top++] = index;
+        markRevealed(index);
+        while (top > 0) {
+            int cell = revealStack[--top];
+            if (mineField.countAdjacentMines(cell) == 0) {
+                int count = dimensions.neighbours(cell, neighbours);
+                for (int i = 0; i < count; i++) {
+                    int neighbour = neighbours[i];
+                    if (knowledge[neighbour] != REVEALED && mineField.isRevealed(neighbour)) {
+                        markRevealed(neighbour);
+                        revealStack[top++] = neighbour;
+                    }
+                }
+            }
+        }
+        propagate();
+    }
+
+    /**
+     * Updates the solver after a flag was placed or removed at the given cell.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     */
+    public void onFlag(int row, int col) {
+        onFlag(dimensions.toIndex(row, col));
+    }
+
+    /**
+     * Updates the solver after a flag was placed or removed at the given cell.
+     *
+     * @param index the linear index of the cell
+     */
+    public void onFlag(int index) {
+        dimensions.validateIndex(index);
+        boolean isFlagged = mineField.isFlagged(index);
+        if (isFlagged == flagged[index]) {
+            return;
+        }
+        flagged[index] = isFlagged;
+        if (isFlagged) {
+            if (knowledge[index] == UNKNOWN) {
+                markMine(index);
+            }
+        } else if (knowledge[index] == MINE && !deducedMines[index]) {
+            knowledge[index] = UNKNOWN;
+            knownMines--;
+            int count = dimensions.neighbours(index, neighbours);
+            for (int i = 0; i < count; i++) {
+                if (knowledge[neighbours[i]] == REVEALED) {
+                    buildConstraint(neighbours[i]);
+                }
+            }
+        }
+        propagate();
+    }
+
+    /**
+     * Checks if the cell is known to be safe, either revealed or deduced.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell cannot hold a mine
+     */
+    public boolean isKnownSafe(int index) {
+        return knowledge[index] == SAFE || knowledge[index] == REVEALED;
+    }
+
+    /**
+     * Checks if the cell is known to hold a mine, either flagged or deduced.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell must hold a mine
+     */
+    public boolean isKnownMine(int index) {
+        return knowledge[index] == MINE;
+    }
+
+    /**
+     * Checks if nothing is known about a hidden cell.
+     *
+     * @param index the linear index of the cell
+     * @return {@code true} if the cell is neither revealed nor deduced
+     */
+    public boolean isUnknown(int index) {
+        return knowledge[index] == UNKNOWN;
+    }
+
+    /**
+     * Gets the next cell deduced to be safe that is still hidden.
+     *
+     * @return the linear index of a safe cell, or {@code -1} if none is known
+     */
+    public int nextSafeCell() {
+        while (safeHead < safeTail) {
+            int cell = safeCells[safeHead];
+            if (knowledge[cell] == SAFE && !mineField.isRevealed(cell)) {
+                return cell;
+            }
+            safeHead++;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the next cell deduced to be a mine that is not flagged yet.
+     *
+     * @return the linear index of a mine to flag, or {@code -1} if none is left
+     */
+    public int nextMineToFlag() {
+        while (mineHead < mineTail) {
+            int cell = mineCells[mineHead];
+            if (knowledge[cell] == MINE && !mineField.isFlagged(cell)) {
+                return cell;
+            }
+            mineHead++;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the cells deduced to be safe that are still hidden.
+     *
+     * @return the linear indices of the safe cells
+     */
+    public int[] getSafeCells() {
+        return Arrays.stream(safeCells, safeHead, safeTail)
+                .filter(cell -> knowledge[cell] == SAFE)
+                .toArray();
+    }
+
+    /**
+     * Gets the number of hidden cells deduced to be safe.
+     *
+     * @return the number of known safe cells
+     */
+    public int getKnownSafeCount() {
+        return knownSafe;
+    }
+
+    /**
+     * Gets the number of cells known to be mines, flagged or deduced.
+     *
+     * @return the number of known mines
+     */
+    public int getKnownMineCount() {
+        return knownMines;
+    }
+
+    /**
+     * Gets the number of constraints that still have unknown cells.
+     *
+     * @return the number of active constraints
+     */
+    public int getConstraintCount() {
+        int count = 0;
+        for (Constraint constraint : constraints) {
+            if (constraint != null && constraint.size() > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the constraint of a revealed cell.
+     *
+     * @param index the linear index of the revealed cell
+     * @return the constraint, or {@code null} if the cell has no unknown neighbours
+     */
+    Constraint constraintAt(int index) {
+        Constraint constraint = constraints[index];
+        return constraint == null || constraint.size() == 0 ? null : constraint;
+    }
+
+    GridDimension dimensions() {
+        return dimensions;
+    }
+
+    private void markRevealed(int cell) {
+        if (knowledge[cell] == SAFE) {
+            knownSafe--;
+        } else if (knowledge[cell] == MINE) {
+            knownMines--;
+        }
+        knowledge[cell] = REVEALED;
+        forgetCell(cell, false);
+        buildConstraint(cell);
+    }
+
+    private void markSafe(int cell) {
+        if (knowledge[cell] != UNKNOWN) {
+            return;
+        }
+        knowledge[cell] = SAFE;
+        knownSafe++;
+        safeCells[safeTail++] = cell;
+        forgetCell(cell, false);
+    }
+
+    private void markMine(int cell) {
+        if (knowledge[cell] != UNKNOWN) {
+            return;
+        }
+        knowledge[cell] = MINE;
+        knownMines++;
+        forgetCell(cell, true);
+    }
+
+    private void forgetCell(int cell, boolean mined) {
+        int count = dimensions.neighbours(cell, innerNeighbours);
+        for (int i = 0; i < count; i++) {
+            Constraint constraint = constraints[innerNeighbours[i]];
+            if (constraint != null && constraint.remove(cell, mined)) {
+                enqueue(constraint.center());
+            }
+        }
+    }
+
+    private void buildConstraint(int center) {
+        int count = dimensions.neighbours(center, innerNeighbours);
+        int mines = mineField.countAdjacentMines(center);
+        for (int i = 0; i < count; i++) {
+            if (knowledge[innerNeighbours[i]] == MINE) {
+                mines--;
+            }
+        }
+        Constraint constraint = new Constraint(center, mines);
+        for (int i = 0; i < count; i++) {
+            if (knowledge[innerNeighbours[i]] == UNKNOWN) {
+                constraint.add(innerNeighbours[i]);
+            }
+        }
+        constraints[center] = constraint;
+        enqueue(center);
+    }
+
+    private void enqueue(int center) {
+        if (!queued[center]) {
+            queued[center] = true;
+            worklist[worklistTail] = center;
+            worklistTail = (worklistTail + 1) % worklist.length;
+        }
+    }
+
+    private void propagate() {
+        while (worklistHead != worklistTail) {
+            int center = worklist[worklistHead];
+            worklistHead = (worklistHead + 1) % worklist.length;
+            queued[center] = false;
+            Constraint constraint = constraints[center];
+            if (constraint != null && constraint.size() > 0) {
+                applySingleRule(constraint);
+                if (constraint.size() > 0) {
+                    applyPairRule(constraint);
+                }
+            }
+        }
+    }
+
+    private void applySingleRule(Constraint constraint) {
+        if (constraint.mines() == 0) {
+            while (constraint.size() > 0) {
+                markSafe(constraint.cell(0));
+            }
+        } else if (constraint.mines() == constraint.size()) {
+            while (constraint.size() > 0) {
+                markDeducedMine(constraint.cell(0));
+            }
+        }
+    }
+
+    private void applyPairRule(Constraint constraint) {
+        int center = constraint.center();
+        int row = dimensions.rowOf(center);
+        int col = dimensions.colOf(center);
+        for (int r = Math.max(0, row - 2); r <= Math.min(dimensions.height() - 1, row + 2); r++) {
+            for (int c = Math.max(0, col - 2); c <= Math.min(dimensions.width() - 1, col + 2); c++) {
+                int other = dimensions.toIndex(r, c);
+                Constraint candidate = constraints[other];
+                if (other == center || candidate == null || candidate.size() == 0) {
+                    continue;
+                }
+                if (applyPairRule(constraint, candidate) || applyPairRule(candidate, constraint)) {
+                    if (constraint.size() == 0) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the subset/superset rule: when A needs {@code |A \ B|} more mines than B can supply, every cell of
+     * {@code A \ B} is mined and every cell of {@code B \ A} is safe.
+     */
+    private boolean applyPairRule(Constraint a, Constraint b) {
+        int onlyInA = a.countNotIn(b);
+        if (onlyInA == a.size() || a.mines() - b.mines() != onlyInA) {
+            return false;
+        }
+        int onlyInB = b.countNotIn(a);
+        if (onlyInA == 0 && onlyInB == 0) {
+            return false;
+        }
+        int count = a.copyNotIn(b, difference);
+        for (int i = 0; i < count; i++) {
+            markDeducedMine(difference[i]);
+        }
+        count = b.copyNotIn(a, difference);
+        for (int i = 0; i < count; i++) {
+            markSafe(difference[i]);
+        }
+        return true;
+    }
+
+    private void markDeducedMine(int cell) {
+        if (knowledge[cell] == UNKNOWN) {
+            deducedMines[cell] = true;
+            mineCells[mineTail++] = cell;
+            markMine(cell);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ms.solver;
+
+/**
+ * The {@code MineProbabilities} class holds the chance that each cell of a board is mined, as seen by the player.
+ * Revealed and deduced safe cells have probability {@code 0}, flagged and deduced mines {@code 1}.
+ */
+public final class MineProbabilities {
+
+    private final double[] probabilities;
+    private final boolean[] candidates;
+    private final double interiorProbability;
+    private final int components;
+    private final boolean exact;
+
+    /**
+     * Constructs the probabilities of a board.
+     *
+     * @param probabilities the mine probability of each cell
+     * @param candidates which cells are still hidden and not known to be mines
+     * @param interiorProbability the probability shared by the hidden cells away from every number
+     * @param components the number of independent frontier components
+     * @param exact {@code false} if the time budget ran out before every component was enumerated
+     */
+    MineProbabilities(double[] probabilities, boolean[] candidates, double interiorProbability,
+                      int components, boolean exact) {
+        this.probabilities = probabilities;
+        this.candidates = candidates;
+        this.interiorProbability = interiorProbability;
+        this.components = components;
+        this.exact = exact;
+    }
+
+    /**
+     * Gets the mine probability of a cell.
+     *
+     * @param index the linear index of the cell
+     * @return the probability, between {@code 0} and {@code 1}
+     */
+    public double getProbability(int index) {
+        return probabilities[index];
+    }
+
+    /**
+     * Gets the mine probability of the hidden cells that touch no revealed number.
+     *
+     * @return the interior probability, or {@code 0} if there are no such cells
+     */
+    public double getInteriorProbability() {
+        return interiorProbability;
+    }
+
+    /**
+     * Gets the number of independent components the frontier was split into.
+     *
+     * @return the number of components
+     */
+    public int getComponentCount() {
+        return components;
+    }
+
+    /**
+     * Checks if every component was fully enumerated within the time budget.
+     *
+     * @return {@code true} if the probabilities are exact
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Finds the hidden cell least likely to be mined, not counting cells known to be mines.
+     *
+     * @return the linear index of the safest cell, or {@code -1} if no hidden cell is left
+     */
+    public int safestCell() {
+        int safest = -1;
+        for (int index = 0; index < probabilities.length; index++) {
+            if (candidates[index] && (safest < 0 || probabilities[index] < probabilities[safest])) {
+                safest = index;
+            }
+        }
+        return safest;
+    }
+}
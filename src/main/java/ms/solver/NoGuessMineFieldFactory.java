@@ -0,0 +1,318 @@
+package ms.solver;
+
+import ms.logic.MineFieldFactory;
+import ms.logic.operation.CascadeMode;
+import ms.logic.operation.CascadeStrategy;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.CellLayout;
+import ms.model.storage.CellStorageFactory;
+import ms.model.storage.ObjectCellStorage;
+import ms.model.storage.PackedCellStorage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code NoGuessMineFieldFactory} class implements the {@code MineFieldFactory} interface with boards that
+ * can be solved from the first click without guessing. Since the board depends on the first click, the search
+ * runs when the minefield is initialized: candidate seeds are drawn, the board of each seed is built for the
+ * clicked cell and played by a {@link ConstraintSolver}, and the first seed whose board is cleared entirely by
+ * deduction wins. Candidates are checked on several threads at once; as soon as one wins, the others are
+ * interrupted and stop before their next candidate.
+ * <p>
+ * A candidate is solved when the constraint rules, plus the rule that every remaining cell is safe once all
+ * mines are known, reveal every safe cell. The time taken to find each board is recorded and reported by
+ * {@link #getStatistics()}.
+ */
+public class NoGuessMineFieldFactory implements MineFieldFactory, AutoCloseable {
+
+    /**
+     * The number of candidates checked for one board before the factory gives up.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 100_000;
+
+    private static final int LATENCY_SAMPLES = 1024;
+    private static final String ALGORITHM = RandomSource.DEFAULT_ALGORITHM;
+
+    private final CellStorageFactory storageFactory;
+    private final SafeZone safeZone;
+    private final int threads;
+    private final int maxAttempts;
+    private final ExecutorService searchers;
+    private final AtomicLong boards;
+    private final AtomicLong attempts;
+    private final long[] latencies;
+    private long latencyCount;
+
+    /**
+     * Constructs a factory of object-backed minefields that open a region around the first click,
+     * searching on all available processors.
+     */
+    public NoGuessMineFieldFactory() {
+        this(ObjectCellStorage::new, SafeZone.OPENING, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a factory with the default limit of attempts.
+     *
+     * @param storageFactory the factory creating the {@code CellStorage} of each minefield
+     * @param safeZone the cells around the first click that never receive a mine
+     * @param threads the number of threads checking candidates
+     */
+    public NoGuessMineFieldFactory(CellStorageFactory storageFactory, SafeZone safeZone, int threads) {
+        this(storageFactory, safeZone, threads, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Constructs a factory.
+     *
+     * @param storageFactory the factory creating the {@code CellStorage} of each minefield
+     * @param safeZone the cells around the first click that never receive a mine
+     * @param threads the number of threads checking candidates
+     * @param maxAttempts the number of candidates checked for one board before giving up
+     * @throws IllegalArgumentException if the number of threads or attempts is not positive
+     */
+    public NoGuessMineFieldFactory(CellStorageFactory storageFactory, SafeZone safeZone, int threads,
+                                   int maxAttempts) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive, got: " + threads);
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("The number of attempts must be positive, got: " + maxAttempts);
+        }
+        this.storageFactory = storageFactory;
+        this.safeZone = safeZone;
+        this.threads = threads;
+        this.maxAttempts = maxAttempts;
+        this.searchers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "no-guess-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.boards = new AtomicLong();
+        this.attempts = new AtomicLong();
+        this.latencies = new long[LATENCY_SAMPLES];
+    }
+
+    @Override
+    public MineField createMineField(GridDimension dimensions, int mines) {
+        return new NoGuessMineField(dimensions, mines, null);
+    }
+
+    /**
+     * Creates a minefield whose candidates are drawn in order from the given seed on the calling thread,
+     * so that the same seed and first click always yield the same board.
+     *
+     * @param dimensions the dimensions of the minefield
+     * @param mines the number of mines
+     * @param seed the seed of the candidate sequence
+     * @return a new {@code MineField}
+     */
+    @Override
+    public MineField createMineField(GridDimension dimensions, int mines, long seed) {
+        return new NoGuessMineField(dimensions, mines, seed);
+    }
+
+    /**
+     * Clears a minefield of this factory, whose next board is searched for again at the first click.
+     *
+     * @param mineField the minefield to reset
+     * @return {@code true} if the minefield was created by this factory
+     */
+    @Override
+    public boolean resetInPlace(MineField mineField) {
+        if (!(mineField instanceof NoGuessMineField)) {
+            return false;
+        }
+        mineField.clear();
+        return true;
+    }
+
+    /**
+     * Gets the time-to-board figures over the boards created so far. The latency percentiles cover the last
+     * {@value #LATENCY_SAMPLES} boards.
+     *
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        long[] samples;
+        synchronized (latencies) {
+            samples = Arrays.copyOf(latencies, (int) Math.min(latencyCount, LATENCY_SAMPLES));
+        }
+        Arrays.sort(samples);
+        return new Statistics(boards.get(), attempts.get(), percentile(samples, 0.5), percentile(samples, 0.99),
+                samples.length > 0 ? samples[samples.length - 1] : 0);
+    }
+
+    /**
+     * Stops the search threads. Searches in progress fail with an {@code IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        searchers.shutdownNow();
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+
+    /**
+     * Finds the seed of a board solvable without guessing from the given first click.
+     */
+    private long findSeed(GridDimension dimensions, int mines, Position firstClick, Long seed) {
+        long start = System.nanoTime();
+        AtomicLong tried = new AtomicLong();
+        long found = seed != null
+                ? searchInOrder(dimensions, mines, firstClick, seed, tried)
+                : searchInParallel(dimensions, mines, firstClick, tried);
+        long elapsed = System.nanoTime() - start;
+
+        boards.incrementAndGet();
+        attempts.addAndGet(tried.get());
+        synchronized (latencies) {
+            latencies[(int) (latencyCount++ % LATENCY_SAMPLES)] = elapsed;
+        }
+        return found;
+    }
+
+    private long searchInOrder(GridDimension dimensions, int mines, Position firstClick, long seed,
+                               AtomicLong tried) {
+        RandomGenerator candidates = new RandomSource(ALGORITHM, seed).create();
+        Candidate candidate = new Candidate(dimensions, mines, firstClick);
+        while (tried.incrementAndGet() <= maxAttempts) {
+            long candidateSeed = candidates.nextLong();
+            if (candidate.isSolvable(candidateSeed)) {
+                return candidateSeed;
+            }
+        }
+        throw noBoardFound(dimensions, mines);
+    }
+
+    private long searchInParallel(GridDimension dimensions, int mines, Position firstClick, AtomicLong tried) {
+        List<Callable<Long>> searches = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            searches.add(() -> {
+                Candidate candidate = new Candidate(dimensions, mines, firstClick);
+                while (!Thread.currentThread().isInterrupted() && tried.incrementAndGet() <= maxAttempts) {
+                    long candidateSeed = ThreadLocalRandom.current().nextLong();
+                    if (candidate.isSolvable(candidateSeed)) {
+                        return candidateSeed;
+                    }
+                }
+                throw noBoardFound(dimensions, mines);
+            });
+        }
+        try {
+            return searchers.invokeAny(searches);
+        } catch (ExecutionException e) {
+            throw noBoardFound(dimensions, mines);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching for a board", e);
+        }
+    }
+
+    private IllegalStateException noBoardFound(GridDimension dimensions, int mines) {
+        return new IllegalStateException(String.format("No %dx%d board with %d mines solvable without guessing "
+                + "found in %d attempts", dimensions.height(), dimensions.width(), mines, maxAttempts));
+    }
+
+    /**
+     * The {@code Statistics} record holds the time-to-board figures of a factory.
+     *
+     * @param boards the number of boards created
+     * @param attempts the number of candidates checked for them
+     * @param medianNanos the median time to find a board, in nanoseconds
+     * @param p99Nanos the 99th percentile of the time to find a board, in nanoseconds
+     * @param maxNanos the longest time to find a board, in nanoseconds
+     */
+    public record Statistics(long boards, long attempts, long medianNanos, long p99Nanos, long maxNanos) {
+
+        /**
+         * Gets the average number of candidates checked per board.
+         *
+         * @return the attempts per board, or {@code 0} before the first board
+         */
+        public double attemptsPerBoard() {
+            return boards > 0 ? (double) attempts / boards : 0;
+        }
+    }
+
+    /**
+     * The {@code Candidate} class is the scratch board of one searching thread. It is cleared and regenerated
+     * for every seed, then played by a constraint solver from the first click.
+     */
+    private final class Candidate {
+
+        private final MineField mineField;
+        private final GridDimension dimensions;
+        private final Position firstClick;
+        private final CascadeStrategy cascade;
+        private final ConstraintSolver solver;
+        private final int safeCells;
+
+        private Candidate(GridDimension dimensions, int mines, Position firstClick) {
+            this.mineField = new MineField(dimensions, mines, d -> new PackedCellStorage(d, CellLayout.PADDED));
+            this.mineField.setSafeZone(safeZone);
+            this.dimensions = dimensions;
+            this.firstClick = firstClick;
+            this.cascade = CascadeMode.QUEUE.create(mineField, dimensions);
+            this.solver = new ConstraintSolver(mineField);
+            this.safeCells = dimensions.totalCells() - mines;
+        }
+
+        private boolean isSolvable(long seed) {
+            mineField.clear();
+            mineField.setRandomSource(new RandomSource(ALGORITHM, seed));
+            mineField.initializeGrid(firstClick);
+            int revealed = cascade.reveal(firstClick);
+            solver.resync();
+
+            while (revealed < safeCells) {
+                int cell = solver.nextSafeCell();
+                if (cell < 0) {
+                    return solver.getKnownMineCount() == mineField.getMines();
+                }
+                revealed += cascade.reveal(dimensions.rowOf(cell), dimensions.colOf(cell));
+                solver.onReveal(cell);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The {@code NoGuessMineField} class runs the search for its board when the first click is known.
+     */
+    private final class NoGuessMineField extends MineField {
+
+        private final Long seed;
+
+        private NoGuessMineField(GridDimension dimensions, int mines, Long seed) {
+            super(dimensions, mines, storageFactory);
+            this.seed = seed;
+            setSafeZone(safeZone);
+        }
+
+        @Override
+        public void initializeGrid(Position firstClickPosition) {
+            setRandomSource(new RandomSource(ALGORITHM,
+                    findSeed(getDimensions(), getMines(), firstClickPosition, seed)));
+            super.initializeGrid(firstClickPosition);
+        }
+    }
+}
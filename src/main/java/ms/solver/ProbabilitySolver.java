@@ -0,0 +1,388 @@
+package ms.solver;
+
+import ms.logic.Game;
+import ms.model.MineField;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ProbabilitySolver} class computes the exact mine probability of every hidden cell from the state of
+ * a {@link ConstraintSolver}, for the moves where no cell is certainly safe.
+ * <p>
+ * The frontier, the unknown cells next to a revealed number, is split into components that share no
+ * constraint. Each component is enumerated on its own, giving the number of its solutions for every mine
+ * count. The components are then combined with the cells away from the frontier: a solution leaving
+ * {@code r} mines for the {@code n} interior cells is weighted by {@code C(n, r)}, and the weights of the other
+ * components are folded in by convolution. Components are enumerated in parallel on a {@code ForkJoinPool}.
+ * When the time budget runs out, the solutions found so far are used and the result is marked as not exact.
+ * <p>
+ * Since the time budget makes the result depend on the speed of the machine, a solver can be given a budget of
+ * search nodes per component instead with {@link #setNodeBudget(long)}. Components are then enumerated one
+ * after the other on the calling thread, and the result depends on the position alone.
+ */
+public class ProbabilitySolver {
+
+    /**
+     * The default time budget of one {@link #solve(ConstraintSolver, int)} call, in milliseconds.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 100;
+
+    /**
+     * A node budget per component that completes nearly every position of the standard levels.
+     */
+    public static final long DEFAULT_NODE_BUDGET = 1 << 20;
+
+    private final ForkJoinPool pool;
+    private final long budgetMillis;
+    private long nodeBudget;
+
+    /**
+     * Constructs a solver on the common pool with the default time budget.
+     */
+    public ProbabilitySolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Constructs a solver on the given pool.
+     *
+     * @param pool the pool enumerating the components
+     * @param budgetMillis the time budget of one call, in milliseconds
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    public ProbabilitySolver(ForkJoinPool pool, long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive, got: " + budgetMillis);
+        }
+        this.pool = pool;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * Gets the time budget of one call.
+     *
+     * @return the budget in milliseconds
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * Replaces the time budget with a budget of search nodes per component, or restores the time budget.
+     * With a node budget the components are enumerated on the calling thread, so that the result does not
+     * depend on timing.
+     *
+     * @param nodeBudget the number of search nodes per component, or {@code 0} to use the time budget
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public void setNodeBudget(long nodeBudget) {
+        if (nodeBudget < 0) {
+            throw new IllegalArgumentException("Node budget must not be negative, got: " + nodeBudget);
+        }
+        this.nodeBudget = nodeBudget;
+    }
+
+    /**
+     * Computes the mine probabilities of a game.
+     *
+     * @param game the game, which supplies the total number of mines
+     * @param solver the constraint solver following the game's minefield
+     * @return the probabilities
+     */
+    public MineProbabilities solve(Game game, ConstraintSolver solver) {
+        return solve(solver, game.getTotalMines());
+    }
+
+    /**
+     * Computes the mine probabilities of the minefield followed by a constraint solver.
+     *
+     * @param solver the constraint solver
+     * @param totalMines the number of mines on the whole board
+     * @return the probabilities
+     */
+    public MineProbabilities solve(ConstraintSolver solver, int totalMines) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        MineField mineField = solver.getMineField();
+        int cells = solver.dimensions().totalCells();
+
+        List<Component> components = findComponents(solver, cells);
+        int remaining = totalMines - solver.getKnownMineCount();
+
+        double[] probabilities = new double[cells];
+        boolean[] candidates = new boolean[cells];
+        boolean[] interiorCells = new boolean[cells];
+        int interior = 0;
+        for (int index = 0; index < cells; index++) {
+            if (solver.isKnownMine(index)) {
+                probabilities[index] = 1;
+            } else if (!mineField.isRevealed(index)) {
+                candidates[index] = true;
+                interiorCells[index] = solver.isUnknown(index);
+            }
+        }
+        for (Component component : components) {
+            for (int v = 0; v < component.size(); v++) {
+                interiorCells[component.cell(v)] = false;
+            }
+        }
+        for (boolean interiorCell : interiorCells) {
+            interior += interiorCell ? 1 : 0;
+        }
+
+        List<ForkJoinTask<Component.Tally>> searches = new ArrayList<>(components.size());
+        for (Component component : components) {
+            searches.add(nodeBudget > 0
+                    ? component.newSearch(remaining, Long.MAX_VALUE, nodeBudget, 1)
+                    : pool.submit(component.newSearch(remaining, deadline, Long.MAX_VALUE, pool.getParallelism())));
+        }
+        boolean exact = true;
+        double[][] distributions = new double[components.size()][];
+        double[][][] minedDistributions = new double[components.size()][][];
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            Component.Tally tally = nodeBudget > 0 ? searches.get(i).invoke() : searches.get(i).join();
+            exact &= tally.complete;
+            if (tally.isEmpty()) {
+                tally = estimate(component, remaining);
+                exact = false;
+            }
+            normalize(tally);
+            distributions[i] = tally.solutions;
+            minedDistributions[i] = tally.minedSolutions;
+        }
+
+        double interiorProbability = combine(components, distributions, minedDistributions, interior, remaining,
+                probabilities);
+        if (Double.isNaN(interiorProbability)) {
+            exact = false;
+            interiorProbability = fallback(components, interior, remaining, probabilities);
+        }
+        for (int index = 0; index < cells; index++) {
+            if (interiorCells[index]) {
+                probabilities[index] = interiorProbability;
+            }
+        }
+        return new MineProbabilities(probabilities, candidates, interiorProbability, components.size(), exact);
+    }
+
+    private static List<Component> findComponents(ConstraintSolver solver, int cells) {
+        int[] parent = new int[cells];
+        Arrays.fill(parent, -1);
+        List<Constraint> constraints = new ArrayList<>();
+        for (int index = 0; index < cells; index++) {
+            Constraint constraint = solver.constraintAt(index);
+            if (constraint == null) {
+                continue;
+            }
+            constraints.add(constraint);
+            for (int i = 0; i < constraint.size(); i++) {
+                int cell = constraint.cell(i);
+                if (parent[cell] < 0) {
+                    parent[cell] = cell;
+                }
+                union(parent, constraint.cell(0), cell);
+            }
+        }
+
+        int[] componentOf = new int[cells];
+        int[] variableOf = new int[cells];
+        List<List<Constraint>> grouped = new ArrayList<>();
+        List<int[]> variableCells = new ArrayList<>();
+        List<Integer> variableCounts = new ArrayList<>();
+        Arrays.fill(componentOf, -1);
+        for (int cell = 0; cell < cells; cell++) {
+            if (parent[cell] < 0) {
+                continue;
+            }
+            int root = find(parent, cell);
+            if (componentOf[root] < 0) {
+                componentOf[root] = grouped.size();
+                grouped.add(new ArrayList<>());
+                variableCells.add(new int[8]);
+                variableCounts.add(0);
+            }
+            int component = componentOf[root];
+            int count = variableCounts.get(component);
+            int[] members = variableCells.get(component);
+            if (count == members.length) {
+                members = Arrays.copyOf(members, count * 2);
+                variableCells.set(component, members);
+            }
+            members[count] = cell;
+            variableOf[cell] = count;
+            variableCounts.set(component, count + 1);
+        }
+        for (Constraint constraint : constraints) {
+            grouped.get(componentOf[find(parent, constraint.cell(0))]).add(constraint);
+        }
+
+        List<Component> components = new ArrayList<>(grouped.size());
+        for (int i = 0; i < grouped.size(); i++) {
+            int[] members = Arrays.copyOf(variableCells.get(i), variableCounts.get(i));
+            components.add(new Component(grouped.get(i), variableOf, members));
+        }
+        return components;
+    }
+
+    private static int find(int[] parent, int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    private static void union(int[] parent, int first, int second) {
+        int firstRoot = find(parent, first);
+        int secondRoot = find(parent, second);
+        if (firstRoot != secondRoot) {
+            parent[secondRoot] = firstRoot;
+        }
+    }
+
+    /**
+     * Stands in for a component that found no solution within its budget: all its weight goes to the mine
+     * count implied by the local densities of its cells.
+     */
+    private static Component.Tally estimate(Component component, int remaining) {
+        int maxMines = Math.max(0, Math.min(remaining, component.size()));
+        Component.Tally tally = new Component.Tally(component.size(), maxMines);
+        double expected = 0;
+        for (int v = 0; v < component.size(); v++) {
+            expected += component.localDensity(v);
+        }
+        int mines = (int) Math.min(maxMines, Math.round(expected));
+        tally.solutions[mines] = 1;
+        for (int v = 0; v < component.size(); v++) {
+            tally.minedSolutions[v][mines] = component.localDensity(v);
+        }
+        return tally;
+    }
+
+    private static void normalize(Component.Tally tally) {
+        double max = Arrays.stream(tally.solutions).max().orElse(0);
+        if (max <= 0) {
+            return;
+        }
+        for (int k = 0; k < tally.solutions.length; k++) {
+            tally.solutions[k] /= max;
+        }
+        for (double[] mined : tally.minedSolutions) {
+            for (int k = 0; k < mined.length; k++) {
+                mined[k] /= max;
+            }
+        }
+    }
+
+    /**
+     * Weighs every component against the others and the interior, and writes the frontier probabilities.
+     *
+     * @return the interior probability, or {@code NaN} if no arrangement fits the number of mines left
+     */
+    private static double combine(List<Component> components, double[][] distributions,
+                                  double[][][] minedDistributions, int interior, int remaining,
+                                  double[] probabilities) {
+        int count = components.size();
+        double[][] prefix = new double[count + 1][];
+        double[][] suffix = new double[count + 1][];
+        prefix[0] = new double[]{1};
+        suffix[count] = new double[]{1};
+        for (int i = 0; i < count; i++) {
+            prefix[i + 1] = convolve(prefix[i], distributions[i], remaining);
+            suffix[count - 1 - i] = convolve(distributions[count - 1 - i], suffix[count - i], remaining);
+        }
+        double[] interiorWeights = interiorWeights(interior, remaining);
+
+        double[] total = prefix[count];
+        double weight = 0;
+        double interiorMines = 0;
+        for (int t = 0; t < total.length; t++) {
+            double w = total[t] * interiorWeight(interiorWeights, remaining - t);
+            weight += w;
+            interiorMines += w * (remaining - t);
+        }
+        if (!(weight > 0)) {
+            return Double.NaN;
+        }
+
+        for (int i = 0; i < count; i++) {
+            double[] others = convolve(prefix[i], suffix[i + 1], remaining);
+            double[] distribution = distributions[i];
+            double[] componentWeights = new double[distribution.length];
+            double normalizer = 0;
+            for (int k = 0; k < distribution.length; k++) {
+                for (int j = 0; j < others.length; j++) {
+                    componentWeights[k] += others[j] * interiorWeight(interiorWeights, remaining - k - j);
+                }
+                normalizer += distribution[k] * componentWeights[k];
+            }
+            Component component = components.get(i);
+            for (int v = 0; v < component.size(); v++) {
+                double mined = 0;
+                for (int k = 0; k < distribution.length; k++) {
+                    mined += minedDistributions[i][v][k] * componentWeights[k];
+                }
+                probabilities[component.cell(v)] = normalizer > 0 ? mined / normalizer : 0;
+            }
+        }
+        return interior > 0 ? interiorMines / weight / interior : 0;
+    }
+
+    private static double[] convolve(double[] first, double[] second, int limit) {
+        int length = Math.min(first.length + second.length - 1, limit + 1);
+        double[] result = new double[Math.max(1, length)];
+        double max = 0;
+        for (int i = 0; i < first.length && i < result.length; i++) {
+            for (int j = 0; j < second.length && i + j < result.length; j++) {
+                result[i + j] += first[i] * second[j];
+            }
+        }
+        for (double value : result) {
+            max = Math.max(max, value);
+        }
+        if (max > 0) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] /= max;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes {@code C(interior, r)} for every {@code r}, scaled so the largest value is {@code 1}.
+     */
+    private static double[] interiorWeights(int interior, int remaining) {
+        int top = Math.max(0, Math.min(interior, remaining));
+        double[] logWeights = new double[top + 1];
+        for (int r = 1; r <= top; r++) {
+            logWeights[r] = logWeights[r - 1] + Math.log(interior - r + 1) - Math.log(r);
+        }
+        double max = Arrays.stream(logWeights).max().orElse(0);
+        double[] weights = new double[top + 1];
+        for (int r = 0; r <= top; r++) {
+            weights[r] = Math.exp(logWeights[r] - max);
+        }
+        return weights;
+    }
+
+    private static double interiorWeight(double[] weights, int mines) {
+        return mines >= 0 && mines < weights.length ? weights[mines] : 0;
+    }
+
+    private static double fallback(List<Component> components, int interior, int remaining,
+                                   double[] probabilities) {
+        int unknown = interior;
+        for (Component component : components) {
+            unknown += component.size();
+            for (int v = 0; v < component.size(); v++) {
+                probabilities[component.cell(v)] = component.localDensity(v);
+            }
+        }
+        return interior > 0 ? Math.min(1, Math.max(0, (double) remaining / unknown)) : 0;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains the solvers that reason about a minefield from the player's point of view,
+ * using only the revealed numbers and the flags.
+ */
+package ms.solver;
@@ -2,7 +2,9 @@ package ms.view;
 
 import ms.commands.Command;
 import ms.commands.CommandParser;
+import ms.logic.DefaultMineFieldFactory;
 import ms.logic.Game;
+import ms.logic.MineFieldFactory;
 import ms.model.Difficulty;
 
 /**
@@ -12,6 +14,7 @@ import ms.model.Difficulty;
 public class CLIHandler {
     private final InputManager inputManager;
     private final DisplayManager displayManager;
+    private final MineFieldFactory mineFieldFactory;
     private Game game;
     private boolean shouldContinue = true;
 
@@ -24,6 +27,7 @@ public class CLIHandler {
     public CLIHandler(CommandParser parser, Game game) {
         this.inputManager = new InputManager(parser);
         this.displayManager = new DisplayManager();
+        this.mineFieldFactory = new DefaultMineFieldFactory();
         this.game = game;
     }
 
@@ -34,8 +38,20 @@ public class CLIHandler {
      * @param parser The CommandParser used to parse user input.
      */
     public CLIHandler(CommandParser parser) {
+        this(parser, new DefaultMineFieldFactory());
+    }
+
+    /**
+     * Constructs a CLIHandler with a specified CommandParser and the factory creating the mine fields
+     * of the games it starts. The Game instance will be initialized later based on user input.
+     *
+     * @param parser The CommandParser used to parse user input.
+     * @param mineFieldFactory The factory used to create mine fields.
+     */
+    public CLIHandler(CommandParser parser, MineFieldFactory mineFieldFactory) {
         this.inputManager = new InputManager(parser);
         this.displayManager = new DisplayManager();
+        this.mineFieldFactory = mineFieldFactory;
         this.game = null;
     }
 
@@ -75,7 +91,7 @@ public class CLIHandler {
 
         if (game == null) {
             Difficulty selectedDifficulty = inputManager.selectDifficulty();
-            this.game = new Game(selectedDifficulty);
+            this.game = new Game(selectedDifficulty, mineFieldFactory);
         }
 
         displayManager.displayGameStatus(game);
@@ -152,7 +168,7 @@ public class CLIHandler {
                 break;
             case "change":
                 Difficulty newDifficulty = inputManager.selectDifficulty();
-                this.game = new Game(newDifficulty);
+                this.game = new Game(newDifficulty, mineFieldFactory);
                 displayManager.displayNewGameWithDifficulty();
                 displayManager.displayGameStatus(game);
                 break;
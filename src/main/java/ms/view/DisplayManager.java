@@ -2,9 +2,7 @@ package ms.view;
 
 import ms.logic.Game;
 import ms.logic.status.GameStatus;
-import ms.model.Cell;
 import ms.model.MineField;
-import ms.model.Position;
 
 /**
  * Manages the display output for the Minesweeper game.
@@ -119,9 +117,11 @@ public class DisplayManager {
      */
     private void displayGameGrid(Game game) {
         MineField minefield = game.getMinefield();
+        byte[] adjacentMines = new byte[minefield.getWidth()];
         for (int r = 0; r < minefield.getHeight(); r++) {
             System.out.printf("%2d|", r);
-            displayGridRow(game, minefield, r);
+            minefield.countAdjacentMinesInRow(r, adjacentMines);
+            displayGridRow(game, minefield, r, adjacentMines);
             System.out.println();
         }
     }
@@ -132,11 +132,11 @@ public class DisplayManager {
      * @param game      The Game instance to display.
      * @param mineField The MineField instance to display.
      * @param row       The row number to display.
+     * @param adjacentMines The adjacent-mine counts of the row.
      */
-    private void displayGridRow(Game game, MineField mineField, int row) {
+    private void displayGridRow(Game game, MineField mineField, int row, byte[] adjacentMines) {
         for (int c = 0; c < mineField.getWidth(); c++) {
-            Position position = new Position(row, c);
-            String cellDisplay = getCellDisplayString(game, mineField, position);
+            String cellDisplay = getCellDisplayString(game, mineField, row, c, adjacentMines[c]);
             System.out.print(cellDisplay);
         }
     }
@@ -146,21 +146,21 @@ public class DisplayManager {
      *
      * @param game      The Game instance to display.
      * @param mineField The MineField instance to display.
-     * @param position  The Position of the cell to display.
+     * @param row       The row of the cell to display.
+     * @param col       The column of the cell to display.
+     * @param adjacentMines The number of mines adjacent to the cell.
      * @return The formatted string representing the cell.
      */
-    private String getCellDisplayString(Game game, MineField mineField, Position position) {
-        Cell cell = mineField.getCell(position);
-
-        if (cell.isRevealed()) {
-            return getRevealedCellDisplay(mineField, position, cell);
+    private String getCellDisplayString(Game game, MineField mineField, int row, int col, int adjacentMines) {
+        if (mineField.isRevealed(row, col)) {
+            return getRevealedCellDisplay(mineField, row, col, adjacentMines);
         }
 
-        if (cell.isFlagged()) {
+        if (mineField.isFlagged(row, col)) {
             return Messages.CELL_FLAGGED;
         }
 
-        if (shouldShowMine(game, cell)) {
+        if (shouldShowMine(game, mineField, row, col)) {
             return Messages.CELL_MINE_REVEALED;
         }
 
@@ -170,28 +170,30 @@ public class DisplayManager {
     /**
      * Checks if a mine should be shown (game over and cell is mined).
      *
-     * @param game The Game instance to check.
-     * @param cell The Cell to check.
+     * @param game      The Game instance to check.
+     * @param mineField The MineField instance to check.
+     * @param row       The row of the cell to check.
+     * @param col       The column of the cell to check.
      * @return True if the mine should be shown, false otherwise.
      */
-    private boolean shouldShowMine(Game game, Cell cell) {
-        return game.isGameOver() && cell.isMined() && !cell.isFlagged();
+    private boolean shouldShowMine(Game game, MineField mineField, int row, int col) {
+        return game.isGameOver() && mineField.isMined(row, col) && !mineField.isFlagged(row, col);
     }
 
     /**
      * Generates the display string for a revealed cell.
      *
      * @param mineField The MineField instance to display.
-     * @param position  The Position of the cell to display.
-     * @param cell      The Cell to display.
+     * @param row       The row of the cell to display.
+     * @param col       The column of the cell to display.
+     * @param adjacentMines The number of mines adjacent to the cell.
      * @return The formatted string representing the revealed cell.
      */
-    private String getRevealedCellDisplay(MineField mineField, Position position, Cell cell) {
-        if (cell.isMined()) {
+    private String getRevealedCellDisplay(MineField mineField, int row, int col, int adjacentMines) {
+        if (mineField.isMined(row, col)) {
             return Messages.CELL_MINE_EXPLODED;
         }
 
-        int adjacentMines = mineField.countAdjacentMines(position);
         return adjacentMines == 0 ? Messages.CELL_EMPTY : Messages.getNumberedCell(adjacentMines);
     }
 
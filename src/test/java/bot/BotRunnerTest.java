@@ -0,0 +1,85 @@
+package bot;
+
+import ms.bot.BotReport;
+import ms.bot.BotRunner;
+import ms.bot.Move;
+import ms.bot.StandardStrategy;
+import ms.logic.DefaultMineFieldFactory;
+import ms.model.Difficulty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BotRunnerTest {
+
+    @Test
+    void testRunIsIndependentOfThreadCount() {
+        BotReport single;
+        BotReport parallel;
+        try (BotRunner runner = new BotRunner(StandardStrategy.CONSTRAINT, new DefaultMineFieldFactory(), 1)) {
+            single = runner.run(Difficulty.EASY, 40, 24L);
+        }
+        try (BotRunner runner = new BotRunner(StandardStrategy.CONSTRAINT, new DefaultMineFieldFactory(), 3)) {
+            parallel = runner.run(Difficulty.EASY, 40, 24L);
+        }
+
+        assertEquals(single.wins(), parallel.wins());
+        assertEquals(single.moves(), parallel.moves());
+        assertEquals(single.revealLatency().getCount(), parallel.revealLatency().getCount());
+        assertEquals(single.flagLatency().getCount(), parallel.flagLatency().getCount());
+    }
+
+    @Test
+    void testProbabilityStrategyIsIndependentOfThreadCount() {
+        BotReport single;
+        BotReport parallel;
+        try (BotRunner runner = new BotRunner(StandardStrategy.PROBABILITY, new DefaultMineFieldFactory(), 1)) {
+            single = runner.run(Difficulty.MEDIUM, 20, 24L);
+        }
+        try (BotRunner runner = new BotRunner(StandardStrategy.PROBABILITY, new DefaultMineFieldFactory(), 3)) {
+            parallel = runner.run(Difficulty.MEDIUM, 20, 24L);
+        }
+
+        assertEquals(single.wins(), parallel.wins());
+        assertEquals(single.moves(), parallel.moves());
+    }
+
+    @Test
+    void testReportCountsEveryMove() {
+        try (BotRunner runner = new BotRunner(StandardStrategy.CONSTRAINT, new DefaultMineFieldFactory(), 2)) {
+            BotReport report = runner.run(Difficulty.EASY, 30, 7L);
+
+            assertEquals(30, report.games());
+            assertEquals(report.moves(), report.revealLatency().getCount() + report.flagLatency().getCount());
+            assertTrue(report.wins() > 0);
+            assertTrue(report.flagLatency().getCount() > 0);
+            assertTrue(report.gamesPerSecond() > 0);
+            assertTrue(report.movesPerSecond() > report.gamesPerSecond());
+        }
+    }
+
+    @Test
+    void testRandomStrategyNeverFlags() {
+        try (BotRunner runner = new BotRunner(StandardStrategy.RANDOM, new DefaultMineFieldFactory(), 1)) {
+            BotReport report = runner.run(Difficulty.MEDIUM, 10, 3L);
+
+            assertEquals(0, report.flagLatency().getCount());
+            assertEquals(report.moves(), report.revealLatency().getCount());
+        }
+    }
+
+    @Test
+    void testCustomStrategyIsPlayed() {
+        try (BotRunner runner = new BotRunner(random -> game -> Move.reveal(0), new DefaultMineFieldFactory(), 1)) {
+            BotReport report = runner.run(Difficulty.EASY, 5, 1L);
+
+            assertTrue(report.moves() >= 5);
+        }
+    }
+
+    @Test
+    void testStrategiesAreFoundByName() {
+        assertEquals(StandardStrategy.PROBABILITY, StandardStrategy.forName("probability"));
+        assertThrows(IllegalArgumentException.class, () -> StandardStrategy.forName("oracle"));
+    }
+}
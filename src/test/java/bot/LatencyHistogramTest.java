@@ -0,0 +1,59 @@
+package bot;
+
+import ms.bot.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000.5, histogram.getMean(), 1e-9);
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000, histogram.getPercentile(0.5), 50_000 / 16.0);
+        assertEquals(99_000, histogram.getPercentile(0.99), 99_000 / 16.0);
+        assertEquals(100_000, histogram.getPercentile(1));
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+
+        assertEquals(0, histogram.getPercentile(0.2));
+        assertEquals(3, histogram.getPercentile(0.5));
+        assertEquals(7, histogram.getPercentile(1));
+    }
+
+    @Test
+    void testMergeAddsCounts() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(1_000);
+        second.record(1_000_000);
+
+        first.merge(second);
+
+        assertEquals(2, first.getCount());
+        assertEquals(1_000_000, first.getMax());
+        assertEquals(1_000, first.getPercentile(0.5), 1_000 / 16.0);
+    }
+
+    @Test
+    void testEmptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getPercentile(0.99));
+        assertEquals(0, histogram.getMean());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(1.5));
+    }
+}
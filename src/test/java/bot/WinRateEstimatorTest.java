@@ -0,0 +1,105 @@
+package bot;
+
+import ms.bot.StandardStrategy;
+import ms.bot.WinRateEstimator;
+import ms.logic.DefaultMineFieldFactory;
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WinRateEstimatorTest {
+
+    private static final GridDimension DIMENSIONS = new GridDimension(8, 8);
+
+    private static WinRateEstimator createEstimator(ForkJoinPool pool) {
+        WinRateEstimator estimator = new WinRateEstimator(StandardStrategy.CONSTRAINT,
+                new DefaultMineFieldFactory(), pool);
+        estimator.setBatchSize(50);
+        return estimator;
+    }
+
+    @Test
+    void testSameSeedGivesSameEstimateOnAnyPool() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(3);
+        try {
+            WinRateEstimator first = createEstimator(single);
+            WinRateEstimator second = createEstimator(several);
+            first.setMaxGames(200);
+            second.setMaxGames(200);
+            first.setTargetHalfWidth(1e-6);
+            second.setTargetHalfWidth(1e-6);
+
+            WinRateEstimator.Estimate firstEstimate = first.estimate(DIMENSIONS, 10, 25L, estimate -> { });
+            WinRateEstimator.Estimate secondEstimate = second.estimate(DIMENSIONS, 10, 25L, estimate -> { });
+
+            assertEquals(200, firstEstimate.games());
+            assertEquals(firstEstimate.wins(), secondEstimate.wins());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    void testStopsOnceIntervalIsNarrowEnough() {
+        WinRateEstimator estimator = createEstimator(ForkJoinPool.commonPool());
+        estimator.setTargetHalfWidth(0.05);
+        List<WinRateEstimator.Estimate> estimates = new ArrayList<>();
+
+        WinRateEstimator.Estimate result = estimator.estimate(Difficulty.EASY, 3L, estimates::add);
+
+        assertTrue(result.done());
+        assertTrue(result.halfWidth() <= 0.05 + 1e-12);
+        assertSame(result, estimates.get(estimates.size() - 1));
+        for (int i = 0; i < estimates.size() - 1; i++) {
+            assertFalse(estimates.get(i).done());
+            assertTrue(estimates.get(i).halfWidth() > 0.05);
+            assertEquals(50L * (i + 1), estimates.get(i).games());
+        }
+    }
+
+    @Test
+    void testIntervalContainsObservedRate() {
+        WinRateEstimator estimator = createEstimator(ForkJoinPool.commonPool());
+        estimator.setMaxGames(100);
+
+        WinRateEstimator.Estimate result = estimator.estimate(DIMENSIONS, 10, 9L, estimate -> { });
+
+        assertEquals((double) result.wins() / result.games(), result.winRate(), 1e-12);
+        assertTrue(result.lower() <= result.winRate() && result.winRate() <= result.upper());
+        assertTrue(result.lower() >= 0 && result.upper() <= 1);
+        assertEquals(0.95, result.confidenceLevel());
+    }
+
+    @Test
+    void testCancelFromListenerStopsAfterBatch() {
+        WinRateEstimator estimator = createEstimator(ForkJoinPool.commonPool());
+        estimator.setTargetHalfWidth(1e-6);
+
+        WinRateEstimator.Estimate result = estimator.estimate(DIMENSIONS, 10, 1L, estimate -> {
+            if (estimate.games() >= 100) {
+                estimator.cancel();
+            }
+        });
+
+        assertEquals(150, result.games());
+        assertTrue(result.done());
+    }
+
+    @Test
+    void testRejectsInvalidSettings() {
+        WinRateEstimator estimator = createEstimator(ForkJoinPool.commonPool());
+
+        assertThrows(IllegalArgumentException.class, () -> estimator.setConfidenceLevel(1));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setTargetHalfWidth(0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMaxGames(0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setBatchSize(-1));
+    }
+}
@@ -0,0 +1,147 @@
+package logic;
+
+import ms.logic.BoardPool;
+import ms.logic.DefaultMineFieldFactory;
+import ms.logic.Game;
+import ms.logic.SharedBoardFactory;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.MineLayerCache;
+import ms.model.Position;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.ObjectCellStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardPoolTest {
+
+    private static final GridDimension DIMENSIONS = new GridDimension(16, 30);
+    private static final int MINES = 99;
+
+    private static int countMines(MineField mineField) {
+        int mines = 0;
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            if (mineField.isMined(i)) {
+                mines++;
+            }
+        }
+        return mines;
+    }
+
+    private static void awaitBoards(BoardPool pool, int boards) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (pool.available(DIMENSIONS, MINES) < boards && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testPregeneratedBoardKeepsSafeZoneFree() {
+        for (int seed = 0; seed < 50; seed++) {
+            MineField mineField = new DefaultMineFieldFactory(ObjectCellStorage::new, SafeZone.OPENING)
+                    .createMineField(DIMENSIONS, MINES, seed);
+            mineField.pregenerate();
+            assertTrue(mineField.isPregenerated());
+
+            Position firstClick = new Position(seed % 16, seed % 30);
+            mineField.initializeGrid(firstClick);
+
+            assertFalse(mineField.isPregenerated());
+            assertEquals(MINES, countMines(mineField));
+            assertEquals(0, mineField.countAdjacentMines(firstClick));
+            assertFalse(mineField.isMined(DIMENSIONS.toIndex(firstClick)));
+        }
+    }
+
+    @Test
+    void testPoolHandsOutPregeneratedBoards() throws InterruptedException {
+        try (BoardPool pool = new BoardPool(new DefaultMineFieldFactory(), 2)) {
+            pool.prepare(DIMENSIONS, MINES);
+            awaitBoards(pool, 2);
+
+            MineField mineField = pool.createMineField(DIMENSIONS, MINES);
+
+            assertTrue(mineField.isPregenerated());
+            assertEquals(1, pool.getHits());
+            assertEquals(0, pool.getMisses());
+        }
+    }
+
+    @Test
+    void testSeededBoardsBypassAFilledPool() throws InterruptedException {
+        DefaultMineFieldFactory factory = new DefaultMineFieldFactory();
+        try (BoardPool pool = new BoardPool(factory, 2)) {
+            pool.prepare(DIMENSIONS, MINES);
+            awaitBoards(pool, 2);
+
+            MineField pooled = pool.createMineField(DIMENSIONS, MINES, 42L);
+            MineField direct = factory.createMineField(DIMENSIONS, MINES, 42L);
+            pooled.initializeGrid(new Position(8, 15));
+            direct.initializeGrid(new Position(8, 15));
+
+            assertFalse(pooled.isPregenerated());
+            assertEquals(direct, pooled);
+            assertEquals(2, pool.available(DIMENSIONS, MINES));
+            assertEquals(0, pool.getHits());
+        }
+    }
+
+    @Test
+    void testEmptyPoolDoesNotWait() {
+        BoardPool pool = new BoardPool(new DefaultMineFieldFactory(), 1);
+        pool.close();
+
+        MineField mineField = pool.createMineField(DIMENSIONS, MINES);
+
+        assertFalse(mineField.isPregenerated());
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    void testGameOnPooledBoard() throws InterruptedException {
+        try (BoardPool pool = new BoardPool(new DefaultMineFieldFactory())) {
+            pool.prepare(DIMENSIONS, MINES);
+            awaitBoards(pool, 1);
+            Game game = new Game(DIMENSIONS, MINES, pool);
+
+            game.revealCell(8, 15);
+
+            assertTrue(game.getMinefield().isRevealed(8, 15));
+            assertEquals(MINES, countMines(game.getMinefield()));
+            assertEquals(1, pool.getHits());
+
+            awaitBoards(pool, 1);
+            game.resetGame();
+
+            assertTrue(game.getMinefield().isPregenerated());
+            assertEquals(2, pool.getHits());
+
+            game.revealCell(8, 15);
+
+            assertFalse(game.getMinefield().isPregenerated());
+            assertTrue(game.getMinefield().isRevealed(8, 15));
+            assertEquals(MINES, countMines(game.getMinefield()));
+            assertEquals(2, pool.getHits());
+            assertEquals(0, pool.getMisses());
+        }
+    }
+
+    @Test
+    void testSessionBackedBoardsAreNotPooled() {
+        SharedBoardFactory shared = new SharedBoardFactory(new MineLayerCache(),
+                new RandomSource(RandomSource.DEFAULT_ALGORITHM, 2026L));
+        try (BoardPool pool = new BoardPool(shared)) {
+            pool.prepare(DIMENSIONS, MINES);
+            Game game = new Game(DIMENSIONS, MINES, pool);
+
+            game.revealCell(8, 15);
+
+            assertTrue(game.getMinefield().isRevealed(8, 15));
+            assertEquals(MINES, countMines(game.getMinefield()));
+            assertEquals(0, pool.available(DIMENSIONS, MINES));
+            assertEquals(0, pool.getHits());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package logic;
+
+import ms.logic.operation.CascadeMode;
+import ms.logic.operation.CascadeStrategy;
+import ms.logic.operation.PaddedCascade;
+import ms.logic.operation.ParallelCascade;
+import ms.logic.operation.QueueCascade;
+import ms.logic.operation.TiledCascade;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.storage.CellLayout;
+import ms.model.storage.PackedCellStorage;
+import ms.model.storage.StandardStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CascadeModeTest {
+
+    private static final boolean[][] OPEN_BOARD_PATTERN = {
+            {false, false, false, false, false, false, false},
+            {false, false, false, false, false, true, false},
+            {false, false, true, false, false, false, false},
+            {false, false, false, false, false, false, false},
+            {true, false, false, false, false, false, false},
+            {false, false, false, false, true, false, false},
+            {false, false, false, false, false, false, false}
+    };
+
+    private static MineField createMineField(boolean[][] minePattern) {
+        return createMineField(minePattern, new MineField(new GridDimension(minePattern.length, minePattern[0].length), 0));
+    }
+
+    private static MineField createMineField(boolean[][] minePattern, MineField mineField) {
+        for (int row = 0; row < minePattern.length; row++) {
+            for (int col = 0; col < minePattern[row].length; col++) {
+                mineField.getCell(new Position(row, col)).setMined(minePattern[row][col]);
+            }
+        }
+        return mineField;
+    }
+
+    private static void assertSameRevealedCells(MineField expected, MineField actual) {
+        for (int row = 0; row < expected.getHeight(); row++) {
+            for (int col = 0; col < expected.getWidth(); col++) {
+                Position position = new Position(row, col);
+                assertEquals(expected.getCell(position).isRevealed(), actual.getCell(position).isRevealed(),
+                        "Cell " + position + " differs from the queue cascade");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(CascadeMode.class)
+    void testEveryModeRevealsTheSameCellsAsTheQueueCascade(CascadeMode mode) {
+        MineField expected = createMineField(OPEN_BOARD_PATTERN);
+        MineField actual = createMineField(OPEN_BOARD_PATTERN);
+        GridDimension dimensions = new GridDimension(7, 7);
+
+        int expectedCount = CascadeMode.QUEUE.create(expected, dimensions).reveal(new Position(0, 0));
+        int actualCount = mode.create(actual, dimensions).reveal(new Position(0, 0));
+
+        assertEquals(expectedCount, actualCount);
+        assertSameRevealedCells(expected, actual);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CascadeMode.class)
+    void testEveryModeStopsAtFlaggedCells(CascadeMode mode) {
+        MineField expected = createMineField(OPEN_BOARD_PATTERN);
+        MineField actual = createMineField(OPEN_BOARD_PATTERN);
+        GridDimension dimensions = new GridDimension(7, 7);
+        for (int row = 0; row < 7; row++) {
+            expected.getCell(new Position(row, 3)).toggleFlag();
+            actual.getCell(new Position(row, 3)).toggleFlag();
+        }
+
+        int expectedCount = CascadeMode.QUEUE.create(expected, dimensions).reveal(new Position(6, 6));
+        int actualCount = mode.create(actual, dimensions).reveal(new Position(6, 6));
+
+        assertEquals(expectedCount, actualCount);
+        assertSameRevealedCells(expected, actual);
+        assertFalse(actual.getCell(new Position(6, 0)).isRevealed());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CascadeMode.class)
+    void testEveryModeRevealsOnlyTheNumberedStartCell(CascadeMode mode) {
+        MineField mineField = createMineField(OPEN_BOARD_PATTERN);
+
+        int revealedCount = mode.create(mineField, new GridDimension(7, 7)).reveal(new Position(1, 1));
+
+        assertEquals(1, revealedCount);
+        assertTrue(mineField.getCell(new Position(1, 1)).isRevealed());
+        assertFalse(mineField.getCell(new Position(0, 0)).isRevealed());
+    }
+
+    @Test
+    void testParallelCascadeAboveThresholdMatchesQueueCascade() {
+        GridDimension dimensions = new GridDimension(300, 300);
+        boolean[][] minePattern = new boolean[300][300];
+        Random random = new Random(42);
+        for (int i = 0; i < 400; i++) {
+            minePattern[random.nextInt(300)][random.nextInt(300)] = true;
+        }
+        minePattern[150][150] = false;
+
+        MineField expected = createMineField(minePattern);
+        MineField actual = createMineField(minePattern);
+
+        int expectedCount = new QueueCascade(expected, dimensions).reveal(new Position(150, 150));
+        int actualCount = new ParallelCascade(actual, dimensions, ForkJoinPool.commonPool(), 0)
+                .reveal(new Position(150, 150));
+
+        assertEquals(expectedCount, actualCount);
+        assertSameRevealedCells(expected, actual);
+    }
+
+    @ParameterizedTest
+    @EnumSource(StandardStorage.class)
+    void testParallelCascadeMatchesQueueCascadeOnEveryStorage(StandardStorage storage) {
+        GridDimension dimensions = new GridDimension(300, 300);
+        boolean[][] minePattern = new boolean[300][300];
+        Random random = new Random(7);
+        for (int i = 0; i < 400; i++) {
+            minePattern[random.nextInt(300)][random.nextInt(300)] = true;
+        }
+        minePattern[150][150] = false;
+
+        MineField expected = createMineField(minePattern);
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try (MineField actual = createMineField(minePattern, new MineField(dimensions, 0, storage::createStorage))) {
+            int expectedCount = new QueueCascade(expected, dimensions).reveal(new Position(150, 150));
+            int actualCount = new ParallelCascade(actual, dimensions, pool, 0).reveal(new Position(150, 150));
+
+            assertEquals(expectedCount, actualCount);
+            assertSameRevealedCells(expected, actual);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testQueueModeUsesPaddedCascadeOnPaddedStorage() {
+        GridDimension dimensions = new GridDimension(7, 7);
+        MineField expected = createMineField(OPEN_BOARD_PATTERN);
+        MineField actual = createMineField(OPEN_BOARD_PATTERN,
+                new MineField(dimensions, 0, d -> new PackedCellStorage(d, CellLayout.PADDED)));
+
+        CascadeStrategy cascade = CascadeMode.QUEUE.create(actual, dimensions);
+        assertInstanceOf(PaddedCascade.class, cascade);
+
+        int expectedCount = new QueueCascade(expected, dimensions).reveal(new Position(6, 0));
+        int actualCount = cascade.reveal(new Position(6, 0));
+
+        assertEquals(expectedCount, actualCount);
+        assertSameRevealedCells(expected, actual);
+    }
+
+    @Test
+    void testQueueModeUsesTiledCascadeOnTiledStorage() {
+        GridDimension dimensions = new GridDimension(7, 7);
+        MineField expected = createMineField(OPEN_BOARD_PATTERN);
+        MineField actual = createMineField(OPEN_BOARD_PATTERN,
+                new MineField(dimensions, 0, d -> new PackedCellStorage(d, CellLayout.TILED)));
+
+        CascadeStrategy cascade = CascadeMode.QUEUE.create(actual, dimensions);
+        assertInstanceOf(TiledCascade.class, cascade);
+
+        int expectedCount = new QueueCascade(expected, dimensions).reveal(new Position(6, 0));
+        int actualCount = cascade.reveal(new Position(6, 0));
+
+        assertEquals(expectedCount, actualCount);
+        assertSameRevealedCells(expected, actual);
+    }
+}
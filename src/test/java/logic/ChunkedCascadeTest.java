@@ -0,0 +1,50 @@
+package logic;
+
+import ms.logic.operation.ChunkedCascade;
+import ms.logic.operation.QueueCascade;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.infinite.InfiniteMineField;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedCascadeTest {
+
+    private static final int SIZE = 512;
+    private static final int OFFSET = SIZE / 2;
+
+    @Test
+    void testCascadeAcrossChunksMatchesBoundedCascade() {
+        InfiniteMineField infinite = new InfiniteMineField(11, 500);
+        infinite.initialize(0, 0);
+
+        GridDimension dimensions = new GridDimension(SIZE, SIZE);
+        MineField bounded = new MineField(dimensions, 0);
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                bounded.getCell(row, col).setMined(infinite.isMined(row - OFFSET, col - OFFSET));
+            }
+        }
+
+        int infiniteCount = new ChunkedCascade(infinite).reveal(0, 0);
+        int boundedCount = new QueueCascade(bounded, dimensions).reveal(OFFSET, OFFSET);
+
+        assertTrue(infiniteCount > 1);
+        assertEquals(boundedCount, infiniteCount);
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                assertEquals(bounded.isRevealed(row, col), infinite.isRevealed(row - OFFSET, col - OFFSET));
+            }
+        }
+    }
+
+    @Test
+    void testCascadeStopsAtTheLimit() {
+        InfiniteMineField infinite = new InfiniteMineField(11, 0);
+
+        int revealed = new ChunkedCascade(infinite, 10_000).reveal(0, 0);
+
+        assertTrue(revealed >= 10_000 && revealed < 10_008);
+    }
+}
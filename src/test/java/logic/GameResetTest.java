@@ -1,9 +1,18 @@
 package logic;
 
+import ms.logic.DefaultMineFieldFactory;
 import ms.logic.Game;
 import ms.logic.MineFieldFactory;
+import ms.logic.SharedBoardFactory;
 import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.MineLayerCache;
 import ms.model.Position;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.CellLayout;
+import ms.model.storage.OffHeapCellStorage;
+import ms.model.storage.PackedCellStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -97,5 +106,112 @@ public class GameResetTest {
 
         assertTrue(LogicUtils.verifyInitialCellStates(game), "All cells should be in initial state after reset");
     }
-}
 
+    @Test
+    void testResetGameClosesPreviousOffHeapMinefield() {
+        game = new Game(DIMENSIONS, MINE_COUNT, new DefaultMineFieldFactory(OffHeapCellStorage::new));
+        game.revealCell(SAFE_POSITION);
+        MineField previous = game.getMinefield();
+
+        game.resetGame();
+
+        assertTrue(((OffHeapCellStorage) previous.getStorage()).isClosed());
+        assertNotSame(previous, game.getMinefield());
+    }
+
+    @Test
+    void testInPlaceResetReusesMinefield() {
+        game = new Game(DIMENSIONS, MINE_COUNT, new DefaultMineFieldFactory(PackedCellStorage::new));
+        game.setInPlaceReset(true);
+        game.revealCell(SAFE_POSITION);
+        MineField first = game.getMinefield();
+
+        game.resetGame();
+
+        assertSame(first, game.getMinefield());
+        assertTrue(LogicUtils.verifyInitialCellStates(game), "All cells should be in initial state after reset");
+        assertEquals(0, game.getElapsedTime());
+    }
+
+    @Test
+    void testInPlaceResetGeneratesNewBoardInSameStorage() {
+        GridDimension dimensions = new GridDimension(9, 9);
+        game = new Game(dimensions, 10,
+                new DefaultMineFieldFactory(d -> new PackedCellStorage(d, CellLayout.PADDED)));
+        game.setInPlaceReset(true);
+        game.revealCell(4, 4);
+        MineField first = game.getMinefield();
+
+        for (int round = 0; round < 20; round++) {
+            game.resetGame();
+            game.revealCell(4, 4);
+
+            int mines = 0;
+            for (int i = 0; i < dimensions.totalCells(); i++) {
+                if (game.getMinefield().isMined(i)) {
+                    mines++;
+                }
+            }
+            assertEquals(10, mines);
+            assertFalse(game.getMinefield().isMined(4, 4));
+            assertTrue(game.getMinefield().isRevealed(4, 4));
+        }
+        assertSame(first, game.getMinefield());
+    }
+
+    @Test
+    void testInPlaceResetKeepsTheSeedOfTheFactory() {
+        GridDimension dimensions = new GridDimension(9, 9);
+        RandomSource source = new RandomSource(RandomSource.DEFAULT_ALGORITHM, 2026L);
+        game = new Game(dimensions, 10, new DefaultMineFieldFactory(PackedCellStorage::new, SafeZone.OPENING, source));
+        game.setInPlaceReset(true);
+        game.revealCell(4, 4);
+        MineField first = game.getMinefield();
+        boolean[] mines = new boolean[dimensions.totalCells()];
+        for (int i = 0; i < mines.length; i++) {
+            mines[i] = first.isMined(i);
+        }
+
+        game.resetGame();
+        game.revealCell(4, 4);
+
+        assertSame(first, game.getMinefield());
+        for (int i = 0; i < mines.length; i++) {
+            assertEquals(mines[i], game.getMinefield().isMined(i));
+        }
+    }
+
+    @Test
+    void testInPlaceResetAsksSeededFactoriesForANewMinefield() {
+        GridDimension dimensions = new GridDimension(9, 9);
+        DefaultMineFieldFactory factory = new DefaultMineFieldFactory(PackedCellStorage::new);
+        game = new Game(dimensions, 10, (d, mines) -> factory.createMineField(d, mines, 7L));
+        game.setInPlaceReset(true);
+        game.revealCell(4, 4);
+        MineField first = game.getMinefield();
+
+        game.resetGame();
+        game.revealCell(4, 4);
+
+        assertNotSame(first, game.getMinefield());
+        assertEquals(first, game.getMinefield());
+    }
+
+    @Test
+    void testInPlaceResetOnSharedBoardReusesTheCachedLayer() {
+        MineLayerCache cache = new MineLayerCache();
+        game = new Game(new GridDimension(9, 9), 10,
+                new SharedBoardFactory(cache, new RandomSource(RandomSource.DEFAULT_ALGORITHM, 2026L)));
+        game.setInPlaceReset(true);
+        game.revealCell(4, 4);
+        MineField first = game.getMinefield();
+
+        for (int round = 0; round < 5; round++) {
+            game.resetGame();
+            game.revealCell(4, 4);
+        }
+
+        assertSame(first, game.getMinefield());
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,74 @@
+package logic;
+
+import ms.logic.DefaultMineFieldFactory;
+import ms.logic.Game;
+import ms.logic.status.GameStatus;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.storage.MappedCellStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameResumeTest {
+
+    private static final GridDimension DIMENSIONS = new GridDimension(9, 9);
+    private static final int MINE_COUNT = 10;
+
+    @TempDir
+    Path directory;
+
+    private static int firstMine(MineField mineField) {
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            if (mineField.isMined(i)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No mine on the board");
+    }
+
+    @Test
+    void testResumedGameRestoresBoardAndState() {
+        Path file = directory.resolve("game.msb");
+        Game game = new Game(DIMENSIONS, MINE_COUNT, new DefaultMineFieldFactory(MappedCellStorage.at(file)));
+        game.revealCell(4, 4);
+        game.flagCell(firstMine(game.getMinefield()));
+        MineField original = game.getMinefield();
+
+        Game resumed = Game.resume(file);
+
+        assertEquals(GameStatus.IN_PROGRESS, resumed.getGameStatus());
+        assertEquals(game.getRevealed(), resumed.getRevealed());
+        assertEquals(1, resumed.getFlagsPlaced());
+        assertEquals(MINE_COUNT - 1, resumed.getMinesLeft());
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            assertEquals(original.isMined(i), resumed.getMinefield().isMined(i));
+            assertEquals(original.isRevealed(i), resumed.getMinefield().isRevealed(i));
+            assertEquals(original.isFlagged(i), resumed.getMinefield().isFlagged(i));
+        }
+
+        original.close();
+        resumed.getMinefield().close();
+    }
+
+    @Test
+    void testResumedGameCanBeLost() {
+        Path file = directory.resolve("game.msb");
+        Game game = new Game(DIMENSIONS, MINE_COUNT, new DefaultMineFieldFactory(MappedCellStorage.at(file)));
+        game.revealCell(4, 4);
+        game.getMinefield().close();
+
+        Game resumed = Game.resume(file);
+        resumed.revealCell(firstMine(resumed.getMinefield()));
+
+        assertTrue(resumed.isGameOver());
+        resumed.getMinefield().close();
+
+        Game reopened = Game.resume(file);
+        assertEquals(GameStatus.LOST, reopened.getGameStatus());
+        reopened.getMinefield().close();
+    }
+}
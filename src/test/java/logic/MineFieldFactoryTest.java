@@ -0,0 +1,71 @@
+package logic;
+
+import ms.logic.DefaultMineFieldFactory;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.PackedCellStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MineFieldFactoryTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(16, 30);
+    private final int MINES = 99;
+    private final Position FIRST_CLICK = new Position(8, 15);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"L64X128MixRandom", "SplittableRandom", "Xoshiro256PlusPlus"})
+    void testSameSeedAndFirstClickYieldSameBoard(String algorithm) {
+        DefaultMineFieldFactory factory = new DefaultMineFieldFactory(
+                PackedCellStorage::new, SafeZone.OPENING, new RandomSource(algorithm, 2025));
+
+        MineField first = factory.createMineField(DIMENSIONS, MINES);
+        MineField second = factory.createMineField(DIMENSIONS, MINES);
+        first.initializeGrid(FIRST_CLICK);
+        second.initializeGrid(FIRST_CLICK);
+
+        assertEquals(first, second);
+        assertEquals(new RandomSource(algorithm, 2025), first.getRandomSource());
+    }
+
+    @Test
+    void testSeedOverloadReproducesBoard() {
+        DefaultMineFieldFactory factory = new DefaultMineFieldFactory(
+                PackedCellStorage::new, SafeZone.FIRST_CELL, "SplittableRandom");
+
+        MineField first = factory.createMineField(DIMENSIONS, MINES, 7L);
+        MineField second = factory.createMineField(DIMENSIONS, MINES, 7L);
+        MineField other = factory.createMineField(DIMENSIONS, MINES, 8L);
+        first.initializeGrid(FIRST_CLICK);
+        second.initializeGrid(FIRST_CLICK);
+        other.initializeGrid(FIRST_CLICK);
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void testRandomSourceOfUnseededBoardReproducesIt() {
+        MineField original = new DefaultMineFieldFactory().createMineField(DIMENSIONS, MINES);
+        original.initializeGrid(FIRST_CLICK);
+
+        MineField replay = new MineField(DIMENSIONS, MINES);
+        replay.setRandomSource(original.getRandomSource());
+        replay.initializeGrid(FIRST_CLICK);
+
+        assertEquals(original, replay);
+    }
+
+    @Test
+    void testUnknownAlgorithmIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RandomSource("NoSuchRandom", 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultMineFieldFactory(PackedCellStorage::new, SafeZone.FIRST_CELL, "NoSuchRandom"));
+    }
+}
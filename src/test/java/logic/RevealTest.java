@@ -2,6 +2,7 @@ package logic;
 
 import ms.logic.Game;
 import ms.logic.MineFieldFactory;
+import ms.logic.status.GameStatus;
 import ms.model.Difficulty;
 import ms.model.GridDimension;
 import ms.model.MineField;
@@ -139,4 +140,20 @@ public class RevealTest {
         assertEquals(revealedCountBefore, game.getRevealed(),
                 "Revealed count should not change when trying to reveal flagged cell");
     }
+
+    @Test
+    void testRevealOnLargeEmptyBoardRevealsEveryCellWithoutOverflowingTheStack() {
+
+        GridDimension dimensions = new GridDimension(1000, 1000);
+
+        when(mockMineFieldFactory.createMineField(dimensions, 0)).thenAnswer(invocation -> new MineField(dimensions, 0));
+
+        game = LogicUtils.createGameWithMockFactory(dimensions, 0, mockMineFieldFactory);
+        game.revealCell(new Position(500, 500));
+
+        assertEquals(dimensions.totalCells(), game.getRevealed());
+        assertTrue(game.getMinefield().getCell(new Position(0, 0)).isRevealed());
+        assertTrue(game.getMinefield().getCell(new Position(999, 999)).isRevealed());
+        assertEquals(GameStatus.WON, game.getGameStatus());
+    }
 }
@@ -0,0 +1,68 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineBitboard;
+import ms.model.MineField;
+import ms.model.storage.PackedCellStorage;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitSlicedAdjacencyTest {
+
+    private static final int HEIGHT = 5;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 63, 64, 65, 128, 130})
+    void testRowCountsMatchPerCellCounts(int width) {
+        GridDimension dimensions = new GridDimension(HEIGHT, width);
+        MineBitboard bitboard = new MineBitboard(dimensions);
+        MineField objectField = new MineField(dimensions, 0);
+        MineField packedField = new MineField(dimensions, 0, PackedCellStorage::new);
+
+        Random random = new Random(width);
+        for (int row = 0; row < HEIGHT; row++) {
+            for (int col = 0; col < width; col++) {
+                if (random.nextInt(3) == 0) {
+                    bitboard.setMined(row, col, true);
+                    objectField.getCell(row, col).setMined(true);
+                    packedField.getCell(row, col).setMined(true);
+                }
+            }
+        }
+
+        byte[] bitboardCounts = new byte[width];
+        byte[] objectCounts = new byte[width];
+        byte[] packedCounts = new byte[width];
+        for (int row = 0; row < HEIGHT; row++) {
+            bitboard.countAdjacentMines(row, bitboardCounts);
+            objectField.countAdjacentMinesInRow(row, objectCounts);
+            packedField.countAdjacentMinesInRow(row, packedCounts);
+
+            for (int col = 0; col < width; col++) {
+                int expected = objectField.countAdjacentMines(row, col);
+                assertEquals(expected, bitboardCounts[col]);
+                assertEquals(expected, objectCounts[col]);
+                assertEquals(expected, packedCounts[col]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 64, 65})
+    void testFullyMinedBoardCountsEightInTheInterior(int width) {
+        GridDimension dimensions = new GridDimension(3, width);
+        MineBitboard bitboard = new MineBitboard(dimensions);
+        bitboard.fillRows(0, 3);
+
+        byte[] counts = new byte[width];
+        bitboard.countAdjacentMines(1, counts);
+
+        assertEquals(5, counts[0]);
+        assertEquals(8, counts[1]);
+        assertEquals(5, counts[width - 1]);
+    }
+}
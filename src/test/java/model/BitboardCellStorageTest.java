@@ -0,0 +1,54 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.storage.BitboardCellStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitboardCellStorageTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(5, 70);
+
+    @Test
+    void testBitboardMinefieldMatchesObjectMinefield() {
+        MineField objectField = new MineField(DIMENSIONS, 0);
+        MineField bitboardField = new MineField(DIMENSIONS, 0, BitboardCellStorage::new);
+
+        Position[] mines = {new Position(0, 0), new Position(2, 63), new Position(2, 64), new Position(4, 69)};
+        for (Position mine : mines) {
+            objectField.getCell(mine).setMined(true);
+            bitboardField.getCell(mine).setMined(true);
+        }
+        objectField.getCell(new Position(0, 0)).setMined(false);
+        bitboardField.getCell(new Position(0, 0)).setMined(false);
+
+        assertEquals(objectField, bitboardField);
+        byte[] expected = new byte[DIMENSIONS.width()];
+        byte[] actual = new byte[DIMENSIONS.width()];
+        for (int row = 0; row < DIMENSIONS.height(); row++) {
+            objectField.countAdjacentMinesInRow(row, expected);
+            bitboardField.countAdjacentMinesInRow(row, actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testCellStateTransitions() {
+        BitboardCellStorage storage = new BitboardCellStorage(DIMENSIONS);
+        storage.setMined(130, true);
+
+        storage.toggleFlag(130);
+        assertTrue(storage.isFlagged(130));
+        storage.reveal(130);
+        assertFalse(storage.isRevealed(130));
+
+        storage.toggleFlag(130);
+        storage.reveal(130);
+        assertTrue(storage.isRevealed(130));
+        assertFalse(storage.isFlagged(130));
+        assertFalse(storage.isRevealed(131));
+    }
+}
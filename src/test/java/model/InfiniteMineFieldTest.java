@@ -0,0 +1,113 @@
+package model;
+
+import ms.model.infinite.InfiniteMineField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InfiniteMineFieldTest {
+
+    private static final long SEED = 2025;
+    private static final int MINES_PER_CHUNK = 600;
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void testSameSeedGivesSameField() {
+        InfiniteMineField first = new InfiniteMineField(SEED, MINES_PER_CHUNK);
+        InfiniteMineField second = new InfiniteMineField(SEED, MINES_PER_CHUNK);
+
+        for (int row = -200; row < 200; row += 7) {
+            for (int col = -200; col < 200; col += 3) {
+                assertEquals(first.isMined(row, col), second.isMined(row, col));
+            }
+        }
+    }
+
+    @Test
+    void testEveryChunkHoldsTheConfiguredMines() {
+        InfiniteMineField mineField = new InfiniteMineField(SEED, MINES_PER_CHUNK);
+
+        int mines = 0;
+        for (int row = -64; row < 0; row++) {
+            for (int col = 64; col < 128; col++) {
+                if (mineField.isMined(row, col)) {
+                    mines++;
+                }
+            }
+        }
+
+        assertEquals(MINES_PER_CHUNK, mines);
+    }
+
+    @Test
+    void testAdjacencyCrossesChunkBorders() {
+        InfiniteMineField mineField = new InfiniteMineField(SEED, MINES_PER_CHUNK);
+
+        for (int row = 60; row < 70; row++) {
+            for (int col = -3; col < 3; col++) {
+                int expected = 0;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        if ((dr != 0 || dc != 0) && mineField.isMined(row + dr, col + dc)) {
+                            expected++;
+                        }
+                    }
+                }
+                assertEquals(expected, mineField.countAdjacentMines(row, col));
+            }
+        }
+    }
+
+    @Test
+    void testFirstClickOpensAnEmptyCell() {
+        InfiniteMineField mineField = new InfiniteMineField(SEED, 3000);
+        mineField.initialize(63, 64);
+
+        assertFalse(mineField.isMined(63, 64));
+        assertEquals(0, mineField.countAdjacentMines(63, 64));
+        assertThrows(IllegalStateException.class, () -> mineField.initialize(0, 0));
+    }
+
+    @Test
+    void testEvictedChunksKeepTheirState() {
+        InfiniteMineField mineField = new InfiniteMineField(SEED, MINES_PER_CHUNK, 2, spillDirectory);
+        mineField.reveal(1, 1);
+        mineField.toggleFlag(2, 2);
+
+        for (int chunk = 1; chunk <= 4; chunk++) {
+            mineField.isMined(chunk * InfiniteMineField.CHUNK_SIZE, 0);
+        }
+
+        assertTrue(mineField.getEvictedChunks() > 0);
+        assertTrue(mineField.isRevealed(1, 1));
+        assertTrue(mineField.isFlagged(2, 2));
+        assertFalse(mineField.isRevealed(2, 2));
+        assertTrue(mineField.getResidentChunks() <= 2);
+    }
+
+    @Test
+    void testUnflaggedChunkDoesNotComeBackFromAnOldSpill() {
+        InfiniteMineField mineField = new InfiniteMineField(SEED, MINES_PER_CHUNK, 2, spillDirectory);
+        mineField.toggleFlag(2, 2);
+        evictOrigin(mineField);
+
+        assertTrue(mineField.isFlagged(2, 2));
+        mineField.toggleFlag(2, 2);
+        evictOrigin(mineField);
+
+        assertFalse(mineField.isFlagged(2, 2));
+    }
+
+    private static void evictOrigin(InfiniteMineField mineField) {
+        long evicted = mineField.getEvictedChunks();
+        for (int chunk = 1; chunk <= 4; chunk++) {
+            mineField.isMined(chunk * InfiniteMineField.CHUNK_SIZE, 0);
+        }
+        assertTrue(mineField.getEvictedChunks() > evicted);
+    }
+}
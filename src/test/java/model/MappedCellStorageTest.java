@@ -0,0 +1,64 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.storage.MappedCellStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedCellStorageTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(5, 7);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCellsAndHeaderSurviveReopening() {
+        Path file = directory.resolve("board.msb");
+        MappedCellStorage storage = MappedCellStorage.create(file, DIMENSIONS);
+        storage.setMined(8, true);
+        storage.toggleFlag(8);
+        storage.reveal(0);
+        storage.header().setMines(1);
+        storage.header().setRevealedCells(1);
+        storage.close();
+
+        MappedCellStorage reopened = MappedCellStorage.open(file);
+
+        assertEquals(DIMENSIONS, reopened.dimensions());
+        assertTrue(reopened.isMined(8));
+        assertTrue(reopened.isFlagged(8));
+        assertTrue(reopened.isRevealed(0));
+        assertEquals(1, reopened.countAdjacentMines(0));
+        assertEquals(1, reopened.header().getMines());
+        assertEquals(1, reopened.header().getRevealedCells());
+        reopened.close();
+    }
+
+    @Test
+    void testCreateReplacesExistingBoard() {
+        Path file = directory.resolve("board.msb");
+        MappedCellStorage first = MappedCellStorage.create(file, DIMENSIONS);
+        first.setMined(3, true);
+        first.close();
+
+        MappedCellStorage second = MappedCellStorage.create(file, DIMENSIONS);
+
+        assertFalse(second.isMined(3));
+        second.close();
+    }
+
+    @Test
+    void testOpenRejectsFilesThatAreNotBoards() throws IOException {
+        Path file = directory.resolve("notes.txt");
+        Files.write(file, new byte[100]);
+
+        assertThrows(IllegalArgumentException.class, () -> MappedCellStorage.open(file));
+    }
+}
@@ -0,0 +1,102 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.MineLayer;
+import ms.model.MineLayerCache;
+import ms.model.Position;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.SessionCellStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MineLayerCacheTest {
+
+    private static final GridDimension DIMENSIONS = new GridDimension(16, 30);
+    private static final RandomSource SOURCE = new RandomSource(RandomSource.DEFAULT_ALGORITHM, 2026L);
+    private static final Position FIRST_CLICK = new Position(5, 5);
+
+    private MineField createSessionField(MineLayerCache cache) {
+        MineField mineField = new MineField(DIMENSIONS, 99, SessionCellStorage::new);
+        mineField.setRandomSource(SOURCE);
+        mineField.setSafeZone(SafeZone.OPENING);
+        mineField.setMineLayerCache(cache);
+        return mineField;
+    }
+
+    @Test
+    void testSessionsOnTheSameBoardShareOneLayer() {
+        MineLayerCache cache = new MineLayerCache();
+        MineField first = createSessionField(cache);
+        MineField second = createSessionField(cache);
+
+        first.initializeGrid(FIRST_CLICK);
+        second.initializeGrid(FIRST_CLICK);
+
+        MineLayer firstLayer = ((SessionCellStorage) first.getStorage()).getLayer();
+        assertSame(firstLayer, ((SessionCellStorage) second.getStorage()).getLayer());
+        assertEquals(1, cache.size());
+        assertEquals(99, firstLayer.getMines());
+    }
+
+    @Test
+    void testSharedLayerMatchesPlacedMinefield() {
+        MineField shared = createSessionField(new MineLayerCache());
+        MineField placed = new MineField(DIMENSIONS, 99);
+        placed.setRandomSource(SOURCE);
+        placed.setSafeZone(SafeZone.OPENING);
+
+        shared.initializeGrid(FIRST_CLICK);
+        placed.initializeGrid(FIRST_CLICK);
+
+        assertEquals(placed, shared);
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            assertEquals(placed.countAdjacentMines(i), shared.countAdjacentMines(i));
+        }
+    }
+
+    @Test
+    void testSessionStateIsPrivate() {
+        MineLayerCache cache = new MineLayerCache();
+        MineField first = createSessionField(cache);
+        MineField second = createSessionField(cache);
+        first.initializeGrid(FIRST_CLICK);
+        second.initializeGrid(FIRST_CLICK);
+
+        first.reveal(DIMENSIONS.toIndex(FIRST_CLICK));
+        second.toggleFlag(0);
+
+        assertTrue(first.isRevealed(DIMENSIONS.toIndex(FIRST_CLICK)));
+        assertFalse(second.isRevealed(DIMENSIONS.toIndex(FIRST_CLICK)));
+        assertFalse(first.isFlagged(0));
+        assertThrows(UnsupportedOperationException.class, () -> first.getCell(0).setMined(true));
+    }
+
+    @Test
+    void testSessionFieldWithoutCacheFailsClearly() {
+        MineField mineField = createSessionField(null);
+
+        assertThrows(IllegalStateException.class, () -> mineField.initializeGrid(FIRST_CLICK));
+    }
+
+    @Test
+    void testSessionFieldCannotBePregenerated() {
+        MineField mineField = createSessionField(new MineLayerCache());
+
+        assertFalse(mineField.canPregenerate());
+        assertThrows(IllegalStateException.class, mineField::pregenerate);
+    }
+
+    @Test
+    void testLeastRecentlyUsedLayerIsEvicted() {
+        MineLayerCache cache = new MineLayerCache(2);
+
+        for (int col = 0; col < 3; col++) {
+            cache.get(new MineLayerCache.Key(DIMENSIONS, 99, SOURCE, SafeZone.FIRST_CELL, new Position(0, col)));
+        }
+
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,83 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.MinePlacer;
+import ms.model.Position;
+import ms.model.SafeZone;
+import ms.model.storage.ObjectCellStorage;
+import ms.model.storage.PackedCellStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MinePlacerTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(10, 10);
+
+    private static int countMines(PackedCellStorage storage) {
+        int count = 0;
+        for (int i = 0; i < storage.dimensions().totalCells(); i++) {
+            if (storage.isMined(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 30, 50, 70, 95})
+    void testPlacesExactMineCountOutsideExcludedCells(int mines) {
+        PackedCellStorage storage = new PackedCellStorage(DIMENSIONS);
+        int[] excluded = SafeZone.OPENING.excludedIndices(DIMENSIONS, new Position(4, 4));
+
+        MinePlacer.place(storage, mines, excluded, new Random(7));
+
+        assertEquals(mines, countMines(storage));
+        for (int index : excluded) {
+            assertFalse(storage.isMined(index));
+        }
+    }
+
+    @Test
+    void testRejectsMoreMinesThanFreeCells() {
+        ObjectCellStorage storage = new ObjectCellStorage(DIMENSIONS);
+        int[] excluded = SafeZone.OPENING.excludedIndices(DIMENSIONS, new Position(0, 0));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MinePlacer.place(storage, 97, excluded, new Random(7)));
+    }
+
+    @Test
+    void testOpeningSafeZoneIsClippedAtTheBorder() {
+        assertArrayEquals(new int[]{0, 1, 10, 11},
+                SafeZone.OPENING.excludedIndices(DIMENSIONS, new Position(0, 0)));
+        assertEquals(9, SafeZone.OPENING.excludedIndices(DIMENSIONS, new Position(5, 5)).length);
+    }
+
+    @Test
+    void testOpeningSafeZoneGivesAnEmptyFirstCell() {
+        MineField mineField = new MineField(DIMENSIONS, 60, PackedCellStorage::new);
+        mineField.setSafeZone(SafeZone.OPENING);
+
+        mineField.initializeGrid(new Position(5, 5));
+
+        assertEquals(0, mineField.countAdjacentMines(new Position(5, 5)));
+        assertFalse(mineField.isMined(5, 5));
+    }
+
+    @Test
+    void testOpeningSafeZoneFallsBackToFirstCellWhenBoardIsTooDense() {
+        MineField mineField = new MineField(DIMENSIONS, 99, PackedCellStorage::new);
+        mineField.setSafeZone(SafeZone.OPENING);
+
+        mineField.initializeGrid(new Position(5, 5));
+
+        assertFalse(mineField.isMined(5, 5));
+        assertEquals(8, mineField.countAdjacentMines(new Position(5, 5)));
+    }
+}
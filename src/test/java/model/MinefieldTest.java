@@ -98,4 +98,54 @@ public class MinefieldTest {
         assertThrows(IndexOutOfBoundsException.class, () -> minefield.countAdjacentMines(new Position(0, COLS)));
         assertThrows(IndexOutOfBoundsException.class, () -> minefield.countAdjacentMines(new Position(ROWS, COLS)));
     }
+
+    @Test
+    void testIndexConversionsRoundTripThroughRowAndColumn() {
+        GridDimension dimensions = new GridDimension(4, 7);
+
+        assertEquals(0, dimensions.toIndex(0, 0));
+        assertEquals(17, dimensions.toIndex(2, 3));
+        assertEquals(2, dimensions.rowOf(17));
+        assertEquals(3, dimensions.colOf(17));
+        assertEquals(new Position(2, 3), dimensions.toPosition(17));
+        assertTrue(dimensions.isValidIndex(27));
+        assertFalse(dimensions.isValidIndex(28));
+        assertThrows(IndexOutOfBoundsException.class, () -> dimensions.validateIndex(-1));
+    }
+
+    @Test
+    void testNeighboursMatchAdjacentPositionsInsideTheGrid() {
+        GridDimension dimensions = new GridDimension(3, 4);
+        int[] neighbours = new int[8];
+
+        assertEquals(3, dimensions.neighbours(dimensions.toIndex(0, 0), neighbours));
+        assertEquals(5, dimensions.neighbours(dimensions.toIndex(0, 1), neighbours));
+
+        int center = dimensions.toIndex(1, 1);
+        assertEquals(8, dimensions.neighbours(center, neighbours));
+        Position[] adjacent = Position.getAdjacentPositions(new Position(1, 1));
+        for (int i = 0; i < 8; i++) {
+            assertEquals(dimensions.toIndex(adjacent[i]), neighbours[i]);
+        }
+    }
+
+    @Test
+    void testIndexOverloadsAgreeWithPositionAccessors() {
+        minefield = new MineField(DIMENSIONS, 0);
+        minefield.getCell(new Position(2, 3)).setMined(true);
+        minefield.getCell(new Position(4, 4)).toggleFlag();
+
+        int index = DIMENSIONS.toIndex(3, 3);
+        minefield.reveal(index);
+
+        assertTrue(minefield.isMined(2, 3));
+        assertTrue(minefield.isMined(DIMENSIONS.toIndex(2, 3)));
+        assertTrue(minefield.isFlagged(4, 4));
+        assertTrue(minefield.getCell(new Position(3, 3)).isRevealed());
+        assertTrue(minefield.isRevealed(3, 3));
+        assertEquals(minefield.countAdjacentMines(new Position(3, 3)), minefield.countAdjacentMines(index));
+        assertEquals(1, minefield.countAdjacentMines(3, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> minefield.isMined(0, COLS));
+        assertThrows(IndexOutOfBoundsException.class, () -> minefield.isRevealed(ROWS * COLS));
+    }
 }
@@ -0,0 +1,57 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.storage.OffHeapCellStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapCellStorageTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(4, 4);
+
+    @Test
+    void testOffHeapMinefieldMatchesObjectMinefield() {
+        MineField objectField = new MineField(DIMENSIONS, 0);
+        MineField offHeapField = new MineField(DIMENSIONS, 0, OffHeapCellStorage::new);
+
+        Position[] mines = {new Position(0, 0), new Position(2, 2), new Position(3, 3), new Position(1, 3)};
+        for (Position mine : mines) {
+            objectField.getCell(mine).setMined(true);
+            offHeapField.getCell(mine).setMined(true);
+        }
+        objectField.getCell(new Position(2, 2)).setMined(false);
+        offHeapField.getCell(new Position(2, 2)).setMined(false);
+
+        assertEquals(objectField, offHeapField);
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            assertEquals(objectField.countAdjacentMines(i), offHeapField.countAdjacentMines(i));
+        }
+    }
+
+    @Test
+    void testCellStateIsWrittenOffHeap() {
+        OffHeapCellStorage storage = new OffHeapCellStorage(DIMENSIONS);
+
+        storage.toggleFlag(5);
+        assertTrue(storage.getCell(5).isFlagged());
+
+        storage.toggleFlag(5);
+        storage.getCell(5).reveal();
+        assertTrue(storage.isRevealed(5));
+        assertFalse(storage.isRevealed(6));
+    }
+
+    @Test
+    void testClosedStorageRejectsAccess() {
+        OffHeapCellStorage storage = new OffHeapCellStorage(DIMENSIONS);
+
+        storage.close();
+        storage.close();
+
+        assertTrue(storage.isClosed());
+        assertThrows(IllegalStateException.class, () -> storage.isMined(0));
+    }
+}
@@ -0,0 +1,182 @@
+package model;
+
+import ms.model.Cell;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.storage.CellLayout;
+import ms.model.storage.PackedCellStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedCellStorageTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(4, 4);
+
+    @Test
+    void testNewPackedCellIsHiddenAndNotMined() {
+        PackedCellStorage storage = new PackedCellStorage(DIMENSIONS);
+        Cell cell = storage.getCell(5);
+
+        assertFalse(cell.isMined());
+        assertFalse(cell.isRevealed());
+        assertFalse(cell.isFlagged());
+    }
+
+    @Test
+    void testCellViewWritesStateBackToStorage() {
+        PackedCellStorage storage = new PackedCellStorage(DIMENSIONS);
+
+        storage.getCell(5).toggleFlag();
+        assertTrue(storage.getCell(5).isFlagged());
+
+        storage.getCell(5).reveal();
+        assertFalse(storage.getCell(5).isRevealed());
+
+        storage.getCell(5).toggleFlag();
+        storage.getCell(5).reveal();
+        assertTrue(storage.getCell(5).isRevealed());
+        assertFalse(storage.getCell(5).isFlagged());
+    }
+
+    @Test
+    void testAdjacentCountsFollowMinePlacementAndRemoval() {
+        PackedCellStorage storage = new PackedCellStorage(DIMENSIONS);
+
+        storage.setMined(0, true);
+        storage.setMined(1, true);
+        storage.setMined(1, true);
+
+        assertEquals(1, storage.countAdjacentMines(0));
+        assertEquals(1, storage.countAdjacentMines(1));
+        assertEquals(2, storage.countAdjacentMines(4));
+        assertEquals(2, storage.countAdjacentMines(5));
+        assertEquals(1, storage.countAdjacentMines(6));
+        assertEquals(0, storage.countAdjacentMines(3));
+
+        storage.getCell(0).setMined(false);
+
+        assertEquals(1, storage.countAdjacentMines(4));
+        assertEquals(1, storage.countAdjacentMines(0));
+    }
+
+    @Test
+    void testPackedMinefieldMatchesObjectMinefield() {
+        MineField objectField = new MineField(DIMENSIONS, 0);
+        MineField packedField = new MineField(DIMENSIONS, 0, PackedCellStorage::new);
+
+        Position[] mines = {new Position(0, 0), new Position(2, 2), new Position(3, 3), new Position(1, 3)};
+        for (Position mine : mines) {
+            objectField.getCell(mine).setMined(true);
+            packedField.getCell(mine).setMined(true);
+        }
+
+        assertEquals(objectField, packedField);
+        for (int r = 0; r < DIMENSIONS.height(); r++) {
+            for (int c = 0; c < DIMENSIONS.width(); c++) {
+                Position position = new Position(r, c);
+                assertEquals(objectField.countAdjacentMines(position), packedField.countAdjacentMines(position));
+            }
+        }
+    }
+
+    @Test
+    void testPackedMinefieldInitializationPlacesAllMines() {
+        MineField packedField = new MineField(DIMENSIONS, 15, PackedCellStorage::new);
+        packedField.initializeGrid(new Position(1, 1));
+
+        int mineCount = 0;
+        for (int r = 0; r < DIMENSIONS.height(); r++) {
+            for (int c = 0; c < DIMENSIONS.width(); c++) {
+                if (packedField.getCell(new Position(r, c)).isMined()) {
+                    mineCount++;
+                }
+            }
+        }
+
+        assertEquals(15, mineCount);
+        assertFalse(packedField.getCell(new Position(1, 1)).isMined());
+        assertEquals(8, packedField.countAdjacentMines(new Position(1, 1)));
+    }
+
+    @Test
+    void testPaddedLayoutMatchesRowMajorLayout() {
+        PackedCellStorage rowMajor = new PackedCellStorage(DIMENSIONS);
+        PackedCellStorage padded = new PackedCellStorage(DIMENSIONS, CellLayout.PADDED);
+
+        int[] mines = {0, 3, 6, 12, 15};
+        for (int mine : mines) {
+            rowMajor.setMined(mine, true);
+            padded.setMined(mine, true);
+        }
+        padded.setMined(6, false);
+        rowMajor.setMined(6, false);
+
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            assertEquals(rowMajor.isMined(i), padded.isMined(i));
+            assertEquals(rowMajor.countAdjacentMines(i), padded.countAdjacentMines(i));
+            assertFalse(padded.isRevealed(i));
+        }
+    }
+
+    @Test
+    void testPaddedLayoutSentinelsAreNeverOpen() {
+        PackedCellStorage padded = new PackedCellStorage(DIMENSIONS, CellLayout.PADDED);
+        int[] offsets = padded.neighbourSlotOffsets();
+
+        for (int corner : new int[]{0, 3, 12, 15}) {
+            int slot = padded.slotOf(corner);
+            int openNeighbours = 0;
+            for (int offset : offsets) {
+                if (padded.isOpenAt(slot + offset)) {
+                    openNeighbours++;
+                }
+            }
+            assertEquals(3, openNeighbours);
+        }
+    }
+
+    @Test
+    void testTiledLayoutMatchesRowMajorLayout() {
+        GridDimension dimensions = new GridDimension(11, 19);
+        PackedCellStorage rowMajor = new PackedCellStorage(dimensions);
+        PackedCellStorage tiled = new PackedCellStorage(dimensions, CellLayout.TILED);
+
+        int[] mines = {0, 7, 8, 26, 64, 100, 151, 208};
+        for (int mine : mines) {
+            rowMajor.setMined(mine, true);
+            tiled.setMined(mine, true);
+        }
+        rowMajor.setMined(100, false);
+        tiled.setMined(100, false);
+
+        byte[] expected = new byte[dimensions.width()];
+        byte[] actual = new byte[dimensions.width()];
+        for (int row = 0; row < dimensions.height(); row++) {
+            rowMajor.countAdjacentMinesInRow(row, expected);
+            tiled.countAdjacentMinesInRow(row, actual);
+            assertArrayEquals(expected, actual);
+        }
+        for (int i = 0; i < dimensions.totalCells(); i++) {
+            assertEquals(rowMajor.isMined(i), tiled.isMined(i));
+            assertFalse(tiled.isRevealed(i));
+        }
+    }
+
+    @Test
+    void testTiledLayoutPaddingIsNeverOpen() {
+        PackedCellStorage tiled = new PackedCellStorage(DIMENSIONS, CellLayout.TILED);
+        int[] neighbours = new int[8];
+
+        int slot = tiled.slotOf(DIMENSIONS.totalCells() - 1);
+        int found = tiled.neighbourSlots(slot, neighbours);
+        int openNeighbours = 0;
+        for (int i = 0; i < found; i++) {
+            if (tiled.isOpenAt(neighbours[i])) {
+                openNeighbours++;
+            }
+        }
+        assertEquals(3, openNeighbours);
+    }
+}
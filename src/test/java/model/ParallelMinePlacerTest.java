@@ -0,0 +1,102 @@
+package model;
+
+import ms.model.GenerationReport;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.RandomSource;
+import ms.model.SafeZone;
+import ms.model.storage.CellStorageFactory;
+import ms.model.storage.PackedCellStorage;
+import ms.model.storage.StandardStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelMinePlacerTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(300, 1000);
+    private final Position FIRST_CLICK = new Position(150, 500);
+    private final RandomSource SOURCE = new RandomSource("L64X128MixRandom", 42);
+
+    private MineField generate(int mines, ForkJoinPool pool) {
+        return generate(mines, pool, PackedCellStorage::new);
+    }
+
+    private MineField generate(int mines, ForkJoinPool pool, CellStorageFactory storageFactory) {
+        MineField mineField = new MineField(DIMENSIONS, mines, storageFactory);
+        mineField.setSafeZone(SafeZone.OPENING);
+        mineField.setRandomSource(SOURCE);
+        mineField.setGenerationPool(pool);
+        mineField.initializeGrid(FIRST_CLICK);
+        return mineField;
+    }
+
+    @Test
+    void testBoardDoesNotDependOnThreadCount() {
+        MineField single = generate(60000, new ForkJoinPool(1));
+        MineField multiple = generate(60000, new ForkJoinPool(4));
+
+        assertEquals(single, multiple);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1000, 60000, 250000, 299991})
+    void testPlacesAllMinesWithCorrectCounts(int mines) {
+        MineField parallel = generate(mines, ForkJoinPool.commonPool());
+        MineField reference = new MineField(DIMENSIONS, 0);
+
+        int placed = 0;
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            if (parallel.isMined(i)) {
+                reference.getCell(i).setMined(true);
+                placed++;
+            }
+        }
+
+        assertEquals(mines, placed);
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            assertEquals(reference.countAdjacentMines(i), parallel.countAdjacentMines(i));
+        }
+        for (int excluded : SafeZone.OPENING.excludedIndices(DIMENSIONS, FIRST_CLICK)) {
+            assertFalse(parallel.isMined(excluded));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(StandardStorage.class)
+    void testPlacesAllMinesOnEveryStorage(StandardStorage storage) {
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try (MineField parallel = generate(20000, pool, storage::createStorage)) {
+            int placed = 0;
+            for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+                if (parallel.isMined(i)) {
+                    placed++;
+                }
+            }
+
+            assertEquals(20000, placed);
+            assertEquals(generate(20000, new ForkJoinPool(1)), parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testReportsPhaseTimings() {
+        MineField parallel = generate(60000, ForkJoinPool.commonPool());
+        GenerationReport report = parallel.getGenerationReport();
+
+        assertNotNull(report);
+        assertTrue(report.stripes() > 1);
+        assertEquals(report.partitionNanos() + report.placementNanos() + report.adjacencyNanos(), report.totalNanos());
+
+        MineField sequential = generate(60000, null);
+        assertNull(sequential.getGenerationReport());
+    }
+}
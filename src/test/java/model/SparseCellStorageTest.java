@@ -0,0 +1,63 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.storage.SparseCellStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseCellStorageTest {
+
+    private final GridDimension DIMENSIONS = new GridDimension(5, 6);
+
+    @Test
+    void testSparseMinefieldMatchesObjectMinefield() {
+        MineField objectField = new MineField(DIMENSIONS, 0);
+        MineField sparseField = new MineField(DIMENSIONS, 0, SparseCellStorage::new);
+
+        Position[] mines = {new Position(0, 0), new Position(2, 2), new Position(4, 5), new Position(1, 3)};
+        for (Position mine : mines) {
+            objectField.getCell(mine).setMined(true);
+            sparseField.getCell(mine).setMined(true);
+        }
+        objectField.getCell(new Position(2, 2)).setMined(false);
+        sparseField.getCell(new Position(2, 2)).setMined(false);
+
+        assertEquals(objectField, sparseField);
+        for (int i = 0; i < DIMENSIONS.totalCells(); i++) {
+            assertEquals(objectField.countAdjacentMines(i), sparseField.countAdjacentMines(i));
+        }
+    }
+
+    @Test
+    void testCellStateTransitions() {
+        SparseCellStorage storage = new SparseCellStorage(DIMENSIONS);
+        storage.setMined(7, true);
+
+        storage.toggleFlag(7);
+        assertTrue(storage.isFlagged(7));
+        storage.reveal(7);
+        assertFalse(storage.isRevealed(7));
+
+        storage.toggleFlag(7);
+        storage.reveal(7);
+        assertTrue(storage.isRevealed(7));
+        assertFalse(storage.isFlagged(7));
+        assertEquals(1, storage.getMineCount());
+    }
+
+    @Test
+    void testStateMemoryGrowsOnlyWithTouchedCells() {
+        SparseCellStorage storage = new SparseCellStorage(new GridDimension(100_000, 100_000));
+        assertEquals(0, storage.getStateMemoryUsage());
+
+        for (int i = 0; i < 10_000; i++) {
+            storage.reveal(5_000_000 + i);
+        }
+        assertTrue(storage.isRevealed(5_009_999));
+        assertFalse(storage.isRevealed(5_010_000));
+        assertTrue(storage.getStateMemoryUsage() < 64 * 1024);
+    }
+}
@@ -0,0 +1,57 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.storage.BitboardCellStorage;
+import ms.model.storage.StandardStorage;
+import ms.model.storage.StorageProvider;
+import ms.model.storage.StorageSelector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StorageSelectorTest {
+
+    private static final long BUDGET = 1L << 30;
+
+    private final StorageSelector selector = new StorageSelector(StorageSelector.loadProviders(), BUDGET, null);
+
+    @Test
+    void testSelectionFollowsSizeAndDensity() {
+        assertEquals(StandardStorage.OBJECT, selector.select(new GridDimension(16, 30), 99));
+        assertEquals(StandardStorage.PACKED, selector.select(new GridDimension(1000, 1000), 150_000));
+        assertEquals(StandardStorage.SPARSE, selector.select(new GridDimension(1000, 1000), 1000));
+    }
+
+    @Test
+    void testBitboardIsSelectedWhenBytesExceedBudget() {
+        GridDimension dimensions = new GridDimension(40_000, 40_000);
+
+        assertEquals(StandardStorage.BITBOARD, selector.select(dimensions, dimensions.totalCells() / 5));
+    }
+
+    @Test
+    void testPinnedBackendBypassesSelection() {
+        StorageSelector pinned = new StorageSelector(StorageSelector.loadProviders(), BUDGET, "bitboard");
+        MineField mineField = new MineField(new GridDimension(9, 9), 10, pinned);
+
+        assertInstanceOf(BitboardCellStorage.class, mineField.getStorage());
+    }
+
+    @Test
+    void testUnknownBackendIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StorageSelector(StorageSelector.loadProviders(), BUDGET, "abacus"));
+    }
+
+    @Test
+    void testServiceLoaderProvidersAreDiscovered() {
+        List<StorageProvider> providers = StorageSelector.loadProviders();
+
+        assertTrue(providers.stream().anyMatch(provider -> provider instanceof StubStorageProvider));
+        assertNotEquals("stub", selector.select(new GridDimension(9, 9), 10).getName());
+        assertEquals("stub", selector.forName("stub").getName());
+    }
+}
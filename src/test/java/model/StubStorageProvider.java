@@ -0,0 +1,38 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.storage.CellStorage;
+import ms.model.storage.ObjectCellStorage;
+import ms.model.storage.StorageProvider;
+
+/**
+ * A storage provider registered through {@code META-INF/services} to test discovery.
+ * It is never suitable, so it only takes part in selection when pinned.
+ */
+public class StubStorageProvider implements StorageProvider {
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public CellStorage createStorage(GridDimension dimensions) {
+        return new ObjectCellStorage(dimensions);
+    }
+
+    @Override
+    public long estimateBytes(GridDimension dimensions, int mines) {
+        return 0;
+    }
+
+    @Override
+    public boolean isSuitable(GridDimension dimensions, int mines) {
+        return false;
+    }
+
+    @Override
+    public int priority() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,66 @@
+package model;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.ZeroRegionIndex;
+import ms.model.storage.PackedCellStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZeroRegionIndexTest {
+
+    private static final GridDimension DIMENSIONS = new GridDimension(3, 5);
+
+    private static PackedCellStorage createWallStorage() {
+        PackedCellStorage storage = new PackedCellStorage(DIMENSIONS);
+        for (int row = 0; row < 3; row++) {
+            storage.setMined(row * 5 + 2, true);
+        }
+        return storage;
+    }
+
+    private static Set<Integer> cellsBetween(ZeroRegionIndex index, int from, int to) {
+        Set<Integer> cells = new HashSet<>();
+        for (int slot = from; slot < to; slot++) {
+            cells.add(index.cellAt(slot));
+        }
+        return cells;
+    }
+
+    @Test
+    void testWallOfMinesSplitsBoardIntoTwoRegions() {
+        ZeroRegionIndex index = ZeroRegionIndex.build(createWallStorage());
+
+        assertEquals(2, index.regionCount());
+        assertEquals(index.regionOf(0), index.regionOf(10));
+        assertNotEquals(index.regionOf(0), index.regionOf(4));
+        assertTrue(index.regionOf(1) < 0);
+        assertTrue(index.regionOf(2) < 0);
+    }
+
+    @Test
+    void testRegionListsEmptyCellsFollowedByNumberedBorder() {
+        ZeroRegionIndex index = ZeroRegionIndex.build(createWallStorage());
+        int left = index.regionOf(0);
+
+        assertEquals(Set.of(0, 5, 10), cellsBetween(index, index.regionStart(left), index.borderStart(left)));
+        assertEquals(Set.of(1, 6, 11), cellsBetween(index, index.borderStart(left), index.regionEnd(left)));
+    }
+
+    @Test
+    void testMinefieldBuildsIndexOnlyWhenEnabled() {
+        MineField plain = new MineField(DIMENSIONS, 2, PackedCellStorage::new);
+        plain.initializeGrid(new Position(1, 1));
+        assertFalse(plain.hasZeroRegionIndex());
+
+        MineField indexed = new MineField(DIMENSIONS, 2, PackedCellStorage::new);
+        indexed.setIndexZeroRegions(true);
+        indexed.initializeGrid(new Position(1, 1));
+        assertTrue(indexed.hasZeroRegionIndex());
+    }
+}
@@ -0,0 +1,129 @@
+package solver;
+
+import ms.logic.Game;
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.solver.ConstraintSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConstraintSolverTest {
+
+    private static MineField createMineField(int height, int width, int... mines) {
+        MineField mineField = new MineField(new GridDimension(height, width), mines.length);
+        for (int mine : mines) {
+            mineField.getStorage().setMined(mine, true);
+        }
+        return mineField;
+    }
+
+    @Test
+    void testSingleCellRuleFindsMine() {
+        MineField mineField = createMineField(1, 3, 0);
+        ConstraintSolver solver = new ConstraintSolver(mineField);
+
+        mineField.reveal(1);
+        solver.onReveal(1);
+        assertTrue(solver.isUnknown(0));
+        assertTrue(solver.isUnknown(2));
+
+        mineField.reveal(2);
+        solver.onReveal(2);
+        assertTrue(solver.isKnownMine(0));
+        assertEquals(1, solver.getKnownMineCount());
+        assertEquals(-1, solver.nextSafeCell());
+    }
+
+    @Test
+    void testSubsetRuleSolvesOneOneOnePattern() {
+        MineField mineField = createMineField(2, 3, 1);
+        for (int index = 3; index < 6; index++) {
+            mineField.reveal(index);
+        }
+        ConstraintSolver solver = new ConstraintSolver(mineField);
+
+        assertTrue(solver.isKnownSafe(0));
+        assertTrue(solver.isKnownSafe(2));
+        assertTrue(solver.isKnownMine(1));
+        assertEquals(2, solver.getKnownSafeCount());
+        assertEquals(0, solver.getConstraintCount());
+    }
+
+    @Test
+    void testRemovingFlagForgetsMine() {
+        MineField mineField = createMineField(3, 3, 0);
+        ConstraintSolver solver = new ConstraintSolver(mineField);
+
+        mineField.toggleFlag(8);
+        solver.onFlag(8);
+        assertTrue(solver.isKnownMine(8));
+
+        mineField.toggleFlag(8);
+        solver.onFlag(8);
+        assertTrue(solver.isUnknown(8));
+        assertEquals(0, solver.getKnownMineCount());
+    }
+
+    @Test
+    void testDeductionsAreNeverWrong() {
+        Random random = new Random(21);
+        for (int round = 0; round < 50; round++) {
+            Game game = new Game(Difficulty.HARD);
+            game.revealCell(8, 15);
+            MineField mineField = game.getMinefield();
+            ConstraintSolver solver = new ConstraintSolver(mineField);
+            int cells = mineField.getDimensions().totalCells();
+
+            while (!game.isGameOver()) {
+                for (int index = 0; index < cells; index++) {
+                    assertFalse(solver.isKnownMine(index) && !mineField.isMined(index));
+                    assertFalse(solver.isKnownSafe(index) && mineField.isMined(index));
+                }
+                int cell = solver.nextSafeCell();
+                while (cell < 0) {
+                    int guess = random.nextInt(cells);
+                    cell = solver.isUnknown(guess) ? guess : -1;
+                }
+                game.revealCell(cell);
+                solver.onReveal(cell);
+            }
+        }
+    }
+
+    @Test
+    void testIncrementalUpdateMatchesFullScan() {
+        Random random = new Random(7);
+        Game game = new Game(Difficulty.MEDIUM);
+        game.revealCell(8, 8);
+        MineField mineField = game.getMinefield();
+        ConstraintSolver incremental = new ConstraintSolver(mineField);
+        int cells = mineField.getDimensions().totalCells();
+
+        while (!game.isGameOver()) {
+            int cell = incremental.nextSafeCell();
+            while (cell < 0) {
+                int guess = random.nextInt(cells);
+                cell = incremental.isUnknown(guess) ? guess : -1;
+            }
+            game.revealCell(cell);
+            incremental.onReveal(cell);
+            if (game.isGameOver()) {
+                break;
+            }
+
+            ConstraintSolver rescanned = new ConstraintSolver(mineField);
+            for (int index = 0; index < cells; index++) {
+                if (rescanned.isKnownMine(index)) {
+                    assertTrue(incremental.isKnownMine(index));
+                }
+                if (rescanned.isKnownSafe(index)) {
+                    assertTrue(incremental.isKnownSafe(index));
+                }
+            }
+        }
+    }
+}
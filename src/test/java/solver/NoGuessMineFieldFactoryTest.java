@@ -0,0 +1,97 @@
+package solver;
+
+import ms.logic.Game;
+import ms.model.Difficulty;
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.model.Position;
+import ms.model.SafeZone;
+import ms.model.storage.ObjectCellStorage;
+import ms.solver.ConstraintSolver;
+import ms.solver.NoGuessMineFieldFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NoGuessMineFieldFactoryTest {
+
+    private static final GridDimension DIMENSIONS = new GridDimension(16, 16);
+    private static final Position FIRST_CLICK = new Position(4, 11);
+
+    @Test
+    void testBoardsAreSolvedWithoutGuessing() {
+        try (NoGuessMineFieldFactory factory = new NoGuessMineFieldFactory()) {
+            for (int round = 0; round < 20; round++) {
+                Game game = new Game(Difficulty.MEDIUM, factory);
+                game.revealCell(FIRST_CLICK);
+                ConstraintSolver solver = new ConstraintSolver(game.getMinefield());
+
+                while (!game.isGameOver()) {
+                    int cell = solver.nextSafeCell();
+                    if (cell < 0) {
+                        assertEquals(game.getTotalMines(), solver.getKnownMineCount());
+                        cell = firstUnknownCell(solver, DIMENSIONS.totalCells());
+                    }
+                    game.revealCell(cell);
+                    solver.onReveal(cell);
+                }
+                assertEquals(0, game.getTotalOfNonMineCells() - game.getRevealed());
+            }
+            assertEquals(20, factory.getStatistics().boards());
+        }
+    }
+
+    @Test
+    void testSeededBoardsAreReproducible() {
+        try (NoGuessMineFieldFactory factory = new NoGuessMineFieldFactory()) {
+            MineField first = factory.createMineField(DIMENSIONS, 40, 2026L);
+            MineField second = factory.createMineField(DIMENSIONS, 40, 2026L);
+
+            first.initializeGrid(FIRST_CLICK);
+            second.initializeGrid(FIRST_CLICK);
+
+            assertEquals(first, second);
+        }
+    }
+
+    @Test
+    void testStatisticsReportLatencies() {
+        try (NoGuessMineFieldFactory factory = new NoGuessMineFieldFactory()) {
+            for (int round = 0; round < 5; round++) {
+                factory.createMineField(DIMENSIONS, 40).initializeGrid(FIRST_CLICK);
+            }
+
+            NoGuessMineFieldFactory.Statistics statistics = factory.getStatistics();
+            assertEquals(5, statistics.boards());
+            assertTrue(statistics.attempts() >= 5);
+            assertTrue(statistics.medianNanos() > 0);
+            assertTrue(statistics.p99Nanos() >= statistics.medianNanos());
+            assertEquals(statistics.maxNanos(), statistics.p99Nanos());
+        }
+    }
+
+    @Test
+    void testGivesUpWhenEveryBoardNeedsAGuess() {
+        try (NoGuessMineFieldFactory factory =
+                     new NoGuessMineFieldFactory(ObjectCellStorage::new, SafeZone.FIRST_CELL, 2, 50)) {
+            MineField mineField = factory.createMineField(new GridDimension(2, 2), 1);
+
+            assertThrows(IllegalStateException.class, () -> mineField.initializeGrid(new Position(0, 0)));
+        }
+    }
+
+    @Test
+    void testRejectsNonPositiveThreads() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new NoGuessMineFieldFactory(ObjectCellStorage::new, SafeZone.OPENING, 0));
+    }
+
+    private static int firstUnknownCell(ConstraintSolver solver, int cells) {
+        for (int index = 0; index < cells; index++) {
+            if (solver.isUnknown(index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,170 @@
+package solver;
+
+import ms.model.GridDimension;
+import ms.model.MineField;
+import ms.solver.ConstraintSolver;
+import ms.solver.MineProbabilities;
+import ms.solver.ProbabilitySolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProbabilitySolverTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void testSingleNumberSplitsItsMineEvenly() {
+        MineField mineField = new MineField(new GridDimension(2, 2), 1);
+        mineField.getStorage().setMined(0, true);
+        mineField.reveal(3);
+
+        MineProbabilities probabilities = new ProbabilitySolver().solve(new ConstraintSolver(mineField), 1);
+
+        for (int index = 0; index < 3; index++) {
+            assertEquals(1.0 / 3, probabilities.getProbability(index), EPSILON);
+        }
+        assertEquals(0, probabilities.getProbability(3), EPSILON);
+        assertEquals(1, probabilities.getComponentCount());
+        assertTrue(probabilities.isExact());
+    }
+
+    @Test
+    void testMatchesBruteForceOnSmallBoards() {
+        Random random = new Random(22);
+        ProbabilitySolver solver = new ProbabilitySolver();
+        for (int round = 0; round < 100; round++) {
+            int height = 4 + random.nextInt(2);
+            int width = 4 + random.nextInt(2);
+            int mines = 3 + random.nextInt(4);
+            MineField mineField = createRandomMineField(random, height, width, mines);
+
+            MineProbabilities probabilities = solver.solve(new ConstraintSolver(mineField), mines);
+            double[] expected = bruteForce(mineField, mines);
+
+            assertTrue(probabilities.isExact());
+            for (int index = 0; index < expected.length; index++) {
+                if (!mineField.isRevealed(index)) {
+                    assertEquals(expected[index], probabilities.getProbability(index), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNodeBudgetMatchesBruteForceOnSmallBoards() {
+        Random random = new Random(23);
+        ProbabilitySolver solver = new ProbabilitySolver();
+        solver.setNodeBudget(ProbabilitySolver.DEFAULT_NODE_BUDGET);
+        for (int round = 0; round < 20; round++) {
+            int mines = 3 + random.nextInt(4);
+            MineField mineField = createRandomMineField(random, 5, 5, mines);
+
+            MineProbabilities probabilities = solver.solve(new ConstraintSolver(mineField), mines);
+            double[] expected = bruteForce(mineField, mines);
+
+            assertTrue(probabilities.isExact());
+            for (int index = 0; index < expected.length; index++) {
+                if (!mineField.isRevealed(index)) {
+                    assertEquals(expected[index], probabilities.getProbability(index), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testExhaustedNodeBudgetIsNotExact() {
+        MineField mineField = new MineField(new GridDimension(2, 2), 1);
+        mineField.getStorage().setMined(0, true);
+        mineField.reveal(3);
+        ProbabilitySolver solver = new ProbabilitySolver();
+        solver.setNodeBudget(1);
+
+        MineProbabilities probabilities = solver.solve(new ConstraintSolver(mineField), 1);
+
+        assertFalse(probabilities.isExact());
+        assertThrows(IllegalArgumentException.class, () -> solver.setNodeBudget(-1));
+    }
+
+    @Test
+    void testSafestCellAvoidsKnownMines() {
+        MineField mineField = new MineField(new GridDimension(1, 3), 1);
+        mineField.getStorage().setMined(0, true);
+        mineField.reveal(1);
+        mineField.reveal(2);
+
+        MineProbabilities probabilities = new ProbabilitySolver().solve(new ConstraintSolver(mineField), 1);
+
+        assertEquals(1, probabilities.getProbability(0), EPSILON);
+        assertEquals(-1, probabilities.safestCell());
+    }
+
+    @Test
+    void testRejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new ProbabilitySolver(ForkJoinPool.commonPool(), 0));
+    }
+
+    private static MineField createRandomMineField(Random random, int height, int width, int mines) {
+        MineField mineField = new MineField(new GridDimension(height, width), mines);
+        int cells = height * width;
+        List<Integer> order = new ArrayList<>();
+        for (int index = 0; index < cells; index++) {
+            order.add(index);
+        }
+        Collections.shuffle(order, random);
+        for (int i = 0; i < mines; i++) {
+            mineField.getStorage().setMined(order.get(i), true);
+        }
+        int reveals = 1 + random.nextInt(cells - mines - 1);
+        for (int i = mines; i < mines + reveals; i++) {
+            mineField.reveal(order.get(i));
+        }
+        return mineField;
+    }
+
+    private static double[] bruteForce(MineField mineField, int mines) {
+        int cells = mineField.getDimensions().totalCells();
+        int[] hidden = IntStream.range(0, cells).filter(i -> !mineField.isRevealed(i)).toArray();
+        double[] mined = new double[cells];
+        double arrangements = 0;
+        int[] neighbours = new int[8];
+        for (long mask = 0; mask < 1L << hidden.length; mask++) {
+            if (Long.bitCount(mask) != mines) {
+                continue;
+            }
+            boolean[] placed = new boolean[cells];
+            for (int i = 0; i < hidden.length; i++) {
+                placed[hidden[i]] = (mask >>> i & 1) != 0;
+            }
+            boolean consistent = true;
+            for (int index = 0; index < cells && consistent; index++) {
+                if (!mineField.isRevealed(index)) {
+                    continue;
+                }
+                int count = mineField.getDimensions().neighbours(index, neighbours);
+                int adjacent = 0;
+                for (int i = 0; i < count; i++) {
+                    adjacent += placed[neighbours[i]] ? 1 : 0;
+                }
+                consistent = adjacent == mineField.countAdjacentMines(index);
+            }
+            if (consistent) {
+                arrangements++;
+                for (int index = 0; index < cells; index++) {
+                    mined[index] += placed[index] ? 1 : 0;
+                }
+            }
+        }
+        for (int index = 0; index < cells; index++) {
+            mined[index] /= arrangements;
+        }
+        return mined;
+    }
+}